@@ -34,6 +34,7 @@ public class ApplicationConfiguration {
     private ErrorMessage sessionExpiredError;
     private int heartbeatInterval;
     private int maxMessageSuspendTimeout;
+    private int messageProcessingSlice;
 
     private boolean productionMode;
     private boolean requestTiming;
@@ -191,6 +192,30 @@ public class ApplicationConfiguration {
         this.maxMessageSuspendTimeout = maxMessageSuspendTimeout;
     }
 
+    /**
+     * Gets the maximum time spent on applying a message from the server before
+     * yielding to the browser.
+     *
+     * @return The maximum time, in milliseconds, to spend on applying a message
+     *         at once, or <code>0</code> to apply each message at once
+     */
+    public int getMessageProcessingSlice() {
+        return messageProcessingSlice;
+    }
+
+    /**
+     * Sets the maximum time spent on applying a message from the server before
+     * yielding to the browser.
+     *
+     * @param messageProcessingSlice
+     *            The maximum time, in milliseconds, to spend on applying a
+     *            message at once, or <code>0</code> to apply each message at
+     *            once
+     */
+    public void setMessageProcessingSlice(int messageProcessingSlice) {
+        this.messageProcessingSlice = messageProcessingSlice;
+    }
+
     /**
      * Gets the message used when a session expiration error occurs.
      *
@@ -223,6 +223,10 @@ public class ApplicationConnection {
             return pd;
         });
         }
+        client.setMessageTimingsEnabled = $entry(function(enabled) {
+            var mt = ap.@ApplicationConnection::registry.@com.vaadin.client.Registry::getMessageTimings()();
+            mt.@com.vaadin.client.communication.MessageTimings::setEnabled(Z)(!!enabled);
+        });
         client.resolveUri = $entry(function(uriToResolve) {
             var ur = ap.@ApplicationConnection::registry.@com.vaadin.client.Registry::getURIResolver()();
             return ur.@com.vaadin.client.URIResolver::resolveVaadinUri(Ljava/lang/String;)(uriToResolve);
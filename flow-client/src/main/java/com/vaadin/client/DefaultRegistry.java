@@ -22,6 +22,7 @@ import com.vaadin.client.communication.DefaultConnectionStateHandler;
 import com.vaadin.client.communication.Heartbeat;
 import com.vaadin.client.communication.MessageHandler;
 import com.vaadin.client.communication.MessageSender;
+import com.vaadin.client.communication.MessageTimings;
 import com.vaadin.client.communication.Poller;
 import com.vaadin.client.communication.PushConfiguration;
 import com.vaadin.client.communication.ReconnectConfiguration;
@@ -69,6 +70,8 @@ public class DefaultRegistry extends Registry {
         set(RequestResponseTracker.class, new RequestResponseTracker(this));
         set(MessageHandler.class, new MessageHandler(this));
         set(MessageSender.class, new MessageSender(this));
+        set(MessageTimings.class,
+                new MessageTimings(applicationConfiguration.isRequestTiming()));
         set(ServerRpcQueue.class, new ServerRpcQueue(this));
         set(ServerConnector.class, new ServerConnector(this));
         set(ExecuteJavaScriptProcessor.class,
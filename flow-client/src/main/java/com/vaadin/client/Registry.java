@@ -21,6 +21,7 @@ import com.vaadin.client.communication.ConnectionStateHandler;
 import com.vaadin.client.communication.Heartbeat;
 import com.vaadin.client.communication.MessageHandler;
 import com.vaadin.client.communication.MessageSender;
+import com.vaadin.client.communication.MessageTimings;
 import com.vaadin.client.communication.Poller;
 import com.vaadin.client.communication.PushConfiguration;
 import com.vaadin.client.communication.ReconnectConfiguration;
@@ -319,6 +320,15 @@ public class Registry {
         return get(Poller.class);
     }
 
+    /**
+     * Gets the {@link MessageTimings} singleton.
+     *
+     * @return the {@link MessageTimings} singleton
+     */
+    public MessageTimings getMessageTimings() {
+        return get(MessageTimings.class);
+    }
+
     /**
      * Deletes and recreates resettable instances of registry singletons.
      */
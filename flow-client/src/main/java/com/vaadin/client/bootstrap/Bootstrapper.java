@@ -150,6 +150,12 @@ public class Bootstrapper implements EntryPoint {
         conf.setMaxMessageSuspendTimeout(
                 jsoConfiguration.getConfigInteger("maxMessageSuspendTimeout"));
 
+        Integer messageProcessingSlice = jsoConfiguration
+                .getConfigInteger("messageProcessingSlice");
+        if (messageProcessingSlice != null) {
+            conf.setMessageProcessingSlice(messageProcessingSlice.intValue());
+        }
+
         conf.setServletVersion(jsoConfiguration.getVaadinVersion());
         conf.setAtmosphereVersion(jsoConfiguration.getAtmosphereVersion());
         conf.setAtmosphereJSVersion(jsoConfiguration.getAtmosphereJSVersion());
@@ -28,6 +28,7 @@ import com.vaadin.client.UILifecycle.UIState;
 import com.vaadin.client.ValueMap;
 import com.vaadin.client.WidgetUtil;
 import com.vaadin.client.communication.MessageSender.ResynchronizationState;
+import com.vaadin.client.communication.MessageTimings.Phase;
 import com.vaadin.client.flow.ConstantPool;
 import com.vaadin.client.flow.StateNode;
 import com.vaadin.client.flow.StateTree;
@@ -133,6 +134,14 @@ public class MessageHandler {
 
     private boolean initialMessageHandled;
 
+    private boolean messageProcessingInProgress;
+
+    /**
+     * The time it took to parse the most recently parsed message, or 0 if it
+     * has already been recorded.
+     */
+    private double lastParseTime;
+
     /**
      * Timer used to make sure that no misbehaving components can delay response
      * handling forever.
@@ -208,6 +217,7 @@ public class MessageHandler {
         }
 
         if (state == UIState.RUNNING) {
+            recordParseTime(json);
             handleJSON(json);
         } else {
             Console.warn(
@@ -215,6 +225,15 @@ public class MessageHandler {
         }
     }
 
+    private void recordParseTime(ValueMap json) {
+        double parseTime = lastParseTime;
+        lastParseTime = 0;
+        if (parseTime > 0) {
+            registry.getMessageTimings().add(getServerId(json), Phase.PARSE,
+                    parseTime);
+        }
+    }
+
     protected void handleJSON(final ValueMap valueMap) {
         final int serverId = getServerId(valueMap);
 
@@ -396,102 +415,219 @@ public class MessageHandler {
         assert getServerId(valueMap) == -1
                 || getServerId(valueMap) == lastSeenServerSyncId;
 
+        int slice = registry.getApplicationConfiguration()
+                .getMessageProcessingSlice();
+        if (slice > 0 && valueMap.containsKey("changes")) {
+            processMessageInSlices(valueMap, lock, start, slice);
+            return;
+        }
+
+        MessageTimings timings = registry.getMessageTimings();
+        int serverId = getServerId(valueMap);
         try {
             double processUidlStart = Duration.currentTimeMillis();
 
             JsonObject json = valueMap.cast();
 
-            if (json.hasKey("constants")) {
-                ConstantPool constantPool = registry.getConstantPool();
-                JsonObject constants = json.getObject("constants");
-                constantPool.importFromJson(constants);
-            }
+            importConstants(json);
 
             if (json.hasKey("changes")) {
                 processChanges(json);
             }
 
-            if (json.hasKey(JsonConstants.UIDL_KEY_EXECUTE)) {
-                // Invoke JS only after all tree changes have been
-                // propagated and after post flush listeners added during
-                // message processing (so add one more post flush listener which
-                // is called after all added post listeners).
-                Reactive.addPostFlushListener(
-                        () -> Reactive.addPostFlushListener(() -> registry
-                                .getExecuteJavaScriptProcessor()
-                                .execute(json.getArray(
-                                        JsonConstants.UIDL_KEY_EXECUTE))));
-            }
+            afterChanges(json, processUidlStart);
 
-            Console.log("handleUIDLMessage: "
-                    + (Duration.currentTimeMillis() - processUidlStart)
-                    + " ms");
+            double flushStart = Duration.currentTimeMillis();
+            timings.add(serverId, Phase.CHANGES, flushStart - processUidlStart);
 
             Reactive.flush();
 
-            ValueMap meta = valueMap.getValueMap("meta");
-
-            if (meta != null) {
-                Profiler.enter("Error handling");
-                final UIState uiState = registry.getUILifecycle().getState();
-                if (meta.containsKey(JsonConstants.META_SESSION_EXPIRED)) {
-                    if (nextResponseSessionExpiredHandler != null) {
-                        nextResponseSessionExpiredHandler.execute();
-                    } else if (uiState != UIState.TERMINATED) {
-                        registry.getSystemErrorHandler()
-                                .handleSessionExpiredError(null);
-                        registry.getUILifecycle().setState(UIState.TERMINATED);
-                    }
-                } else if (meta.containsKey("appError")
-                        && uiState != UIState.TERMINATED) {
-                    ValueMap error = meta.getValueMap("appError");
+            timings.add(serverId, Phase.FLUSH,
+                    Duration.currentTimeMillis() - flushStart);
+
+            afterFlush(valueMap, start);
+        } finally {
+            endMessageProcessing(valueMap, lock);
+        }
 
-                    registry.getSystemErrorHandler().handleUnrecoverableError(
-                            error.getString("caption"),
-                            error.getString("message"),
-                            error.getString("details"), error.getString("url"),
-                            error.getString("querySelector"));
+    }
 
-                    registry.getUILifecycle().setState(UIState.TERMINATED);
-                }
-                Profiler.leave("Error handling");
+    /**
+     * Processes a server message so that the resulting updates of the DOM are
+     * made in slices of at most the given duration, so that applying a large
+     * message does not block the browser for a long time.
+     * <p>
+     * The state tree changes are applied at once, so that nothing running
+     * between the slices, e.g. an event listener or another flush, ever sees a
+     * partially updated state tree. Anything that flushes between the slices
+     * applies all the remaining DOM updates right away, which is also done
+     * before a DOM event is handled, so that an event never sees a partially
+     * applied message either.
+     * <p>
+     * Response handling stays suspended until the whole message has been
+     * processed, and no messages are sent to the server in between, so that the
+     * server never sees the client in a state where only a part of a message
+     * has been applied.
+     */
+    private void processMessageInSlices(ValueMap valueMap, Object lock,
+            double start, int slice) {
+        MessageTimings timings = registry.getMessageTimings();
+        int serverId = getServerId(valueMap);
+        boolean started = false;
+        try {
+            double processUidlStart = Duration.currentTimeMillis();
+
+            JsonObject json = valueMap.cast();
+
+            importConstants(json);
+
+            processChanges(json);
+
+            afterChanges(json, processUidlStart);
+
+            timings.add(serverId, Phase.CHANGES,
+                    Duration.currentTimeMillis() - processUidlStart);
+            started = true;
+        } finally {
+            if (!started) {
+                endMessageProcessing(valueMap, lock);
             }
-            nextResponseSessionExpiredHandler = null;
-
-            lastProcessingTime = (int) (Duration.currentTimeMillis() - start);
-            totalProcessingTime += lastProcessingTime;
-            if (!initialMessageHandled) {
-                initialMessageHandled = true;
-
-                double fetchStart = getFetchStartTime();
-                if (fetchStart != 0) {
-                    int time = (int) (Duration.currentTimeMillis()
-                            - fetchStart);
-                    Console.log("First response processed " + time
-                            + " ms after fetchStart");
+        }
+
+        messageProcessingInProgress = true;
+        Scheduler.get().scheduleFixedDelay(() -> {
+            double flushStart = Duration.currentTimeMillis();
+            double deadline = flushStart + slice;
+            boolean finished = true;
+            try {
+                boolean flushed = Reactive.flush(() -> Boolean
+                        .valueOf(Duration.currentTimeMillis() >= deadline));
+                timings.add(serverId, Phase.FLUSH,
+                        Duration.currentTimeMillis() - flushStart);
+                if (!flushed) {
+                    finished = false;
+                    return true;
                 }
+                afterFlush(valueMap, start);
+                return false;
+            } finally {
+                if (finished) {
+                    messageProcessingInProgress = false;
+                    endMessageProcessing(valueMap, lock);
+                    if (!registry.getRequestResponseTracker().hasActiveRequest()
+                            && registry.getServerRpcQueue().isFlushPending()) {
+                        // Send anything that was postponed while processing
+                        registry.getMessageSender().sendInvocationsToServer();
+                    }
+                }
+            }
+        }, 0);
+    }
 
-                bootstrapTime = calculateBootstrapTime();
-                if (Profiler.isEnabled() && bootstrapTime != -1) {
-                    Profiler.logBootstrapTimings();
+    /**
+     * Checks whether a message from the server is being processed in slices,
+     * i.e. the changes of a message have been applied to the state tree, but a
+     * part of the resulting DOM updates will be made later.
+     *
+     * @return <code>true</code> if a message is being processed,
+     *         <code>false</code> otherwise
+     */
+    public boolean isMessageProcessingInProgress() {
+        return messageProcessingInProgress;
+    }
+
+    private void importConstants(JsonObject json) {
+        if (json.hasKey("constants")) {
+            ConstantPool constantPool = registry.getConstantPool();
+            JsonObject constants = json.getObject("constants");
+            constantPool.importFromJson(constants);
+        }
+    }
+
+    private void afterChanges(JsonObject json, double processUidlStart) {
+        if (json.hasKey(JsonConstants.UIDL_KEY_EXECUTE_EXPRESSIONS)) {
+            registry.getExecuteJavaScriptProcessor().importExpressions(
+                    json.getArray(JsonConstants.UIDL_KEY_EXECUTE_EXPRESSIONS));
+        }
+
+        if (json.hasKey(JsonConstants.UIDL_KEY_EXECUTE)) {
+            // Invoke JS only after all tree changes have been
+            // propagated and after post flush listeners added during
+            // message processing (so add one more post flush listener which
+            // is called after all added post listeners).
+            Reactive.addPostFlushListener(() -> Reactive.addPostFlushListener(
+                    () -> registry.getExecuteJavaScriptProcessor().execute(
+                            json.getArray(JsonConstants.UIDL_KEY_EXECUTE))));
+        }
+
+        Console.log("handleUIDLMessage: "
+                + (Duration.currentTimeMillis() - processUidlStart) + " ms");
+    }
+
+    private void afterFlush(ValueMap valueMap, double start) {
+        ValueMap meta = valueMap.getValueMap("meta");
+
+        if (meta != null) {
+            Profiler.enter("Error handling");
+            final UIState uiState = registry.getUILifecycle().getState();
+            if (meta.containsKey(JsonConstants.META_SESSION_EXPIRED)) {
+                if (nextResponseSessionExpiredHandler != null) {
+                    nextResponseSessionExpiredHandler.execute();
+                } else if (uiState != UIState.TERMINATED) {
+                    registry.getSystemErrorHandler()
+                            .handleSessionExpiredError(null);
+                    registry.getUILifecycle().setState(UIState.TERMINATED);
                 }
+            } else if (meta.containsKey("appError")
+                    && uiState != UIState.TERMINATED) {
+                ValueMap error = meta.getValueMap("appError");
+
+                registry.getSystemErrorHandler().handleUnrecoverableError(
+                        error.getString("caption"), error.getString("message"),
+                        error.getString("details"), error.getString("url"),
+                        error.getString("querySelector"));
+
+                registry.getUILifecycle().setState(UIState.TERMINATED);
             }
+            Profiler.leave("Error handling");
+        }
+        nextResponseSessionExpiredHandler = null;
 
-        } finally {
-            Console.log(" Processing time was "
-                    + String.valueOf(lastProcessingTime) + "ms");
+        double end = Duration.currentTimeMillis();
+        lastProcessingTime = (int) (end - start);
+        totalProcessingTime += lastProcessingTime;
+        registry.getMessageTimings().complete(getServerId(valueMap),
+                end - start);
+        if (!initialMessageHandled) {
+            initialMessageHandled = true;
 
-            endRequestIfResponse(valueMap);
-            resumeResponseHandling(lock);
+            double fetchStart = getFetchStartTime();
+            if (fetchStart != 0) {
+                int time = (int) (Duration.currentTimeMillis() - fetchStart);
+                Console.log("First response processed " + time
+                        + " ms after fetchStart");
+            }
 
-            if (Profiler.isEnabled()) {
-                Scheduler.get().scheduleDeferred(() -> {
-                    Profiler.logTimings();
-                    Profiler.reset();
-                });
+            bootstrapTime = calculateBootstrapTime();
+            if (Profiler.isEnabled() && bootstrapTime != -1) {
+                Profiler.logBootstrapTimings();
             }
         }
+    }
+
+    private void endMessageProcessing(ValueMap valueMap, Object lock) {
+        Console.log(" Processing time was " + String.valueOf(lastProcessingTime)
+                + "ms");
+
+        endRequestIfResponse(valueMap);
+        resumeResponseHandling(lock);
 
+        if (Profiler.isEnabled()) {
+            Scheduler.get().scheduleDeferred(() -> {
+                Profiler.logTimings();
+                Profiler.reset();
+            });
+        }
     }
 
     private void processChanges(JsonObject json) {
@@ -499,9 +635,14 @@ public class MessageHandler {
         JsSet<StateNode> updatedNodes = TreeChangeProcessor.processChanges(tree,
                 json.getArray("changes"));
 
+        afterTreeUpdate(updatedNodes);
+    }
+
+    private void afterTreeUpdate(JsSet<StateNode> updatedNodes) {
         if (!registry.getApplicationConfiguration().isProductionMode()) {
             try {
-                JsonObject debugJson = tree.getRootNode().getDebugJson();
+                JsonObject debugJson = registry.getStateTree().getRootNode()
+                        .getDebugJson();
                 Console.log("StateTree after applying changes:");
                 Console.log(debugJson);
             } catch (Exception e) {
@@ -578,6 +719,14 @@ public class MessageHandler {
     }
 
     private void forceMessageHandling() {
+        if (messageProcessingInProgress) {
+            // The current message is still being applied, handling another
+            // message before it has been completely applied would break
+            // the state tree
+            forceHandleMessage.schedule(registry.getApplicationConfiguration()
+                    .getMaxMessageSuspendTimeout());
+            return;
+        }
         if (!responseHandlingLocks.isEmpty()) {
             // Lock which was never release -> bug in locker or things just
             // too slow
@@ -816,6 +965,24 @@ public class MessageHandler {
         return parseJson(stripJSONWrapping(wrappedJsonText));
     }
 
+    /**
+     * Parse the given wrapped JSON, received from the server, to a ValueMap and
+     * record the time it took as the parse time of the next handled message.
+     *
+     * @param wrappedJsonText
+     *            the json, wrapped as done by the server
+     * @return a ValueMap, or null if the wrapping was incorrect or json could
+     *         not be parsed
+     */
+    public ValueMap parseWrappedMessage(String wrappedJsonText) {
+        final double start = Profiler.getRelativeTimeMillis();
+        ValueMap json = parseWrappedJson(wrappedJsonText);
+        if (json != null) {
+            lastParseTime = Profiler.getRelativeTimeMillis() - start;
+        }
+        return json;
+    }
+
     private static final native double getFetchStartTime()
     /*-{
         if ($wnd.performance && $wnd.performance.timing && $wnd.performance.timing.fetchStart) {
@@ -93,6 +93,10 @@ public class MessageSender {
                 || (push != null && !push.isActive())) {
             // There is an active request or push is enabled but not active
             // -> send when current request completes or push becomes active
+        } else if (registry.getMessageHandler()
+                .isMessageProcessingInProgress()) {
+            // A message from the server has only been partially applied
+            // -> send when the message has been completely applied
         } else {
             doSendInvocationsToServer();
         }
@@ -163,6 +167,11 @@ public class MessageSender {
                 registry.getMessageHandler().getLastSeenServerSyncId());
         payload.put(ApplicationConstants.CLIENT_TO_SERVER_ID,
                 clientToServerMessageId++);
+        MessageTimings timings = registry.getMessageTimings();
+        if (timings.hasReport()) {
+            payload.put(ApplicationConstants.CLIENT_TIMINGS,
+                    timings.createReport());
+        }
         if (extraJson != null) {
             for (String key : extraJson.keys()) {
                 JsonValue value = extraJson.get(key);
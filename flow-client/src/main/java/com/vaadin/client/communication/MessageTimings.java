@@ -0,0 +1,268 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.client.flow.collection.JsMap;
+import com.vaadin.flow.shared.ApplicationConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+/**
+ * Collects the time spent in the different phases of handling messages from the
+ * server and creates reports which are sent back to the server together with
+ * the next message to the server.
+ * <p>
+ * For each phase, the durations are aggregated into a histogram where bucket
+ * <code>0</code> counts durations below 1 ms and bucket <code>n</code> counts
+ * durations of at least <code>2^(n-1)</code> ms and below <code>2^n</code> ms.
+ * The last bucket counts all longer durations. In addition, the timings of the
+ * most recent messages are included in the report so that the server can
+ * correlate them with the time it spent building each message.
+ * <p>
+ * Collecting timings is disabled by default. It can be enabled at runtime using
+ * the <code>setMessageTimingsEnabled</code> method of the published client
+ * object.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class MessageTimings {
+
+    /**
+     * The phases of handling a message.
+     */
+    public enum Phase {
+        /**
+         * Parsing the JSON of the message.
+         */
+        PARSE("parse"),
+        /**
+         * Applying the state tree changes of the message.
+         */
+        CHANGES("changes"),
+        /**
+         * Flushing the reactive listeners, i.e. updating the DOM based on the
+         * changed state tree.
+         */
+        FLUSH("flush"),
+        /**
+         * Handling the whole message, including any waiting for dependencies
+         * and time slices.
+         */
+        TOTAL("total");
+
+        private final String key;
+
+        Phase(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Gets the key used for this phase in the report.
+         *
+         * @return the report key
+         */
+        public String getKey() {
+            return key;
+        }
+    }
+
+    /**
+     * The number of buckets in the histogram of each phase.
+     */
+    public static final int HISTOGRAM_BUCKETS = 12;
+
+    /**
+     * The maximum number of individual messages included in a report.
+     */
+    public static final int MAX_MESSAGES = 20;
+
+    private boolean enabled;
+
+    private JsMap<Integer, double[]> inProgress = JsCollections.map();
+
+    private int[][] histograms = new int[Phase
+            .values().length][HISTOGRAM_BUCKETS];
+
+    private JsonArray messages = Json.createArray();
+
+    private int messageCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param enabled
+     *            <code>true</code> to collect timings from the start,
+     *            <code>false</code> to collect only once enabled
+     */
+    public MessageTimings(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Enables or disables collecting timings. Disabling discards any collected
+     * timings which have not yet been sent to the server.
+     *
+     * @param enabled
+     *            <code>true</code> to collect timings, <code>false</code> to
+     *            not collect timings
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            inProgress = JsCollections.map();
+            reset();
+        }
+    }
+
+    /**
+     * Checks whether timings are collected.
+     *
+     * @return <code>true</code> if timings are collected, <code>false</code>
+     *         otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Adds time spent in the given phase for the message with the given server
+     * sync id. Time spent in the same phase in multiple steps is summed up.
+     *
+     * @param serverId
+     *            the server sync id of the message
+     * @param phase
+     *            the phase
+     * @param millis
+     *            the time spent, in milliseconds
+     */
+    public void add(int serverId, Phase phase, double millis) {
+        if (!enabled) {
+            return;
+        }
+        double[] timings = inProgress.get(Integer.valueOf(serverId));
+        if (timings == null) {
+            if (inProgress.size() >= MAX_MESSAGES) {
+                // Messages that were never handled, e.g. ignored duplicates
+                inProgress = JsCollections.map();
+            }
+            timings = new double[Phase.values().length];
+            inProgress.set(Integer.valueOf(serverId), timings);
+        }
+        timings[phase.ordinal()] += millis;
+    }
+
+    /**
+     * Marks the handling of the message with the given server sync id as
+     * completed and adds its timings to the report.
+     *
+     * @param serverId
+     *            the server sync id of the message
+     * @param totalMillis
+     *            the total time spent handling the message, in milliseconds
+     */
+    public void complete(int serverId, double totalMillis) {
+        if (!enabled) {
+            return;
+        }
+        add(serverId, Phase.TOTAL, totalMillis);
+        Integer key = Integer.valueOf(serverId);
+        double[] timings = inProgress.get(key);
+        inProgress.delete(key);
+
+        JsonArray message = Json.createArray();
+        message.set(0, serverId);
+        for (Phase phase : Phase.values()) {
+            double millis = timings[phase.ordinal()];
+            histograms[phase.ordinal()][getBucket(millis)]++;
+            message.set(phase.ordinal() + 1, Math.round(millis * 10) / 10d);
+        }
+        if (messages.length() == MAX_MESSAGES) {
+            messages.remove(0);
+        }
+        messages.set(messages.length(), message);
+        messageCount++;
+    }
+
+    /**
+     * Checks whether there are timings which have not yet been reported.
+     *
+     * @return <code>true</code> if there is something to report,
+     *         <code>false</code> otherwise
+     */
+    public boolean hasReport() {
+        return messageCount > 0;
+    }
+
+    /**
+     * Creates a report of the timings collected since the previous report and
+     * starts collecting a new report.
+     * <p>
+     * The report contains the histograms of each phase under the
+     * <code>histograms</code> key and the timings of the most recent messages
+     * as arrays of <code>[syncId, parse, changes, flush, total]</code> under
+     * the <code>messages</code> key.
+     *
+     * @return the report, or <code>null</code> if there is nothing to report
+     * @see ApplicationConstants#CLIENT_TIMINGS
+     */
+    public JsonObject createReport() {
+        if (!hasReport()) {
+            return null;
+        }
+        JsonObject histogramsJson = Json.createObject();
+        for (Phase phase : Phase.values()) {
+            JsonArray histogram = Json.createArray();
+            int[] buckets = histograms[phase.ordinal()];
+            for (int i = 0; i < buckets.length; i++) {
+                histogram.set(i, buckets[i]);
+            }
+            histogramsJson.put(phase.getKey(), histogram);
+        }
+
+        JsonObject report = Json.createObject();
+        report.put("histograms", histogramsJson);
+        report.put("messages", messages);
+        reset();
+        return report;
+    }
+
+    private void reset() {
+        histograms = new int[Phase.values().length][HISTOGRAM_BUCKETS];
+        messages = Json.createArray();
+        messageCount = 0;
+    }
+
+    /**
+     * Gets the histogram bucket for the given duration.
+     *
+     * @param millis
+     *            the duration in milliseconds
+     * @return the index of the bucket
+     */
+    static int getBucket(double millis) {
+        int bucket = 0;
+        double limit = 1;
+        while (millis >= limit && bucket < HISTOGRAM_BUCKETS - 1) {
+            bucket++;
+            limit *= 2;
+        }
+        return bucket;
+    }
+}
@@ -22,6 +22,7 @@ import com.vaadin.client.flow.binding.SimpleElementBindingStrategy;
 import com.vaadin.client.flow.collection.JsArray;
 import com.vaadin.client.flow.collection.JsCollections;
 import com.vaadin.client.flow.collection.JsMap;
+import com.vaadin.client.flow.collection.JsSet;
 import com.vaadin.client.flow.reactive.Reactive;
 import com.vaadin.client.flow.util.ClientJsonCodec;
 import com.vaadin.client.flow.util.NativeFunction;
@@ -31,6 +32,7 @@ import com.vaadin.flow.internal.nodefeature.NodeProperties;
 
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -44,6 +46,13 @@ public class ExecuteJavaScriptProcessor {
 
     private final Registry registry;
 
+    private final JsArray<String> expressions = JsCollections.array();
+
+    private final JsSet<String> pooledExpressions = JsCollections.set();
+
+    private final JsMap<String, NativeFunction> compiledFunctions = JsCollections
+            .map();
+
     /**
      * Creates a new processor with the given registry.
      *
@@ -67,6 +76,21 @@ public class ExecuteJavaScriptProcessor {
         }
     }
 
+    /**
+     * Imports expressions that following invocations may refer to by their
+     * index instead of containing the expression itself.
+     *
+     * @param newExpressions
+     *            a JSON array of expressions, in index order
+     */
+    public void importExpressions(JsonArray newExpressions) {
+        for (int i = 0; i < newExpressions.length(); i++) {
+            String expression = newExpressions.getString(i);
+            expressions.push(expression);
+            pooledExpressions.add(expression);
+        }
+    }
+
     private void handleInvocation(JsonArray invocation) {
         StateTree tree = registry.getStateTree();
 
@@ -100,12 +124,21 @@ public class ExecuteJavaScriptProcessor {
         }
 
         // Set the script source as the last parameter
-        String expression = invocation.getString(invocation.length() - 1);
+        String expression = getExpression(
+                invocation.get(invocation.length() - 1));
         parameterNamesAndCode[parameterNamesAndCode.length - 1] = expression;
 
         invoke(parameterNamesAndCode, parameters, map);
     }
 
+    private String getExpression(JsonValue script) {
+        if (script.getType() == JsonType.NUMBER) {
+            // Reference to an expression imported earlier
+            return expressions.get((int) script.asNumber());
+        }
+        return script.asString();
+    }
+
     private boolean isVirtualChildAwaitingInitialization(StateNode node) {
         if (node.getDomNode() != null
                 || node.getTree().getNode(node.getId()) == null) {
@@ -152,7 +185,7 @@ public class ExecuteJavaScriptProcessor {
         assert parameterNamesAndCode.length == parameters.length() + 1;
 
         try {
-            NativeFunction function = new NativeFunction(parameterNamesAndCode);
+            NativeFunction function = getFunction(parameterNamesAndCode);
 
             function.apply(getContextExecutionObject(nodeParameters, () -> {
                 if (!registry.getUILifecycle().isTerminated()) {
@@ -185,6 +218,21 @@ public class ExecuteJavaScriptProcessor {
         }
     }
 
+    private NativeFunction getFunction(String[] parameterNamesAndCode) {
+        String code = parameterNamesAndCode[parameterNamesAndCode.length - 1];
+        if (!pooledExpressions.has(code)) {
+            return new NativeFunction(parameterNamesAndCode);
+        }
+        // Pooled expressions are reused, so compile them only once
+        String key = parameterNamesAndCode.length + ":" + code;
+        NativeFunction function = compiledFunctions.get(key);
+        if (function == null) {
+            function = new NativeFunction(parameterNamesAndCode);
+            compiledFunctions.set(key, function);
+        }
+        return function;
+    }
+
     private boolean handleRemoveExistingNode(Integer removedId, int nodeId,
             JsonArray invocation) {
         if (removedId.intValue() == nodeId) {
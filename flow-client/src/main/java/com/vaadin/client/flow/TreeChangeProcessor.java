@@ -23,6 +23,7 @@ import com.vaadin.client.flow.nodefeature.MapProperty;
 import com.vaadin.client.flow.nodefeature.NodeList;
 import com.vaadin.client.flow.nodefeature.NodeMap;
 import com.vaadin.client.flow.util.ClientJsonCodec;
+import com.vaadin.client.flow.util.ClientJsonPatch;
 import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.JsonArray;
@@ -179,9 +180,16 @@ public class TreeChangeProcessor {
             child.setParent(node);
 
             property.setValue(child);
+        } else if (change.hasKey(JsonConstants.CHANGE_PUT_PATCH)) {
+            // Values are patched only after being sent in full, so the
+            // current value is always a JSON object or array
+            JsonValue value = ClientJsonPatch.apply(
+                    (JsonValue) property.getValue(),
+                    change.getArray(JsonConstants.CHANGE_PUT_PATCH));
+            property.setValue(value);
         } else {
             assert false
-                    : "Change should have either value or nodeValue property: "
+                    : "Change should have either value, nodeValue or patch property: "
                             + WidgetUtil.stringify(change);
         }
     }
@@ -1234,6 +1234,10 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
     private void handleDomEvent(Event event, BindingContext context) {
         assert context != null;
 
+        // Apply any DOM updates of a server message that is being processed
+        // in slices so that the event sees the whole message applied
+        Reactive.flush();
+
         Node element = context.htmlNode;
         StateNode node = context.node;
         assert element instanceof Element
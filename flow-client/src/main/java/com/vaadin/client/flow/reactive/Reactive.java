@@ -15,6 +15,8 @@
  */
 package com.vaadin.client.flow.reactive;
 
+import java.util.function.Supplier;
+
 import com.vaadin.client.Command;
 import com.vaadin.client.flow.collection.JsArray;
 import com.vaadin.client.flow.collection.JsCollections;
@@ -97,8 +99,28 @@ public class Reactive {
      * @see #addPostFlushListener(FlushListener)
      */
     public static void flush() {
+        flush(() -> Boolean.FALSE);
+    }
+
+    /**
+     * Flushes flush listeners and post flush listeners in the same way as
+     * {@link #flush()}, but stops after invoking a listener if the given
+     * condition tells to yield. The remaining listeners are invoked by the next
+     * flush.
+     * <p>
+     * This can be used for spreading the work caused by a large number of
+     * changes over multiple browser tasks.
+     *
+     * @param yieldCondition
+     *            the condition to check after each invoked listener, flushing
+     *            is stopped when it returns <code>true</code>
+     * @return <code>true</code> if there are no listeners left to invoke,
+     *         <code>false</code> if flushing was stopped before all listeners
+     *         were invoked
+     */
+    public static boolean flush(Supplier<Boolean> yieldCondition) {
         if (flushing) {
-            return;
+            return true;
         }
         try {
             flushing = true;
@@ -107,6 +129,9 @@ public class Reactive {
                 while (hasFlushListeners()) {
                     FlushListener oldestListener = flushListeners.remove(0);
                     oldestListener.flush();
+                    if (hasListeners() && yieldCondition.get()) {
+                        return false;
+                    }
                 }
 
                 // Purge one post flush listener, then look if there are new
@@ -115,13 +140,21 @@ public class Reactive {
                 if (hasPostFlushListeners()) {
                     FlushListener oldestListener = postFlushListeners.remove(0);
                     oldestListener.flush();
+                    if (hasListeners() && yieldCondition.get()) {
+                        return false;
+                    }
                 }
             }
+            return true;
         } finally {
             flushing = false;
         }
     }
 
+    private static boolean hasListeners() {
+        return hasFlushListeners() || hasPostFlushListeners();
+    }
+
     private static boolean hasPostFlushListeners() {
         return postFlushListeners != null && !postFlushListeners.isEmpty();
     }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.flow.util;
+
+import com.vaadin.client.flow.collection.JsCollections;
+import com.vaadin.client.flow.collection.JsSet;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
+/**
+ * Static helpers for applying the patches created on the server for JSON
+ * property values.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class ClientJsonPatch {
+    private ClientJsonPatch() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Applies a patch to a JSON object or array.
+     * <p>
+     * The given value is not modified. Instead, the objects and arrays which
+     * are changed by the patch are copied, so that the returned value shares
+     * all unchanged parts with the original value.
+     *
+     * @param value
+     *            the JSON object or array to apply the patch to, not
+     *            <code>null</code>
+     * @param patch
+     *            the patch operations created on the server, not
+     *            <code>null</code>
+     * @return a new value with the patch applied
+     */
+    public static JsonValue apply(JsonValue value, JsonArray patch) {
+        JsSet<JsonValue> copies = JsCollections.set();
+        JsonValue root = copy(value);
+        copies.add(root);
+
+        for (int i = 0; i < patch.length(); i++) {
+            JsonObject operation = patch.getObject(i);
+            JsonArray path = operation.getArray(JsonConstants.PATCH_PATH);
+
+            if (operation.hasKey(JsonConstants.PATCH_LENGTH)) {
+                JsonArray array = resolve(root, path, path.length(), copies);
+                int length = (int) operation
+                        .getNumber(JsonConstants.PATCH_LENGTH);
+                while (array.length() > length) {
+                    array.remove(array.length() - 1);
+                }
+                continue;
+            }
+
+            int last = path.length() - 1;
+            JsonValue parent = resolve(root, path, last, copies);
+            JsonValue key = path.get(last);
+            if (operation.hasKey(JsonConstants.PATCH_VALUE)) {
+                setChild(parent, key, operation.get(JsonConstants.PATCH_VALUE));
+            } else {
+                ((JsonObject) parent).remove(key.asString());
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Finds the container at the given depth of the path, copying all
+     * containers on the way which have not been copied yet.
+     */
+    private static <T extends JsonValue> T resolve(JsonValue root,
+            JsonArray path, int depth, JsSet<JsonValue> copies) {
+        JsonValue container = root;
+        for (int i = 0; i < depth; i++) {
+            JsonValue key = path.get(i);
+            JsonValue child = getChild(container, key);
+            if (!copies.has(child)) {
+                child = copy(child);
+                copies.add(child);
+                setChild(container, key, child);
+            }
+            container = child;
+        }
+        @SuppressWarnings("unchecked")
+        T result = (T) container;
+        return result;
+    }
+
+    private static JsonValue getChild(JsonValue container, JsonValue key) {
+        if (container.getType() == JsonType.ARRAY) {
+            return ((JsonArray) container).get((int) key.asNumber());
+        }
+        return ((JsonObject) container).get(key.asString());
+    }
+
+    private static void setChild(JsonValue container, JsonValue key,
+            JsonValue value) {
+        if (container.getType() == JsonType.ARRAY) {
+            ((JsonArray) container).set((int) key.asNumber(), value);
+        } else {
+            ((JsonObject) container).put(key.asString(), value);
+        }
+    }
+
+    private static JsonValue copy(JsonValue value) {
+        if (value.getType() == JsonType.ARRAY) {
+            JsonArray array = (JsonArray) value;
+            JsonArray copy = Json.createArray();
+            for (int i = 0; i < array.length(); i++) {
+                copy.set(i, array.<JsonValue> get(i));
+            }
+            return copy;
+        }
+        JsonObject object = (JsonObject) value;
+        JsonObject copy = Json.createObject();
+        for (String key : object.keys()) {
+            copy.put(key, object.<JsonValue> get(key));
+        }
+        return copy;
+    }
+}
@@ -20,17 +20,27 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.user.client.Timer;
 import com.vaadin.client.communication.MessageHandler;
 import com.vaadin.client.communication.MessageSender;
+import com.vaadin.client.communication.MessageTimings;
 import com.vaadin.client.communication.RequestResponseTracker;
+import com.vaadin.client.communication.ServerRpcQueue;
+import com.vaadin.client.flow.ConstantPool;
 import com.vaadin.client.flow.ExecuteJavaScriptProcessor;
+import com.vaadin.client.flow.StateNode;
 import com.vaadin.client.flow.StateTree;
+import com.vaadin.client.flow.binding.Binder;
+import com.vaadin.client.flow.reactive.Reactive;
+import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.Dependency;
 import com.vaadin.flow.shared.ui.LoadMode;
 
+import elemental.client.Browser;
+import elemental.dom.Element;
 import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
@@ -110,10 +120,18 @@ public class GwtMessageHandlerTest extends ClientEngineTestBase {
 
     private static class TestStateTree extends StateTree {
 
+        private List<JsonObject> collectedEventData = new ArrayList<>();
+
         public TestStateTree(Registry registry) {
             super(registry);
         }
 
+        @Override
+        public void sendEventToServer(StateNode node, String eventType,
+                JsonObject eventData) {
+            collectedEventData.add(eventData);
+        }
+
         @Override
         public void setUpdateInProgress(boolean updateInProgress) {
             getRegistry().get(EventsOrder.class).sources
@@ -189,10 +207,16 @@ public class GwtMessageHandlerTest extends ClientEngineTestBase {
                         new TestApplicationConfiguration());
                 set(EventsOrder.class, new EventsOrder());
                 set(MessageSender.class, new TestMessageSender(this));
+                set(MessageTimings.class, new MessageTimings(false));
                 set(SystemErrorHandler.class, new TestSystemErrorHandler(this));
                 set(ExecuteJavaScriptProcessor.class,
                         new TestExecuteJavaScriptProcessor(this));
                 set(UILifecycle.class, new TestUILifecycle());
+                set(ConstantPool.class, new ConstantPool());
+                set(ExistingElementMap.class, new ExistingElementMap());
+                set(InitialPropertiesHandler.class,
+                        new InitialPropertiesHandler(this));
+                set(ServerRpcQueue.class, new ServerRpcQueue(this));
             }
         };
         handler = new TestMessageHandler(registry);
@@ -407,10 +431,85 @@ public class GwtMessageHandlerTest extends ClientEngineTestBase {
         });
     }
 
+    public void testMessageProcessingSlice_domEventBetweenSlices_eventSeesWholeMessage() {
+        Reactive.reset();
+        registry.getApplicationConfiguration().setMessageProcessingSlice(1);
+
+        StateTree tree = registry.getStateTree();
+        StateNode root = tree.getRootNode();
+        Element element = Browser.getDocument().createElement("div");
+        Browser.getDocument().getBody().appendChild(element);
+        Binder.bind(root, element);
+
+        JsonObject expressions = Json.createObject();
+        expressions.put("element.title", false);
+        JsonObject constants = Json.createObject();
+        constants.put("expressionsKey", expressions);
+        registry.getConstantPool().importFromJson(constants);
+        root.getMap(NodeFeatures.ELEMENT_LISTENERS).getProperty("click")
+                .setValue("expressionsKey");
+        Reactive.flush();
+
+        // Runs first when the message is flushed, making the first slice end
+        // before the title has been updated. The timer scheduled from here
+        // runs before the next slice.
+        Reactive.addFlushListener(() -> {
+            double start = Duration.currentTimeMillis();
+            while (Duration.currentTimeMillis() - start < 5) {
+                // Make the slice run out of time
+            }
+            new Timer() {
+                @Override
+                public void run() {
+                    // The state tree changes have been applied at once,
+                    // while the DOM has not been updated yet
+                    assertTrue(handler.isMessageProcessingInProgress());
+                    assertEquals("foo",
+                            root.getMap(NodeFeatures.ELEMENT_PROPERTIES)
+                                    .getProperty("title").getValue());
+                    assertEquals("", element.getTitle());
+
+                    element.click();
+
+                    List<JsonObject> eventData = getStateTree()
+                            .collectedEventData;
+                    assertEquals(1, eventData.size());
+                    assertEquals("foo",
+                            eventData.get(0).getString("element.title"));
+                }
+            }.schedule(0);
+        });
+
+        JavaScriptObject object = JavaScriptObject.createObject();
+        JsonObject obj = object.cast();
+        JsonObject change = Json.createObject();
+        change.put(JsonConstants.CHANGE_NODE, root.getId());
+        change.put(JsonConstants.CHANGE_TYPE, JsonConstants.CHANGE_TYPE_PUT);
+        change.put(JsonConstants.CHANGE_FEATURE,
+                NodeFeatures.ELEMENT_PROPERTIES);
+        change.put(JsonConstants.CHANGE_MAP_KEY, "title");
+        change.put(JsonConstants.CHANGE_PUT_VALUE, "foo");
+        JsonArray changes = Json.createArray();
+        changes.set(0, change);
+        obj.put("changes", changes);
+
+        handler.handleJSON(object.cast());
+
+        doAssert(() -> {
+            assertFalse(handler.isMessageProcessingInProgress());
+            assertEquals("foo", element.getTitle());
+            assertEquals(1, getStateTree().collectedEventData.size());
+        });
+    }
+
     private TestResourceLoader getResourceLoader() {
         return (TestResourceLoader) registry.getResourceLoader();
     }
 
+    private TestStateTree getStateTree() {
+        return (TestStateTree) registry.getStateTree();
+    }
+
     private TestSystemErrorHandler getSystemErrorHandler() {
         return (TestSystemErrorHandler) registry.getSystemErrorHandler();
     }
@@ -54,6 +54,7 @@ public class GwtAtmoshperePushConnectionTest extends ClientEngineTestBase {
                 set(ApplicationConfiguration.class,
                         new ApplicationConfiguration());
                 set(MessageHandler.class, new MessageHandler(this));
+                set(MessageTimings.class, new MessageTimings(false));
                 set(PushConfiguration.class, new PushConfiguration(this) {
                     @Override
                     public JsMap<String, String> getParameters() {
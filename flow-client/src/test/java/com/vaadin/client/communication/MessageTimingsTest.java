@@ -0,0 +1,111 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.client.communication.MessageTimings.Phase;
+
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+public class MessageTimingsTest {
+
+    @Test
+    public void disabled_nothingCollected() {
+        MessageTimings timings = new MessageTimings(false);
+        timings.add(1, Phase.PARSE, 3);
+        timings.complete(1, 10);
+
+        Assert.assertFalse(timings.hasReport());
+        Assert.assertNull(timings.createReport());
+    }
+
+    @Test
+    public void completedMessage_reportContainsTimingsAndHistograms() {
+        MessageTimings timings = new MessageTimings(true);
+        timings.add(5, Phase.PARSE, 0.5);
+        timings.add(5, Phase.CHANGES, 2);
+        timings.add(5, Phase.CHANGES, 1);
+        timings.add(5, Phase.FLUSH, 20);
+        timings.complete(5, 30);
+
+        Assert.assertTrue(timings.hasReport());
+        JsonObject report = timings.createReport();
+
+        JsonArray messages = report.getArray("messages");
+        Assert.assertEquals(1, messages.length());
+        JsonArray message = messages.getArray(0);
+        Assert.assertEquals(5, message.getNumber(0), 0);
+        Assert.assertEquals(0.5, message.getNumber(1), 0);
+        Assert.assertEquals(3, message.getNumber(2), 0);
+        Assert.assertEquals(20, message.getNumber(3), 0);
+        Assert.assertEquals(30, message.getNumber(4), 0);
+
+        JsonObject histograms = report.getObject("histograms");
+        Assert.assertEquals(1, histograms.getArray("parse").getNumber(0), 0);
+        // 3 ms is in [2, 4)
+        Assert.assertEquals(1, histograms.getArray("changes").getNumber(2), 0);
+        // 20 ms is in [16, 32)
+        Assert.assertEquals(1, histograms.getArray("flush").getNumber(5), 0);
+        Assert.assertEquals(1, histograms.getArray("total").getNumber(5), 0);
+        Assert.assertEquals(MessageTimings.HISTOGRAM_BUCKETS,
+                histograms.getArray("total").length());
+
+        Assert.assertFalse("Report should reset the collected timings",
+                timings.hasReport());
+    }
+
+    @Test
+    public void manyMessages_onlyMostRecentIncluded() {
+        MessageTimings timings = new MessageTimings(true);
+        int count = MessageTimings.MAX_MESSAGES + 5;
+        for (int i = 0; i < count; i++) {
+            timings.complete(i, 1);
+        }
+
+        JsonObject report = timings.createReport();
+        JsonArray messages = report.getArray("messages");
+        Assert.assertEquals(MessageTimings.MAX_MESSAGES, messages.length());
+        Assert.assertEquals(5, messages.getArray(0).getNumber(0), 0);
+        Assert.assertEquals(count,
+                report.getObject("histograms").getArray("total").getNumber(1),
+                0);
+    }
+
+    @Test
+    public void setDisabled_collectedTimingsDiscarded() {
+        MessageTimings timings = new MessageTimings(true);
+        timings.complete(1, 1);
+
+        timings.setEnabled(false);
+
+        Assert.assertFalse(timings.hasReport());
+    }
+
+    @Test
+    public void getBucket_powersOfTwo() {
+        Assert.assertEquals(0, MessageTimings.getBucket(0));
+        Assert.assertEquals(0, MessageTimings.getBucket(0.99));
+        Assert.assertEquals(1, MessageTimings.getBucket(1));
+        Assert.assertEquals(2, MessageTimings.getBucket(2));
+        Assert.assertEquals(2, MessageTimings.getBucket(3.9));
+        Assert.assertEquals(11, MessageTimings.getBucket(1024));
+        Assert.assertEquals(MessageTimings.HISTOGRAM_BUCKETS - 1,
+                MessageTimings.getBucket(100000));
+    }
+}
@@ -132,6 +132,26 @@ public class ExecuteJavaScriptProcessorTest {
         Assert.assertEquals(0, processor.nodeParametersList.get(1).size());
     }
 
+    @Test
+    public void execute_pooledExpression_expressionResolvedFromPool() {
+        CollectingExecuteJavaScriptProcessor processor = new CollectingExecuteJavaScriptProcessor();
+
+        processor.importExpressions(JsonUtils.createArray(
+                Json.create("script1"), Json.create("script2")));
+
+        JsonArray invocation1 = JsonUtils.createArray(Json.create("param1"),
+                Json.create(1));
+        JsonArray invocation2 = JsonUtils.createArray(Json.create(0));
+        processor.execute(JsonUtils.createArray(invocation1, invocation2));
+
+        Assert.assertEquals(2, processor.parameterNamesAndCodeList.size());
+        Assert.assertArrayEquals(new String[] { "$0", "script2" },
+                processor.parameterNamesAndCodeList.get(0));
+        Assert.assertEquals("param1", processor.parametersList.get(0).get(0));
+        Assert.assertArrayEquals(new String[] { "script1" },
+                processor.parameterNamesAndCodeList.get(1));
+    }
+
     @Test
     public void execute_nodeParametersAreCorrectlyPassed() {
         Registry registry = new Registry() {
@@ -127,6 +127,25 @@ public class TreeChangeProcessorTest {
         Assert.assertEquals(tree.getRootNode(), node);
     }
 
+    @Test
+    public void testPutPatchChange() {
+        MapProperty property = tree.getRootNode().getMap(ns).getProperty(myKey);
+        JsonObject oldValue = Json.parse("{\"series\":[1,2,3]}");
+        property.setValue(oldValue);
+
+        JsonObject change = mapBaseChange(rootId, ns,
+                JsonConstants.CHANGE_TYPE_PUT, myKey);
+        change.put(JsonConstants.CHANGE_PUT_PATCH, JsonUtils
+                .createPatch(oldValue, Json.parse("{\"series\":[1,2,4]}")));
+
+        TreeChangeProcessor.processChange(tree, change);
+
+        JsonValue value = (JsonValue) property.getValue();
+        Assert.assertNotSame(oldValue, value);
+        Assert.assertEquals("{\"series\":[1,2,4]}", value.toJson());
+        Assert.assertEquals("{\"series\":[1,2,3]}", oldValue.toJson());
+    }
+
     @Test
     public void testPrimitiveSpliceChange() {
         JsonObject change = spliceChange(rootId, ns, 0, 0, Json.create("foo"),
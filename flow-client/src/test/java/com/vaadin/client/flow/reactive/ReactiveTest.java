@@ -62,6 +62,25 @@ public class ReactiveTest {
         Assert.assertEquals("Listener is not run again", 1, count.get());
     }
 
+    @Test
+    public void flushWithYieldCondition_remainingListenersInvokedByNextFlush() {
+        Reactive.addFlushListener(count::incrementAndGet);
+        Reactive.addFlushListener(count::incrementAndGet);
+        Reactive.addPostFlushListener(count::incrementAndGet);
+
+        Assert.assertFalse(Reactive.flush(() -> Boolean.TRUE));
+        Assert.assertEquals(1, count.get());
+
+        Assert.assertFalse(Reactive.flush(() -> Boolean.TRUE));
+        Assert.assertEquals(2, count.get());
+
+        Assert.assertTrue(Reactive.flush(() -> Boolean.TRUE));
+        Assert.assertEquals(3, count.get());
+
+        Assert.assertTrue(Reactive.flush(() -> Boolean.TRUE));
+        Assert.assertEquals(3, count.get());
+    }
+
     @Test
     public void testCollectEvents() {
         TestReactiveEventRouter router = new TestReactiveEventRouter();
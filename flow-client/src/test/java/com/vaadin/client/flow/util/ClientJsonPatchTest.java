@@ -0,0 +1,75 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.flow.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.internal.JsonUtils;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+public class ClientJsonPatchTest {
+
+    @Test
+    public void apply_serverPatch_valueUpdated() {
+        assertPatchApplied("{\"a\":1,\"b\":{\"c\":[1,2,3]},\"d\":\"x\"}",
+                "{\"a\":1,\"b\":{\"c\":[1,5,3,4]},\"e\":null}");
+        assertPatchApplied("{\"a\":[[1,2],[3,4],[5]]}",
+                "{\"a\":[[1,2],[3,6]]}");
+        assertPatchApplied("{\"a\":[1]}", "{\"a\":{\"0\":1},\"b\":[]}");
+    }
+
+    @Test
+    public void apply_rootArray_valueUpdated() {
+        JsonArray from = Json.instance().parse("[1,{\"a\":2},3,4]");
+        JsonArray to = Json.instance().parse("[1,{\"a\":3}]");
+
+        JsonValue result = ClientJsonPatch.apply(from,
+                JsonUtils.createPatch(from, to));
+
+        Assert.assertEquals(to.toJson(), result.toJson());
+        Assert.assertEquals("[1,{\"a\":2},3,4]", from.toJson());
+    }
+
+    @Test
+    public void apply_unchangedParts_shared() {
+        JsonObject from = Json.parse("{\"a\":{\"b\":1},\"c\":{\"d\":2}}");
+        JsonObject to = Json.parse("{\"a\":{\"b\":1},\"c\":{\"d\":3}}");
+
+        JsonObject result = (JsonObject) ClientJsonPatch.apply(from,
+                JsonUtils.createPatch(from, to));
+
+        Assert.assertSame(from.get("a"), result.get("a"));
+        Assert.assertNotSame(from.get("c"), result.get("c"));
+        Assert.assertEquals(2, from.getObject("c").getNumber("d"), 0);
+        Assert.assertEquals(3, result.getObject("c").getNumber("d"), 0);
+    }
+
+    private static void assertPatchApplied(String from, String to) {
+        JsonObject fromJson = Json.parse(from);
+        JsonObject toJson = Json.parse(to);
+
+        JsonValue result = ClientJsonPatch.apply(fromJson,
+                JsonUtils.createPatch(fromJson, toJson));
+
+        Assert.assertEquals(to, result.toJson());
+        Assert.assertEquals(from, fromJson.toJson());
+    }
+}
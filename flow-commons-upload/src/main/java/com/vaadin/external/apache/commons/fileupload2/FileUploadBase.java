@@ -158,6 +158,11 @@ public abstract class FileUploadBase {
      */
     private long fileCountMax = -1;
 
+    /**
+     * The size of the buffer used for parsing the multipart stream.
+     */
+    private int bufferSize = MultipartStream.DEFAULT_BUFSIZE;
+
     /**
      * The content encoding to use when reading part headers.
      */
@@ -256,6 +261,32 @@ public abstract class FileUploadBase {
         this.fileCountMax = fileCountMax;
     }
 
+    /**
+     * Returns the size of the buffer used for parsing the multipart stream.
+     *
+     * @return The buffer size, in bytes.
+     *
+     * @see #setBufferSize(int)
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the size of the buffer used for parsing the multipart stream. A
+     * larger buffer reduces the number of reads from the request and the number
+     * of boundary scans for large uploads.
+     *
+     * @param bufferSize
+     *            The buffer size, in bytes. Must be large enough to hold the
+     *            multipart boundary.
+     *
+     * @see #getBufferSize()
+     */
+    public void setBufferSize(final int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
     /**
      * Retrieves the character encoding used when reading the headers of an
      * individual part. When not specified, or {@code null}, the request
@@ -210,7 +210,7 @@ public class FileItemIteratorImpl implements FileItemIterator {
                 fileUploadBase.getProgressListener(), requestSize);
         try {
             multiPartStream = new MultipartStream(input, multiPartBoundary,
-                    progressNotifier);
+                    fileUploadBase.getBufferSize(), progressNotifier);
         } catch (final IllegalArgumentException iae) {
             IOUtils.closeQuietly(input); // avoid possible resource leak
             throw new InvalidContentTypeException(format(
@@ -41,6 +41,9 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
     private final BeanPropertySet<T> propertySet;
     private final Class<?> propertyHolderType;
 
+    private transient volatile BeanPropertyAccessor readAccessor;
+    private transient volatile BeanPropertyAccessor writeAccessor;
+
     /**
      * Constructor for setting the immutable descriptor, property set and
      * property holder type used by this instance.
@@ -106,4 +109,41 @@ public abstract class AbstractBeanPropertyDefinition<T, V>
     public Class<?> getPropertyHolderType() {
         return propertyHolderType;
     }
+
+    /**
+     * Reads the value of this property from the given property holder using
+     * the read method of the descriptor.
+     *
+     * @param propertyHolder
+     *            the object to read the value from
+     * @return the property value
+     */
+    Object readValue(Object propertyHolder) {
+        BeanPropertyAccessor accessor = readAccessor;
+        if (accessor == null) {
+            accessor = BeanPropertyAccessor
+                    .forGetter(descriptor.getReadMethod());
+            readAccessor = accessor;
+        }
+        return accessor.getValue(propertyHolder);
+    }
+
+    /**
+     * Writes the value of this property to the given property holder using the
+     * write method of the descriptor.
+     *
+     * @param propertyHolder
+     *            the object to write the value to
+     * @param value
+     *            the value to write
+     */
+    void writeValue(Object propertyHolder, Object value) {
+        BeanPropertyAccessor accessor = writeAccessor;
+        if (accessor == null) {
+            accessor = BeanPropertyAccessor
+                    .forSetter(descriptor.getWriteMethod());
+            writeAccessor = accessor;
+        }
+        accessor.setValue(propertyHolder, value);
+    }
 }
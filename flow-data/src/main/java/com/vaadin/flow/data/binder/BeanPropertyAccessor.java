@@ -0,0 +1,219 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.binder;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.internal.ReflectTools;
+
+/**
+ * Invokes a bean property getter or setter through an accessor generated with
+ * {@link LambdaMetafactory} instead of through {@link Method#invoke}.
+ * <p>
+ * Falls back to reflection if an accessor cannot be generated, e.g. when the
+ * declaring class is in a module that is not open for deep reflection.
+ * Exceptions are reported in the same way as with reflection: exceptions
+ * thrown by the accessor method itself are wrapped in a
+ * {@link RuntimeException} with an {@link InvocationTargetException} cause.
+ * <p>
+ * Instances are not serializable and are cached in the (transient) state of
+ * the property definitions, which are themselves cached per bean type.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+final class BeanPropertyAccessor {
+
+    private final Method method;
+
+    private final Class<?> declaringClass;
+
+    private final Class<?> parameterType;
+
+    private final boolean primitiveParameter;
+
+    private final Function<Object, Object> getter;
+
+    private final BiConsumer<Object, Object> setter;
+
+    private BeanPropertyAccessor(Method method,
+            Function<Object, Object> getter,
+            BiConsumer<Object, Object> setter) {
+        this.method = method;
+        this.declaringClass = method.getDeclaringClass();
+        this.parameterType = method.getParameterCount() == 1
+                ? ReflectTools
+                        .convertPrimitiveType(method.getParameterTypes()[0])
+                : null;
+        this.primitiveParameter = method.getParameterCount() == 1
+                && method.getParameterTypes()[0].isPrimitive();
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates an accessor for the given getter method.
+     *
+     * @param readMethod
+     *            the getter method, not <code>null</code>
+     * @return an accessor for invoking the getter, not <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    static BeanPropertyAccessor forGetter(Method readMethod) {
+        Function<Object, Object> getter = null;
+        try {
+            MethodHandles.Lookup lookup = getLookup(readMethod);
+            MethodHandle handle = lookup.unreflect(readMethod);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle, handle.type().wrap());
+            getter = (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) { // NOSONAR
+            logFallback(readMethod, e);
+        }
+        return new BeanPropertyAccessor(readMethod, getter, null);
+    }
+
+    /**
+     * Creates an accessor for the given setter method.
+     *
+     * @param writeMethod
+     *            the setter method, not <code>null</code>
+     * @return an accessor for invoking the setter, not <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    static BeanPropertyAccessor forSetter(Method writeMethod) {
+        BiConsumer<Object, Object> setter = null;
+        try {
+            MethodHandles.Lookup lookup = getLookup(writeMethod);
+            MethodHandle handle = lookup.unreflect(writeMethod);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class,
+                            Object.class),
+                    handle,
+                    handle.type().wrap().changeReturnType(void.class));
+            setter = (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) { // NOSONAR
+            logFallback(writeMethod, e);
+        }
+        return new BeanPropertyAccessor(writeMethod, null, setter);
+    }
+
+    /**
+     * Invokes the getter on the given bean.
+     *
+     * @param bean
+     *            the bean to get the value from
+     * @return the property value
+     */
+    Object getValue(Object bean) {
+        if (getter == null) {
+            return invokeWrapExceptions(bean);
+        }
+        checkTarget(bean);
+        try {
+            return getter.apply(bean);
+        } catch (Throwable e) { // NOSONAR
+            throw new RuntimeException(new InvocationTargetException(e));
+        }
+    }
+
+    /**
+     * Invokes the setter on the given bean.
+     *
+     * @param bean
+     *            the bean to set the value to
+     * @param value
+     *            the value to set
+     */
+    void setValue(Object bean, Object value) {
+        if (setter == null) {
+            invokeWrapExceptions(bean, value);
+            return;
+        }
+        if (value == null ? primitiveParameter
+                : !parameterType.isInstance(value)) {
+            /*
+             * Let reflection deal with widening conversions and report
+             * invalid arguments the same way as before
+             */
+            invokeWrapExceptions(bean, value);
+            return;
+        }
+        checkTarget(bean);
+        try {
+            setter.accept(bean, value);
+        } catch (Throwable e) { // NOSONAR
+            throw new RuntimeException(new InvocationTargetException(e));
+        }
+    }
+
+    /*
+     * Perform the argument checks done by Method.invoke up front so that
+     * invalid arguments are not reported as exceptions thrown by the method.
+     */
+    private void checkTarget(Object bean) {
+        if (bean == null) {
+            throw new NullPointerException(
+                    "Cannot invoke " + method + " on a null bean");
+        }
+        if (!declaringClass.isInstance(bean)) {
+            throw new IllegalArgumentException(
+                    "object is not an instance of declaring class");
+        }
+    }
+
+    private Object invokeWrapExceptions(Object target, Object... parameters) {
+        try {
+            return method.invoke(target, parameters);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static MethodHandles.Lookup getLookup(Method method)
+            throws IllegalAccessException {
+        /*
+         * Use a lookup in the declaring class so that the generated class is
+         * defined in the same class loader and can access the bean type.
+         */
+        return MethodHandles.privateLookupIn(method.getDeclaringClass(),
+                MethodHandles.lookup());
+    }
+
+    private static void logFallback(Method method, Throwable cause) {
+        getLogger().debug(
+                "Unable to generate an accessor for {}, using reflection",
+                method, cause);
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(BeanPropertyAccessor.class);
+    }
+}
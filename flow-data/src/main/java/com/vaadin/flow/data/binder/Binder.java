@@ -1226,6 +1226,15 @@ public class Binder<BEAN> implements Serializable {
 
         private Registration onValidationStatusChange;
 
+        /*
+         * Last validation result and the state it was computed for, used when
+         * incremental validation is enabled in the binder.
+         */
+        private BindingValidationStatus<TARGET> lastValidationStatus;
+        private FIELDVALUE lastValidatedValue;
+        private boolean lastValidatedWithValidators;
+        private boolean lastValidatedAsRequired;
+
         public BindingImpl(BindingBuilderImpl<BEAN, FIELDVALUE, TARGET> builder,
                 ValueProvider<BEAN, TARGET> getter,
                 Setter<BEAN, TARGET> setter) {
@@ -1242,8 +1251,12 @@ public class Binder<BEAN> implements Serializable {
                     && getField() instanceof HasValidator) {
                 HasValidator<FIELDVALUE> hasValidatorField = (HasValidator<FIELDVALUE>) getField();
                 onValidationStatusChange = hasValidatorField
-                        .addValidationStatusChangeListener(
-                                event -> this.validate());
+                        .addValidationStatusChangeListener(event -> {
+                            // Field internal state has changed, the value
+                            // might not have
+                            clearValidationCache();
+                            this.validate();
+                        });
             }
 
             this.getter = getter;
@@ -1342,7 +1355,43 @@ public class Binder<BEAN> implements Serializable {
          * @return the validation status
          */
         private BindingValidationStatus<TARGET> doValidation() {
-            return toValidationStatus(doConversion());
+            BindingValidationStatus<TARGET> status = toValidationStatus(
+                    doConversion());
+            if (getBinder().isIncrementalValidationEnabled()) {
+                lastValidationStatus = status;
+                lastValidatedValue = field.getValue();
+                lastValidatedWithValidators = areValidatorsEnabled();
+                lastValidatedAsRequired = isAsRequiredEnabled();
+            }
+            return status;
+        }
+
+        /**
+         * Returns the validation status from the previous validation if the
+         * field value and the validation configuration have not changed since
+         * then, and otherwise validates the binding again.
+         *
+         * @return the validation status
+         */
+        private BindingValidationStatus<TARGET> doValidationIfChanged() {
+            if (lastValidationStatus != null
+                    && getBinder().isIncrementalValidationEnabled()
+                    && Objects.equals(lastValidatedValue, field.getValue())
+                    && lastValidatedWithValidators == areValidatorsEnabled()
+                    && lastValidatedAsRequired == isAsRequiredEnabled()) {
+                return lastValidationStatus;
+            }
+            return doValidation();
+        }
+
+        private boolean areValidatorsEnabled() {
+            return !getBinder().isValidatorsDisabled()
+                    && !isValidatorsDisabled();
+        }
+
+        private void clearValidationCache() {
+            lastValidationStatus = null;
+            lastValidatedValue = null;
         }
 
         /**
@@ -1623,6 +1672,67 @@ public class Binder<BEAN> implements Serializable {
 
     }
 
+    /**
+     * Bean level validator that declares the bound properties it depends on so
+     * that its result can be reused in incremental validation.
+     */
+    private class DependentValidator implements Validator<BEAN> {
+
+        private final Validator<? super BEAN> validator;
+        private final List<String> propertyNames;
+
+        private BEAN lastBean;
+        private List<Object> lastValues;
+        private ValidationResult lastResult;
+
+        private DependentValidator(Validator<? super BEAN> validator,
+                List<String> propertyNames) {
+            this.validator = validator;
+            this.propertyNames = propertyNames;
+        }
+
+        @Override
+        public ValidationResult apply(BEAN value, ValueContext context) {
+            if (isValidatorsDisabled()) {
+                return ValidationResult.ok();
+            }
+            if (!isIncrementalValidationEnabled()) {
+                return validator.apply(value, context);
+            }
+            List<Object> values = getDependencyValues();
+            if (lastResult != null && lastBean == value
+                    && Objects.equals(lastValues, values)) {
+                return lastResult;
+            }
+            ValidationResult result = validator.apply(value, context);
+            if (values != null) {
+                lastBean = value;
+                lastValues = values;
+                lastResult = result;
+            }
+            return result;
+        }
+
+        private List<Object> getDependencyValues() {
+            List<Object> values = new ArrayList<>(propertyNames.size());
+            for (String propertyName : propertyNames) {
+                Binding<BEAN, ?> binding = boundProperties.get(propertyName);
+                if (binding == null || binding.getField() == null) {
+                    // Cannot track an unbound property
+                    return null;
+                }
+                values.add(binding.getField().getValue());
+            }
+            return values;
+        }
+
+        private void clearValidationCache() {
+            lastBean = null;
+            lastValues = null;
+            lastResult = null;
+        }
+    }
+
     /**
      * Converter decorator-strategy pattern to use initially provided "delegate"
      * converter to execute its logic until the {@code setIdentity()} method is
@@ -1699,6 +1809,8 @@ public class Binder<BEAN> implements Serializable {
 
     private boolean fieldsValidationStatusChangeListenerEnabled = true;
 
+    private boolean incrementalValidationEnabled = false;
+
     /**
      * Creates a binder using a custom {@link PropertySet} implementation for
      * finding and resolving property names for
@@ -2129,6 +2241,7 @@ public class Binder<BEAN> implements Serializable {
             doRemoveBean(false);
             this.bean = bean;
             getBindings().forEach(b -> b.initFieldValue(bean, true));
+            clearValidationCache();
             // if there has been field value change listeners that trigger
             // validation, need to make sure the validation errors are cleared
             getValidationStatusHandler().statusChange(
@@ -2180,6 +2293,7 @@ public class Binder<BEAN> implements Serializable {
                 }
             });
             changedBindings.clear();
+            clearValidationCache();
             getValidationStatusHandler().statusChange(
                     BinderValidationStatus.createUnresolvedStatus(this));
             fireStatusChangeEvent(false);
@@ -2468,6 +2582,41 @@ public class Binder<BEAN> implements Serializable {
         return this;
     }
 
+    /**
+     * Adds a bean level validator that only reads the given bound properties of
+     * the bean.
+     * <p>
+     * Bean level validators are applied on the bean instance after the bean is
+     * updated. If the validators fail, the bean instance is reverted to its
+     * previous state.
+     * <p>
+     * When incremental validation is enabled, the validator is only run again
+     * if the value of any of the fields bound to the given properties has
+     * changed since the validator was last run for the same bean. Otherwise
+     * the previous result is reused. The properties must be bound by name,
+     * e.g. using {@link BindingBuilder#bind(String)}; if any of them is not,
+     * the validator is always run. Without incremental validation, this
+     * method works in the same way as {@link #withValidator(Validator)}.
+     *
+     * @see #setIncrementalValidationEnabled(boolean)
+     * @see #withValidator(Validator)
+     *
+     * @param validator
+     *            the validator to add, not null
+     * @param propertyNames
+     *            the names of the bound properties the validator reads, not
+     *            null
+     * @return this binder, for chaining
+     */
+    public Binder<BEAN> withValidatorDependingOn(
+            Validator<? super BEAN> validator, String... propertyNames) {
+        Objects.requireNonNull(validator, "validator cannot be null");
+        Objects.requireNonNull(propertyNames, "propertyNames cannot be null");
+        validators.add(new DependentValidator(validator,
+                Arrays.asList(propertyNames)));
+        return this;
+    }
+
     /**
      * A convenience method to add a validator to this binder using the
      * {@link Validator#from(SerializablePredicate, String)} factory method.
@@ -2627,7 +2776,8 @@ public class Binder<BEAN> implements Serializable {
      * @return an immutable list of validation results for bindings
      */
     private List<BindingValidationStatus<?>> validateBindings() {
-        return getBindings().stream().map(BindingImpl::doValidation)
+        return getBindings().stream()
+                .map(BindingImpl::doValidationIfChanged)
                 .collect(Collectors.collectingAndThen(Collectors.toList(),
                         Collections::unmodifiableList));
     }
@@ -3065,6 +3215,7 @@ public class Binder<BEAN> implements Serializable {
 
     private void doRemoveBean(boolean fireStatusEvent) {
         changedBindings.clear();
+        clearValidationCache();
         if (bean != null) {
             bean = null;
         }
@@ -3585,6 +3736,56 @@ public class Binder<BEAN> implements Serializable {
         return fieldsValidationStatusChangeListenerEnabled;
     }
 
+    /**
+     * Control whether {@link #validate()} and {@link #isValid()} reuse the
+     * results of earlier validations when possible.
+     * <p>
+     * When enabled, a binding is only validated again if its field value or
+     * the required and validator enablement state have changed since it was
+     * last validated. Bean level validators added with
+     * {@link #withValidatorDependingOn(Validator, String...)} are only run
+     * again if any of the fields they depend on has changed. Other bean level
+     * validators are always run.
+     * <p>
+     * This is meant for large forms where validation is expensive. It should
+     * only be enabled if the validators and converters of each binding depend
+     * on nothing else than the value of the field and the field values are not
+     * mutated in place. Validating a single binding with
+     * {@link Binding#validate()} always runs its validators.
+     * <p>
+     * Incremental validation is disabled by default.
+     *
+     * @param incrementalValidationEnabled
+     *            {@code true} to enable incremental validation, {@code false}
+     *            to disable it
+     */
+    public void setIncrementalValidationEnabled(
+            boolean incrementalValidationEnabled) {
+        this.incrementalValidationEnabled = incrementalValidationEnabled;
+        if (!incrementalValidationEnabled) {
+            clearValidationCache();
+        }
+    }
+
+    /**
+     * Returns whether {@link #validate()} and {@link #isValid()} reuse the
+     * results of earlier validations when possible.
+     *
+     * @return {@code true} if incremental validation is enabled, {@code false}
+     *         otherwise
+     * @see #setIncrementalValidationEnabled(boolean)
+     */
+    public boolean isIncrementalValidationEnabled() {
+        return incrementalValidationEnabled;
+    }
+
+    private void clearValidationCache() {
+        getBindings().forEach(BindingImpl::clearValidationCache);
+        validators.stream().filter(DependentValidator.class::isInstance)
+                .forEach(validator -> ((DependentValidator) validator)
+                        .clearValidationCache());
+    }
+
     /**
      * Sets a {@code handler} to customize the {@link RuntimeException} thrown
      * by delegates (like {@link Setter}, {@link ValueProvider},
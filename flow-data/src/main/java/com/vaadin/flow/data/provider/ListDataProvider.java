@@ -17,8 +17,9 @@ package com.vaadin.flow.data.provider;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.function.SerializableComparator;
@@ -41,6 +42,10 @@ public class ListDataProvider<T>
 
     private final Collection<T> backend;
 
+    private boolean queryResultCacheEnabled;
+
+    private transient volatile ListDataProviderQueryCache<T> queryResultCache;
+
     /**
      * Constructs a new ListDataProvider.
      * <p>
@@ -66,17 +71,63 @@ public class ListDataProvider<T>
         return backend;
     }
 
+    /**
+     * Sets whether filtered and sorted query results should be cached.
+     * <p>
+     * When enabled, the items matching a query filter are filtered and sorted
+     * only once and kept in memory, so that fetching a range of items only
+     * needs to copy the items in that range. A result is kept once the same
+     * query filter and sorting instances have been fetched twice, so filters
+     * which are created anew for every query are not cached. The total number
+     * of items in the kept results is bounded. Results are discarded by
+     * {@link #refreshAll()} and when the filter or sort order of this data
+     * provider is changed, and are updated incrementally by
+     * {@link #refreshItem(Object)}, which avoids filtering and sorting the
+     * results again but still scans the backing collection for the changed
+     * item. This means that {@link #refreshAll()} must be called after
+     * modifying the backing collection directly, and
+     * {@link #refreshItem(Object)} after modifying an item in a way that
+     * affects filtering or sorting.
+     * <p>
+     * The cache is thread safe, so a data provider for data that does not
+     * change can be shared between sessions to share the cached results.
+     * <p>
+     * Caching is disabled by default.
+     *
+     * @param queryResultCacheEnabled
+     *            <code>true</code> to cache query results, <code>false</code>
+     *            to filter and sort the backing collection for every query
+     */
+    public void setQueryResultCacheEnabled(boolean queryResultCacheEnabled) {
+        this.queryResultCacheEnabled = queryResultCacheEnabled;
+        clearQueryResultCache();
+    }
+
+    /**
+     * Gets whether filtered and sorted query results are cached.
+     *
+     * @return <code>true</code> if query results are cached, <code>false</code>
+     *         otherwise
+     * @see #setQueryResultCacheEnabled(boolean)
+     */
+    public boolean isQueryResultCacheEnabled() {
+        return queryResultCacheEnabled;
+    }
+
     @Override
     public Stream<T> fetch(Query<T, SerializablePredicate<T>> query) {
-        Stream<T> stream = getFilteredStream(query);
+        if (queryResultCacheEnabled) {
+            List<T> range = getCachedRange(query);
+            if (range != null) {
+                return range.stream();
+            }
+        }
 
-        Optional<Comparator<T>> comparing = Stream
-                .of(query.getInMemorySorting(), sortOrder)
-                .filter(Objects::nonNull)
-                .reduce((c1, c2) -> c1.thenComparing(c2));
+        Stream<T> stream = getFilteredStream(query.getFilter().orElse(null));
 
-        if (comparing.isPresent()) {
-            stream = stream.sorted(comparing.get());
+        Comparator<T> comparator = getComparator(query.getInMemorySorting());
+        if (comparator != null) {
+            stream = stream.sorted(comparator);
         }
 
         return stream.skip(query.getOffset()).limit(query.getLimit());
@@ -84,11 +135,35 @@ public class ListDataProvider<T>
 
     @Override
     public int size(Query<T, SerializablePredicate<T>> query) {
-        return (int) getFilteredStream(query).count();
+        SerializablePredicate<T> queryFilter = query.getFilter().orElse(null);
+        if (queryResultCacheEnabled) {
+            int size = getQueryResultCache().getSize(queryFilter);
+            if (size >= 0) {
+                return size;
+            }
+        }
+        return (int) getFilteredStream(queryFilter).count();
+    }
+
+    @Override
+    public void refreshAll() {
+        clearQueryResultCache();
+        super.refreshAll();
+    }
+
+    @Override
+    public void refreshItem(T item) {
+        updateQueryResultCache(item);
+        super.refreshItem(item);
     }
 
-    private Stream<T> getFilteredStream(
-            Query<T, SerializablePredicate<T>> query) {
+    @Override
+    public void refreshItem(T item, boolean refreshChildren) {
+        updateQueryResultCache(item);
+        super.refreshItem(item, refreshChildren);
+    }
+
+    private Stream<T> getFilteredStream(SerializablePredicate<T> queryFilter) {
         Stream<T> stream = backend.stream();
 
         // Apply our own filters first so that query filters never see the items
@@ -97,11 +172,85 @@ public class ListDataProvider<T>
             stream = stream.filter(filter);
         }
 
-        stream = query.getFilter().map(stream::filter).orElse(stream);
+        if (queryFilter != null) {
+            stream = stream.filter(queryFilter);
+        }
 
         return stream;
     }
 
+    private boolean matches(SerializablePredicate<T> queryFilter, T item) {
+        return (filter == null || filter.test(item))
+                && (queryFilter == null || queryFilter.test(item));
+    }
+
+    private Comparator<T> getComparator(Comparator<T> inMemorySorting) {
+        return Stream.of(inMemorySorting, sortOrder).filter(Objects::nonNull)
+                .reduce((c1, c2) -> c1.thenComparing(c2)).orElse(null);
+    }
+
+    private List<T> getCachedRange(Query<T, SerializablePredicate<T>> query) {
+        SerializablePredicate<T> queryFilter = query.getFilter().orElse(null);
+        Comparator<T> inMemorySorting = query.getInMemorySorting();
+        ListDataProviderQueryCache<T> cache = getQueryResultCache();
+        List<T> range = cache.getRange(queryFilter, inMemorySorting,
+                query.getOffset(), query.getLimit());
+        if (range != null || !cache.shouldCache(queryFilter, inMemorySorting)) {
+            return range;
+        }
+
+        List<T> result = createResult(cache, queryFilter, inMemorySorting);
+        int from = Math.min(query.getOffset(), result.size());
+        int to = (int) Math.min((long) from + query.getLimit(), result.size());
+        return result.subList(from, to);
+    }
+
+    private List<T> createResult(ListDataProviderQueryCache<T> cache,
+            SerializablePredicate<T> queryFilter,
+            Comparator<T> inMemorySorting) {
+        int generation = cache.getGeneration();
+        // Sorting an already filtered result avoids filtering again
+        List<T> filtered = cache.getAnySorting(queryFilter);
+        Stream<T> stream = filtered != null ? filtered.stream()
+                : getFilteredStream(queryFilter);
+        Comparator<T> comparator = getComparator(inMemorySorting);
+        if (comparator != null) {
+            stream = stream.sorted(comparator);
+        }
+        List<T> result = stream.collect(Collectors.toList());
+        cache.put(generation, queryFilter, inMemorySorting, result);
+        return result;
+    }
+
+    private void updateQueryResultCache(T item) {
+        ListDataProviderQueryCache<T> cache = queryResultCache;
+        if (!queryResultCacheEnabled || cache == null) {
+            return;
+        }
+        Object id = getId(item);
+        // The cache should contain the instance in the backing collection
+        T current = backend.stream()
+                .filter(candidate -> candidate == item
+                        || Objects.equals(id, getId(candidate)))
+                .findFirst().orElse(null);
+        cache.update(current, id, this::getId, this::matches,
+                this::getComparator);
+    }
+
+    private synchronized ListDataProviderQueryCache<T> getQueryResultCache() {
+        if (queryResultCache == null) {
+            queryResultCache = new ListDataProviderQueryCache<>();
+        }
+        return queryResultCache;
+    }
+
+    private void clearQueryResultCache() {
+        ListDataProviderQueryCache<T> cache = queryResultCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
     @Override
     public SerializableComparator<T> getSortComparator() {
         return sortOrder;
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.provider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.vaadin.flow.function.SerializableBiPredicate;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.function.SerializablePredicate;
+
+/**
+ * Cache of filtered and sorted query results for {@link ListDataProvider}.
+ * <p>
+ * Results are keyed by the query filter and the query in-memory sorting so that
+ * range fetches can be answered by copying the range from a cached result. A
+ * result is only cached when the same filter and sorting are fetched a second
+ * time, so that filters which are created anew for every query don't fill the
+ * cache with results that are never used again. The cache is bounded by the
+ * total number of items in the cached results, and the least recently used
+ * results are evicted first.
+ * <p>
+ * All methods are thread safe so that a data provider for immutable data can
+ * be shared between sessions.
+ *
+ * @param <T>
+ *            data type
+ * @author Vaadin Ltd
+ * @since
+ */
+final class ListDataProviderQueryCache<T> {
+
+    /**
+     * The default maximum total number of items in the cached results.
+     */
+    static final int DEFAULT_MAX_ITEMS = 500_000;
+
+    /**
+     * The number of uncached filter and sorting combinations which are
+     * remembered for detecting repeated queries.
+     */
+    private static final int MAX_CANDIDATES = 16;
+
+    private static final class Key {
+        private final SerializablePredicate<?> filter;
+        private final Comparator<?> sorting;
+
+        private Key(SerializablePredicate<?> filter, Comparator<?> sorting) {
+            this.filter = filter;
+            this.sorting = sorting;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return Objects.equals(filter, that.filter)
+                    && Objects.equals(sorting, that.sorting);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, sorting);
+        }
+    }
+
+    private static final class Result<T> {
+        private final ArrayList<T> items;
+
+        /**
+         * The positions of the item instances, created when the result is
+         * updated for the first time. Instances are used as keys since the
+         * equality of items may change when they are modified.
+         */
+        private IdentityHashMap<T, Integer> positions;
+
+        private Result(List<T> items) {
+            this.items = new ArrayList<>(items);
+        }
+
+        /**
+         * Finds the position of an item, falling back to a linear scan
+         * comparing ids if the given instance is not in the result.
+         */
+        private int indexOf(T item, Object id,
+                SerializableFunction<T, Object> idGetter) {
+            if (positions == null) {
+                positions = new IdentityHashMap<>(items.size());
+                for (int i = 0; i < items.size(); i++) {
+                    positions.put(items.get(i), i);
+                }
+            }
+            Integer position = item == null ? null : positions.get(item);
+            if (position != null) {
+                return position.intValue();
+            }
+            for (int i = 0; i < items.size(); i++) {
+                if (Objects.equals(id, idGetter.apply(items.get(i)))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Moves, inserts or removes an item and updates the positions of the
+         * items between its old and new position.
+         *
+         * @param from
+         *            the current position of the item, or -1 to insert it
+         * @param to
+         *            the new position of the item, or -1 to remove it
+         */
+        private void move(T item, int from, int to) {
+            if (from >= 0) {
+                positions.remove(items.remove(from));
+            }
+            if (to >= 0) {
+                items.add(to, item);
+            }
+            int start = Math.min(from < 0 ? to : from, to < 0 ? from : to);
+            int end = from < 0 || to < 0 ? items.size() - 1
+                    : Math.max(from, to);
+            for (int i = start; i <= end; i++) {
+                positions.put(items.get(i), i);
+            }
+        }
+    }
+
+    private final int maxItems;
+
+    private final LinkedHashMap<Key, Result<T>> results = new LinkedHashMap<>(
+            16, 0.75f, true);
+
+    private final LinkedHashMap<Key, Boolean> candidates = new LinkedHashMap<>(
+            16, 0.75f, true);
+
+    private int itemCount;
+
+    private int generation;
+
+    /**
+     * Creates a new cache with the default maximum number of items.
+     */
+    ListDataProviderQueryCache() {
+        this(DEFAULT_MAX_ITEMS);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxItems
+     *            the maximum total number of items in the cached results
+     */
+    ListDataProviderQueryCache(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Gets a range of the cached result for the given filter and sorting.
+     *
+     * @param filter
+     *            the query filter, or <code>null</code> if none
+     * @param sorting
+     *            the query in-memory sorting, or <code>null</code> if none
+     * @param offset
+     *            the index of the first item in the range
+     * @param limit
+     *            the maximum number of items in the range
+     * @return a copy of the range, or <code>null</code> if there is no cached
+     *         result
+     */
+    synchronized List<T> getRange(SerializablePredicate<T> filter,
+            Comparator<T> sorting, int offset, int limit) {
+        Result<T> result = results.get(new Key(filter, sorting));
+        if (result == null) {
+            return null;
+        }
+        return copyRange(result.items, offset, limit);
+    }
+
+    /**
+     * Gets the size of any cached result for the given filter regardless of
+     * its sorting.
+     *
+     * @param filter
+     *            the query filter, or <code>null</code> if none
+     * @return the number of items matching the filter, or <code>-1</code> if
+     *         there is no cached result for the filter
+     */
+    synchronized int getSize(SerializablePredicate<T> filter) {
+        Result<T> result = findAnySorting(filter);
+        return result == null ? -1 : result.items.size();
+    }
+
+    /**
+     * Gets a copy of any cached result for the given filter regardless of its
+     * sorting.
+     *
+     * @param filter
+     *            the query filter, or <code>null</code> if none
+     * @return a copy of a cached result for the filter, or <code>null</code>
+     *         if there is no such result
+     */
+    synchronized List<T> getAnySorting(SerializablePredicate<T> filter) {
+        Result<T> result = findAnySorting(filter);
+        return result == null ? null : new ArrayList<>(result.items);
+    }
+
+    private Result<T> findAnySorting(SerializablePredicate<T> filter) {
+        return results.entrySet().stream()
+                .filter(entry -> Objects.equals(filter, entry.getKey().filter))
+                .map(Map.Entry::getValue).findFirst().orElse(null);
+    }
+
+    /**
+     * Checks whether a result for the given filter and sorting should be
+     * cached, which is the case when the same combination has been requested
+     * before. Otherwise the combination is remembered for the next request.
+     *
+     * @param filter
+     *            the query filter, or <code>null</code> if none
+     * @param sorting
+     *            the query in-memory sorting, or <code>null</code> if none
+     * @return <code>true</code> if the result should be cached,
+     *         <code>false</code> otherwise
+     */
+    synchronized boolean shouldCache(SerializablePredicate<T> filter,
+            Comparator<T> sorting) {
+        Key key = new Key(filter, sorting);
+        if (candidates.remove(key) != null) {
+            return true;
+        }
+        candidates.put(key, Boolean.TRUE);
+        if (candidates.size() > MAX_CANDIDATES) {
+            Iterator<Key> iterator = candidates.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+        return false;
+    }
+
+    /**
+     * Gets the current generation of this cache. The generation changes
+     * every time the cache is cleared or updated.
+     *
+     * @return the current generation
+     */
+    synchronized int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Stores a result in the cache, unless the cache has been cleared or
+     * updated after the given generation was read, in which case the result
+     * may be based on outdated data. Results larger than the maximum number of
+     * items are not cached.
+     *
+     * @param generation
+     *            the generation of the cache when starting to compute the
+     *            result
+     * @param filter
+     *            the query filter, or <code>null</code> if none
+     * @param sorting
+     *            the query in-memory sorting, or <code>null</code> if none
+     * @param result
+     *            the result to cache
+     */
+    synchronized void put(int generation, SerializablePredicate<T> filter,
+            Comparator<T> sorting, List<T> result) {
+        if (generation != this.generation || result.size() > maxItems) {
+            return;
+        }
+        Result<T> previous = results.put(new Key(filter, sorting),
+                new Result<>(result));
+        if (previous != null) {
+            itemCount -= previous.items.size();
+        }
+        itemCount += result.size();
+
+        Iterator<Result<T>> iterator = results.values().iterator();
+        while (itemCount > maxItems) {
+            itemCount -= iterator.next().items.size();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    synchronized void clear() {
+        results.clear();
+        candidates.clear();
+        itemCount = 0;
+        generation++;
+    }
+
+    /**
+     * Updates all cached results after a single item has been changed.
+     * <p>
+     * The item is looked up in each result by its instance, or by comparing
+     * ids with every item in the result if the instance is not found, and, if
+     * it still passes the filter, moved to its new position in sorted results
+     * without sorting the result again. Moving the item updates the positions
+     * of the items between its old and new position. Results without sorting
+     * are discarded if the item needs to be added since its original position
+     * is not known.
+     *
+     * @param item
+     *            the current instance of the changed item, or
+     *            <code>null</code> if the item is no longer in the data set
+     * @param id
+     *            the id of the changed item
+     * @param idGetter
+     *            function for getting the id of an item
+     * @param matcher
+     *            predicate for checking whether the item passes a query
+     *            filter
+     * @param comparatorFactory
+     *            function for getting the full comparator for a query
+     *            in-memory sorting, returns <code>null</code> if the result
+     *            is not sorted
+     */
+    @SuppressWarnings("unchecked")
+    synchronized void update(T item, Object id,
+            SerializableFunction<T, Object> idGetter,
+            SerializableBiPredicate<SerializablePredicate<T>, T> matcher,
+            SerializableFunction<Comparator<T>, Comparator<T>> comparatorFactory) {
+        // Results computed concurrently may not include the change
+        generation++;
+
+        Iterator<Map.Entry<Key, Result<T>>> iterator = results.entrySet()
+                .iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Result<T>> entry = iterator.next();
+            SerializablePredicate<T> filter = (SerializablePredicate<T>) entry
+                    .getKey().filter;
+            Comparator<T> comparator = comparatorFactory
+                    .apply((Comparator<T>) entry.getKey().sorting);
+            Result<T> result = entry.getValue();
+            int sizeBefore = result.items.size();
+
+            int index = result.indexOf(item, id, idGetter);
+            boolean matches = item != null && matcher.test(filter, item);
+            if (index < 0 && !matches) {
+                continue;
+            }
+
+            if (comparator == null) {
+                if (index < 0) {
+                    itemCount -= sizeBefore;
+                    iterator.remove();
+                } else if (matches) {
+                    result.move(item, index, index);
+                } else {
+                    result.move(item, index, -1);
+                }
+            } else if (!matches) {
+                result.move(item, index, -1);
+            } else {
+                // Find the new position among the other items
+                T previous = index >= 0 ? result.items.remove(index) : null;
+                int target = Collections.binarySearch(result.items, item,
+                        comparator);
+                if (target < 0) {
+                    target = -target - 1;
+                }
+                if (index >= 0) {
+                    result.items.add(index, previous);
+                }
+                result.move(item, index, target);
+            }
+            itemCount += result.items.size() - sizeBefore;
+        }
+    }
+
+    private static <T> List<T> copyRange(List<T> items, int offset,
+            int limit) {
+        int from = Math.min(offset, items.size());
+        int to = (int) Math.min((long) from + limit, items.size());
+        return new ArrayList<>(items.subList(from, to));
+    }
+}
@@ -21,6 +21,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -108,6 +109,27 @@ public class BeanPropertySetTest {
         }
     }
 
+    public static class Counter implements Serializable {
+        private int count;
+        private String label;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String getLabel() {
+            throw new IllegalStateException("No label");
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+    }
+
     @Test
     public void testSerializeDeserialize_propertySet() throws Exception {
         PropertySet<Person> originalPropertySet = BeanPropertySet
@@ -362,4 +384,61 @@ public class BeanPropertySetTest {
         Assert.assertEquals(GenericIface.class, defs.get(2).getType());
     }
 
+    @Test
+    public void getterAndSetter_primitiveProperty_valueReadAndWritten() {
+        PropertyDefinition<Counter, ?> definition = BeanPropertySet
+                .get(Counter.class).getProperty("count").get();
+        @SuppressWarnings("unchecked")
+        Setter<Counter, Object> setter = (Setter<Counter, Object>) definition
+                .getSetter().get();
+
+        Counter counter = new Counter();
+        setter.accept(counter, 42);
+
+        Assert.assertEquals(42, counter.getCount());
+        Assert.assertEquals(Integer.valueOf(42),
+                definition.getGetter().apply(counter));
+    }
+
+    @Test
+    public void getterAndSetter_nestedProperty_valueReadAndWritten() {
+        PropertyDefinition<FatherAndSon, ?> definition = BeanPropertySet
+                .get(FatherAndSon.class).getProperty("father.firstName")
+                .get();
+        @SuppressWarnings("unchecked")
+        Setter<FatherAndSon, Object> setter = (Setter<FatherAndSon, Object>) definition
+                .getSetter().get();
+
+        FatherAndSon father = new FatherAndSon("Old", "Man", null, null);
+        FatherAndSon bean = new FatherAndSon("Young", "Man", father, null);
+        setter.accept(bean, "Older");
+
+        Assert.assertEquals("Older", father.getFirstName());
+        Assert.assertEquals("Older", definition.getGetter().apply(bean));
+    }
+
+    @Test
+    public void setter_nullToPrimitiveProperty_throwsIllegalArgumentException() {
+        @SuppressWarnings("unchecked")
+        Setter<Counter, Object> setter = (Setter<Counter, Object>) BeanPropertySet
+                .get(Counter.class).getProperty("count").get().getSetter()
+                .get();
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> setter.accept(new Counter(), null));
+    }
+
+    @Test
+    public void getter_getterThrows_exceptionWrapped() {
+        ValueProvider<Counter, ?> getter = BeanPropertySet.get(Counter.class)
+                .getProperty("label").get().getGetter();
+
+        RuntimeException exception = Assert.assertThrows(
+                RuntimeException.class, () -> getter.apply(new Counter()));
+        Assert.assertTrue(exception
+                .getCause() instanceof InvocationTargetException);
+        Assert.assertTrue(exception.getCause()
+                .getCause() instanceof IllegalStateException);
+    }
+
 }
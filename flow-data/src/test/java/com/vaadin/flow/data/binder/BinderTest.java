@@ -2203,4 +2203,118 @@ public class BinderTest extends BinderTestBase<Binder<Person>, Person> {
             throw new NullPointerException();
         }
     }
+
+    @Test
+    public void incrementalValidation_unchangedField_validatorNotRunAgain() {
+        AtomicInteger nameValidations = new AtomicInteger();
+        AtomicInteger ageValidations = new AtomicInteger();
+        binder.forField(nameField).withValidator((value, context) -> {
+            nameValidations.incrementAndGet();
+            return ValidationResult.ok();
+        }).bind(Person::getFirstName, Person::setFirstName);
+        binder.forField(ageField).withConverter(stringToInteger)
+                .withValidator((value, context) -> {
+                    ageValidations.incrementAndGet();
+                    return ValidationResult.ok();
+                }).bind(Person::getAge, Person::setAge);
+        binder.setIncrementalValidationEnabled(true);
+        binder.setBean(item);
+
+        assertTrue(binder.validate().isOk());
+        int ageValidationsAfterValidate = ageValidations.get();
+
+        nameField.setValue("Jane");
+        int nameValidationsAfterChange = nameValidations.get();
+        assertTrue(binder.validate().isOk());
+
+        assertEquals(ageValidationsAfterValidate, ageValidations.get());
+        // Validated on change, no need to validate again
+        assertEquals(nameValidationsAfterChange, nameValidations.get());
+    }
+
+    @Test
+    public void incrementalValidation_disabled_validatorAlwaysRun() {
+        AtomicInteger validations = new AtomicInteger();
+        binder.forField(nameField).withValidator((value, context) -> {
+            validations.incrementAndGet();
+            return ValidationResult.ok();
+        }).bind(Person::getFirstName, Person::setFirstName);
+        binder.setBean(item);
+        int validationsAfterSetBean = validations.get();
+
+        binder.validate();
+        binder.validate();
+
+        assertEquals(validationsAfterSetBean + 2, validations.get());
+    }
+
+    @Test
+    public void incrementalValidation_validatorsDisabled_statusNotReused() {
+        binder.forField(nameField).withValidator(notEmpty)
+                .bind(Person::getFirstName, Person::setFirstName);
+        binder.setIncrementalValidationEnabled(true);
+        binder.setBean(item);
+        nameField.setValue("");
+
+        assertFalse(binder.validate().isOk());
+
+        binder.setValidatorsDisabled(true);
+        assertTrue(binder.validate().isOk());
+    }
+
+    @Test
+    public void incrementalValidation_beanValidatorWithDependencies_runOnlyWhenDependencyChanges() {
+        AtomicInteger beanValidations = new AtomicInteger();
+        binder = new Binder<>(Person.class);
+        binder.forField(nameField).bind("firstName");
+        binder.forField(ageField).withConverter(stringToInteger).bind("age");
+        binder.withValidatorDependingOn((person, context) -> {
+            beanValidations.incrementAndGet();
+            return person.getAge() > 0 ? ValidationResult.ok()
+                    : ValidationResult.error("Too young");
+        }, "age");
+        binder.setIncrementalValidationEnabled(true);
+        binder.setBean(item);
+
+        binder.validate();
+        assertEquals(1, beanValidations.get());
+
+        binder.validate();
+        assertEquals(1, beanValidations.get());
+
+        ageField.setValue("0");
+        int validationsAfterChange = beanValidations.get();
+        assertFalse(binder.validate().isOk());
+        assertEquals(validationsAfterChange, beanValidations.get());
+
+        nameField.setValue("Jane");
+        assertFalse(binder.validate().isOk());
+        assertEquals(validationsAfterChange, beanValidations.get());
+
+        ageField.setValue("5");
+        assertTrue(binder.validate().isOk());
+        assertTrue(beanValidations.get() > validationsAfterChange);
+    }
+
+    @Test
+    public void incrementalValidation_newBean_beanValidatorRunAgain() {
+        AtomicInteger beanValidations = new AtomicInteger();
+        binder = new Binder<>(Person.class);
+        binder.forField(ageField).withConverter(stringToInteger).bind("age");
+        binder.withValidatorDependingOn((person, context) -> {
+            beanValidations.incrementAndGet();
+            return ValidationResult.ok();
+        }, "age");
+        binder.setIncrementalValidationEnabled(true);
+        binder.setBean(item);
+        binder.validate();
+
+        Person other = new Person();
+        other.setAge(32);
+        binder.setBean(other);
+        binder.validate();
+
+        assertEquals(2, beanValidations.get());
+    }
+
 }
@@ -18,6 +18,7 @@ package com.vaadin.flow.data.provider;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.SerializationUtils;
@@ -25,6 +26,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.vaadin.flow.function.SerializableComparator;
+import com.vaadin.flow.function.SerializablePredicate;
 
 public class ListDataProviderTest
         extends DataProviderTestBase<ListDataProvider<StrBean>> {
@@ -239,6 +241,189 @@ public class ListDataProviderTest
         getDataProvider().setSortComparator(serializableComp);
     }
 
+    @Test
+    public void queryResultCache_fetchAndSize_sameResultsAsWithoutCache() {
+        ListDataProvider<StrBean> cached = DataProvider.ofCollection(data);
+        cached.setQueryResultCacheEnabled(true);
+        ListDataProvider<StrBean> uncached = DataProvider.ofCollection(data);
+
+        Comparator<StrBean> sorting = Comparator
+                .comparing(StrBean::getRandomNumber);
+        for (int offset = 0; offset < 40; offset += 7) {
+            Query<StrBean, SerializablePredicate<StrBean>> query = new Query<>(
+                    offset, 10, null, sorting, fooFilter);
+            Assert.assertEquals(
+                    uncached.fetch(query).collect(Collectors.toList()),
+                    cached.fetch(query).collect(Collectors.toList()));
+            Assert.assertEquals(uncached.size(query), cached.size(query));
+        }
+        Query<StrBean, SerializablePredicate<StrBean>> query = new Query<>(90,
+                Integer.MAX_VALUE, null, null, null);
+        Assert.assertEquals(uncached.fetch(query).collect(Collectors.toList()),
+                cached.fetch(query).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void queryResultCache_repeatedFetches_filterAndSortOnlyOnce() {
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setQueryResultCacheEnabled(true);
+        AtomicInteger filterCalls = new AtomicInteger();
+        SerializablePredicate<StrBean> filter = bean -> {
+            filterCalls.incrementAndGet();
+            return fooFilter.test(bean);
+        };
+        Comparator<StrBean> sorting = Comparator.comparing(StrBean::getId);
+
+        // The result is cached when it's fetched for the second time
+        provider.fetch(new Query<>(0, 10, null, sorting, filter)).count();
+        provider.fetch(new Query<>(10, 10, null, sorting, filter)).count();
+        int callsBeforeCached = filterCalls.get();
+
+        provider.size(new Query<>(filter));
+        for (int offset = 20; offset < 50; offset += 10) {
+            provider.fetch(new Query<>(offset, 10, null, sorting, filter))
+                    .count();
+        }
+
+        Assert.assertEquals(callsBeforeCached, filterCalls.get());
+    }
+
+    @Test
+    public void queryResultCache_newFilterForEachQuery_resultsNotCached() {
+        ListDataProviderQueryCache<StrBean> cache = new ListDataProviderQueryCache<>();
+        SerializablePredicate<StrBean> filter = bean -> true;
+
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            SerializablePredicate<StrBean> queryFilter = bean -> index >= 0;
+            Assert.assertFalse(cache.shouldCache(queryFilter, null));
+        }
+        Assert.assertFalse(cache.shouldCache(filter, null));
+        Assert.assertTrue(cache.shouldCache(filter, null));
+    }
+
+    @Test
+    public void queryResultCache_maxItemsExceeded_leastRecentlyUsedEvicted() {
+        ListDataProviderQueryCache<StrBean> cache = new ListDataProviderQueryCache<>(
+                50);
+        SerializablePredicate<StrBean> first = bean -> true;
+        SerializablePredicate<StrBean> second = bean -> true;
+
+        cache.put(cache.getGeneration(), first, null, data.subList(0, 30));
+        cache.put(cache.getGeneration(), second, null, data.subList(0, 30));
+
+        Assert.assertEquals(-1, cache.getSize(first));
+        Assert.assertEquals(30, cache.getSize(second));
+
+        cache.put(cache.getGeneration(), first, null, data.subList(0, 51));
+        Assert.assertEquals(-1, cache.getSize(first));
+        Assert.assertEquals(30, cache.getSize(second));
+    }
+
+    @Test
+    public void queryResultCache_updatedWhileComputing_outdatedResultNotCached() {
+        ListDataProviderQueryCache<StrBean> cache = new ListDataProviderQueryCache<>();
+        int generation = cache.getGeneration();
+
+        cache.update(data.get(0), data.get(0), bean -> bean,
+                (filter, bean) -> true, sorting -> null);
+        cache.put(generation, null, null, data);
+
+        Assert.assertEquals(-1, cache.getSize(null));
+    }
+
+    @Test
+    public void queryResultCache_refreshAll_backendChangesVisible() {
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setQueryResultCacheEnabled(true);
+        Query<StrBean, SerializablePredicate<StrBean>> query = new Query<>(
+                fooFilter);
+        // Fetch twice to get the result cached
+        provider.fetch(query).count();
+        provider.fetch(query).count();
+        int size = provider.size(query);
+
+        data.add(new StrBean("Foo", 1000, 1));
+        Assert.assertEquals(size, provider.size(query));
+
+        provider.refreshAll();
+        Assert.assertEquals(size + 1, provider.size(query));
+    }
+
+    @Test
+    public void queryResultCache_refreshItem_resultsUpdatedIncrementally() {
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setQueryResultCacheEnabled(true);
+        Comparator<StrBean> sorting = Comparator.comparing(StrBean::getValue)
+                .thenComparing(StrBean::getId);
+        Query<StrBean, SerializablePredicate<StrBean>> sortedQuery = new Query<>(
+                0, Integer.MAX_VALUE, null, sorting, fooFilter);
+        Query<StrBean, SerializablePredicate<StrBean>> unsortedQuery = new Query<>(
+                0, Integer.MAX_VALUE, null, null, fooFilter);
+        // Fetch twice to get the results cached
+        for (int i = 0; i < 2; i++) {
+            provider.fetch(sortedQuery).count();
+            provider.fetch(unsortedQuery).count();
+        }
+
+        StrBean foo = data.stream().filter(fooFilter).findFirst().get();
+        StrBean bar = data.stream()
+                .filter(bean -> "Bar".equals(bean.getValue())).findFirst()
+                .get();
+        foo.setValue("Bar");
+        provider.refreshItem(foo);
+        bar.setValue("Foo");
+        provider.refreshItem(bar, false);
+
+        ListDataProvider<StrBean> uncached = DataProvider.ofCollection(data);
+        Assert.assertEquals(
+                uncached.fetch(sortedQuery).collect(Collectors.toList()),
+                provider.fetch(sortedQuery).collect(Collectors.toList()));
+        Assert.assertEquals(
+                uncached.fetch(unsortedQuery).collect(Collectors.toList()),
+                provider.fetch(unsortedQuery).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void queryResultCache_manyItemsRefreshed_sameResultsAsWithoutCache() {
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setQueryResultCacheEnabled(true);
+        Comparator<StrBean> sorting = Comparator.comparing(StrBean::getValue)
+                .thenComparing(StrBean::getRandomNumber)
+                .thenComparing(StrBean::getId);
+        SerializablePredicate<StrBean> notBaz = bean -> !"Baz"
+                .equals(bean.getValue());
+        Query<StrBean, SerializablePredicate<StrBean>> query = new Query<>(0,
+                Integer.MAX_VALUE, null, sorting, notBaz);
+        provider.fetch(query).count();
+        provider.fetch(query).count();
+
+        String[] values = { "Foo", "Bar", "Baz", "Aaa", "Zzz" };
+        for (int i = 0; i < data.size(); i += 3) {
+            StrBean bean = data.get(i);
+            bean.setValue(values[i % values.length]);
+            provider.refreshItem(bean);
+        }
+
+        ListDataProvider<StrBean> uncached = DataProvider.ofCollection(data);
+        Assert.assertEquals(uncached.fetch(query).collect(Collectors.toList()),
+                provider.fetch(query).collect(Collectors.toList()));
+        Assert.assertEquals(uncached.size(query), provider.size(query));
+    }
+
+    @Test
+    public void queryResultCache_setFilter_cacheCleared() {
+        ListDataProvider<StrBean> provider = getDataProvider();
+        provider.setQueryResultCacheEnabled(true);
+        int size = provider.size(new Query<>());
+
+        provider.setFilter(fooFilter);
+
+        Assert.assertEquals((int) data.stream().filter(fooFilter).count(),
+                provider.size(new Query<>()));
+        Assert.assertNotEquals(size, provider.size(new Query<>()));
+    }
+
     @Test
     public void serializableWithListeners() {
         ListDataProvider<StrBean> provider = getDataProvider();
@@ -85,11 +85,7 @@ public class LitTemplateInitializer {
 
         ParserData data = null;
         if (productionMode) {
-            ReflectionCache<LitTemplate, ParserData> cache = CACHE
-                    .computeIfAbsent(parser, analyzer -> new ReflectionCache<>(
-                            clazz -> new LitTemplateDataAnalyzer(clazz,
-                                    analyzer, service).parseTemplate()));
-            data = cache.get(templateClass);
+            data = getCache(parser, service).get(templateClass);
         }
         if (data == null) {
             data = new LitTemplateDataAnalyzer(templateClass, parser, service)
@@ -98,6 +94,28 @@ public class LitTemplateInitializer {
         parserData = data;
     }
 
+    /**
+     * Parses the template of the given class and caches the result, so that the
+     * template does not need to be parsed when it is first used. Only used in
+     * production mode, where parsed templates are cached.
+     *
+     * @param templateClass
+     *            the template class to parse, not <code>null</code>
+     * @param service
+     *            the related service, not <code>null</code>
+     */
+    public static void preload(Class<? extends LitTemplate> templateClass,
+            VaadinService service) {
+        getCache(LitTemplate.getParser(service), service).get(templateClass);
+    }
+
+    private static ReflectionCache<LitTemplate, ParserData> getCache(
+            LitTemplateParser parser, VaadinService service) {
+        return CACHE.computeIfAbsent(parser, analyzer -> new ReflectionCache<>(
+                clazz -> new LitTemplateDataAnalyzer(clazz, analyzer, service)
+                        .parseTemplate()));
+    }
+
     /**
      * Initializes child elements.
      */
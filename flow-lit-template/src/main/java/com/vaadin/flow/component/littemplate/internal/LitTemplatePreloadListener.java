@@ -0,0 +1,43 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.littemplate.internal;
+
+import com.vaadin.flow.component.littemplate.LitTemplate;
+import com.vaadin.flow.component.littemplate.LitTemplateInitializer;
+import com.vaadin.flow.component.template.internal.TemplatePreloader;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+
+/**
+ * Parses the Lit templates listed in the template index generated by the
+ * production build in the background, so that the first request using a
+ * template does not need to wait for the template to be parsed.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ * @see TemplatePreloader
+ */
+public class LitTemplatePreloadListener implements VaadinServiceInitListener {
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        TemplatePreloader.preloadTemplates(event.getSource(), LitTemplate.class,
+                (templateClass, service) -> LitTemplateInitializer
+                        .preload(templateClass, service));
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2022 Vaadin Ltd
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See <https://vaadin.com/commercial-license-and-service-terms> for the full
+ * license.
+ */
+package com.vaadin.flow.component.polymertemplate;
+
+import com.vaadin.flow.component.template.internal.TemplatePreloader;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+
+/**
+ * Parses the Polymer templates listed in the template index generated by the
+ * production build in the background, so that the first request using a
+ * template does not need to wait for the template to be parsed.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ * @see TemplatePreloader
+ * @deprecated Polymer template support is deprecated - we recommend you to use
+ *             {@code LitTemplate} instead. Read more details from <a href=
+ *             "https://vaadin.com/blog/future-of-html-templates-in-vaadin">the
+ *             Vaadin blog.</a>
+ */
+@Deprecated
+public class PolymerTemplatePreloadListener
+        implements VaadinServiceInitListener {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void serviceInit(ServiceInitEvent event) {
+        TemplatePreloader.preloadTemplates(event.getSource(),
+                PolymerTemplate.class,
+                (templateClass, service) -> TemplateInitializer.preload(
+                        (Class<? extends PolymerTemplate<?>>) templateClass,
+                        service));
+    }
+}
@@ -82,11 +82,7 @@ public class TemplateInitializer {
 
         PolymerParserData data = null;
         if (productionMode) {
-            ReflectionCache<PolymerTemplate<?>, PolymerParserData> cache = CACHE
-                    .computeIfAbsent(parser, analyzer -> new ReflectionCache<>(
-                            clazz -> new TemplateDataAnalyzer(clazz, analyzer,
-                                    service).parseTemplate()));
-            data = cache.get(templateClass);
+            data = getCache(parser, service).get(templateClass);
         }
         if (data == null) {
             data = new TemplateDataAnalyzer(templateClass, parser, service)
@@ -95,6 +91,32 @@ public class TemplateInitializer {
         parserData = data;
     }
 
+    /**
+     * Parses the template of the given class and caches the result, so that the
+     * template does not need to be parsed when it is first used. Only used in
+     * production mode, where parsed templates are cached.
+     *
+     * @param templateClass
+     *            the template class to parse, not <code>null</code>
+     * @param service
+     *            the related service, not <code>null</code>
+     */
+    public static void preload(
+            Class<? extends PolymerTemplate<?>> templateClass,
+            VaadinService service) {
+        TemplateParser parser = service.getInstantiator()
+                .getOrCreate(TemplateParser.TemplateParserFactory.class)
+                .createParser();
+        getCache(parser, service).get(templateClass);
+    }
+
+    private static ReflectionCache<PolymerTemplate<?>, PolymerParserData> getCache(
+            TemplateParser parser, VaadinService service) {
+        return CACHE.computeIfAbsent(parser, analyzer -> new ReflectionCache<>(
+                clazz -> new TemplateDataAnalyzer(clazz, analyzer, service)
+                        .parseTemplate()));
+    }
+
     /**
      * Initializes child elements.
      */
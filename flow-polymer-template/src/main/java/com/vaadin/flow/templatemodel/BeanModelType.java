@@ -13,12 +13,15 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -80,9 +83,52 @@ public class BeanModelType<T> implements ComplexModelType<T> {
         }
     }
 
+    /**
+     * The bean properties to import from a bean class with a given property
+     * filter, resolved once and reused for all beans of the same class that are
+     * imported with the same filter, e.g. the items of a list.
+     */
+    private static final class ImportPlan {
+        private final PropertyFilter filter;
+        private final String[] names;
+        private final Method[] getters;
+        private final ModelType[] types;
+        private final PropertyFilter[] filters;
+
+        private ImportPlan(PropertyFilter filter, List<String> names,
+                List<Method> getters, List<ModelType> types) {
+            this.filter = filter;
+            this.names = names.toArray(new String[0]);
+            this.getters = getters.toArray(new Method[0]);
+            this.types = types.toArray(new ModelType[0]);
+            this.filters = new PropertyFilter[this.names.length];
+            for (int i = 0; i < this.names.length; i++) {
+                filters[i] = new PropertyFilter(filter, this.names[i]);
+            }
+        }
+    }
+
+    /*
+     * Maximum number of import plans, i.e. different property filters, kept for
+     * each bean class. Nested beans are imported with filters owned by the plan
+     * of their parent, so usually there is only one filter per class.
+     */
+    private static final int MAX_IMPORT_PLANS_PER_CLASS = 4;
+
+    private static final ImportPlan[] NO_IMPORT_PLANS = new ImportPlan[0];
+
     private final HashMap<String, BeanModelTypeProperty> properties;
     private final Class<T> proxyType;
 
+    /*
+     * Message describing accessors that cannot be proxied, or an empty string
+     * if all accessors can be proxied. Resolved once since it's needed for each
+     * created proxy.
+     */
+    private transient volatile String finalAccessorsMessage;
+
+    private transient volatile Map<Class<?>, ImportPlan[]> importPlans;
+
     private static final ReflectionCache<Object, Map<String, Method>> beanPropertyCache = new ReflectionCache<>(
             BeanModelType::findBeanGetters);
 
@@ -423,14 +469,47 @@ public class BeanModelType<T> implements ComplexModelType<T> {
         Class<?> beanClass = bean.getClass();
         assert isBean(beanClass);
 
+        ImportPlan plan = getImportPlan(beanClass, propertyFilter);
+
         /*
          * Collect all values and let getters throw before starting to populate
          * the model.
-         *
-         * Can't use Collectors.toMap() since it disallows null values.
          */
-        Map<String, Object> values = new HashMap<>();
+        Object[] values = new Object[plan.names.length];
+        for (int i = 0; i < values.length; i++) {
+            try {
+                values[i] = plan.getters[i].invoke(bean);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Cannot access bean property " + plan.names[i], e);
+            }
+        }
+
+        // Populate the model with the extracted values
+        for (int i = 0; i < values.length; i++) {
+            model.setProperty(plan.names[i], plan.types[i]
+                    .applicationToModel(values[i], plan.filters[i]));
+        }
+    }
+
+    private ImportPlan getImportPlan(Class<?> beanClass,
+            PropertyFilter propertyFilter) {
+        Map<Class<?>, ImportPlan[]> plansByClass = importPlans;
+        if (plansByClass == null) {
+            plansByClass = new ConcurrentHashMap<>();
+            importPlans = plansByClass;
+        }
+        ImportPlan[] plans = plansByClass.getOrDefault(beanClass,
+                NO_IMPORT_PLANS);
+        for (ImportPlan plan : plans) {
+            if (plan.filter == propertyFilter) {
+                return plan;
+            }
+        }
 
+        List<String> names = new ArrayList<>();
+        List<Method> getters = new ArrayList<>();
+        List<ModelType> types = new ArrayList<>();
         beanPropertyCache.get(beanClass).forEach((propertyName, getter) -> {
             if (!hasProperty(propertyName)
                     || !propertyFilter.test(propertyName)) {
@@ -445,22 +524,19 @@ public class BeanModelType<T> implements ComplexModelType<T> {
                         propertyType.getJavaType().getTypeName(), propertyName,
                         getterType.getTypeName()));
             }
-
-            try {
-                Object value = getter.invoke(bean);
-                values.put(propertyName, value);
-            } catch (Exception e) {
-                throw new IllegalArgumentException(
-                        "Cannot access bean property " + propertyName, e);
-            }
+            names.add(propertyName);
+            getters.add(getter);
+            types.add(propertyType);
         });
 
-        // Populate the model with the extracted values
-        values.forEach((name, value) -> {
-            ModelType type = getPropertyType(name);
-            model.setProperty(name, type.applicationToModel(value,
-                    new PropertyFilter(propertyFilter, name)));
-        });
+        ImportPlan plan = new ImportPlan(propertyFilter, names, getters, types);
+        // Most recently created plan first, dropping the oldest one if full
+        ImportPlan[] updated = new ImportPlan[Math.min(plans.length + 1,
+                MAX_IMPORT_PLANS_PER_CLASS)];
+        updated[0] = plan;
+        System.arraycopy(plans, 0, updated, 1, updated.length - 1);
+        plansByClass.put(beanClass, updated);
+        return plan;
     }
 
     /**
@@ -557,6 +633,19 @@ public class BeanModelType<T> implements ComplexModelType<T> {
      *            the node whose properties need to be populated
      */
     public void createInitialValues(StateNode node) {
+        String message = finalAccessorsMessage;
+        if (message == null) {
+            message = findFinalAccessors();
+            finalAccessorsMessage = message;
+        }
+        if (!message.isEmpty()) {
+            throw new IllegalStateException(message);
+        }
+        properties.forEach((name, property) -> property.getType()
+                .createInitialValue(node, name));
+    }
+
+    private String findFinalAccessors() {
         Predicate<Entry<String, Method>> isFinal = entry -> Modifier
                 .isFinal(entry.getValue().getModifiers());
         Predicate<Entry<String, Method>> isProperty = entry -> hasProperty(
@@ -577,10 +666,8 @@ public class BeanModelType<T> implements ComplexModelType<T> {
                     .append(" or @").append(Include.class.getSimpleName())
                     .append(" annotations to limit properties to use in the model so "
                             + "that all properties with final accessors are excluded from the model");
-            throw new IllegalStateException(builder.toString());
         }
-        properties.forEach((name, property) -> property.getType()
-                .createInitialValue(node, name));
+        return builder.toString();
     }
 
     /**
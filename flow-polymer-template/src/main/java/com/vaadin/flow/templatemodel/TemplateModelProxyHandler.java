@@ -10,7 +10,9 @@ package com.vaadin.flow.templatemodel;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
@@ -29,6 +31,7 @@ import net.bytebuddy.implementation.bind.annotation.AllArguments;
 import net.bytebuddy.implementation.bind.annotation.Origin;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.matcher.ElementMatchers;
 
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.internal.ReflectionCache;
@@ -119,6 +122,52 @@ public class TemplateModelProxyHandler implements Serializable {
         }
     }
 
+    /**
+     * Handles invocations of a single bean accessor of a proxy type. An
+     * instance is bound to each getter and setter of the generated proxy class
+     * so that the property name and the kind of accessor don't need to be
+     * resolved from the invoked method for each invocation.
+     * <p>
+     * The class is public only so that the generated proxy classes can invoke
+     * it.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     */
+    public static final class PropertyAccessor implements Serializable {
+        private final String propertyName;
+        private final boolean getter;
+
+        private PropertyAccessor(String propertyName, boolean getter) {
+            this.propertyName = propertyName;
+            this.getter = getter;
+        }
+
+        /**
+         * Gets or sets the value of the property of this accessor in the model
+         * of the given proxy instance.
+         *
+         * @param target
+         *            the proxy instance
+         * @param args
+         *            the arguments passed to the accessor
+         * @return the property value for a getter, <code>null</code> for a
+         *         setter
+         */
+        @RuntimeType
+        public Object access(@This Object target, @AllArguments Object[] args) {
+            BeanModelType<?> modelType = getModelTypeForProxy(target);
+            ModelType propertyType = getPropertyType(modelType, propertyName);
+            ElementPropertyMap modelMap = ElementPropertyMap
+                    .getModel(getStateNodeForProxy(target));
+
+            if (getter) {
+                return handleGetter(modelMap, propertyName, propertyType);
+            }
+            handleSetter(modelMap, propertyName, propertyType, args[0]);
+            return null;
+        }
+    }
+
     private static final ReflectionCache<Object, BiFunction<StateNode, BeanModelType<?>, Object>> proxyConstructors = new ReflectionCache<>(
             TemplateModelProxyHandler::createProxyConstructor);
 
@@ -151,16 +200,8 @@ public class TemplateModelProxyHandler implements Serializable {
             @AllArguments Object[] args) {
         String propertyName = ReflectTools.getPropertyName(method);
 
-        BeanModelType<?> modelType = getModelTypeForProxy(target);
-
-        if (!modelType.hasProperty(propertyName)) {
-            throw new InvalidTemplateModelException(
-                    modelType.getProxyType().getName()
-                            + " has no property named " + propertyName
-                            + " (or it has been excluded)");
-        }
-
-        ModelType propertyType = modelType.getPropertyType(propertyName);
+        ModelType propertyType = getPropertyType(getModelTypeForProxy(target),
+                propertyName);
         ElementPropertyMap modelMap = ElementPropertyMap
                 .getModel(getStateNodeForProxy(target));
 
@@ -215,8 +256,7 @@ public class TemplateModelProxyHandler implements Serializable {
         Builder<InterfaceProxy> builder = new ByteBuddy()
                 .subclass(InterfaceProxy.class).implement(modelType);
 
-        return createProxyConstructor(modelType.getClassLoader(), builder,
-                modelType.getCanonicalName());
+        return createProxyConstructor(modelType, builder);
     }
 
     private static BiFunction<StateNode, BeanModelType<?>, Object> createClassConstructor(
@@ -224,18 +264,28 @@ public class TemplateModelProxyHandler implements Serializable {
         Builder<?> builder = new ByteBuddy().subclass(modelType)
                 .implement(ModelProxy.class);
 
-        return createProxyConstructor(modelType.getClassLoader(), builder,
-                modelType.getCanonicalName());
+        return createProxyConstructor(modelType, builder);
     }
 
     private static BiFunction<StateNode, BeanModelType<?>, Object> createProxyConstructor(
-            ClassLoader classLoader, Builder<?> proxyBuilder, String classFqn) {
-        String proxyClassName = generateProxyClassName(classFqn, classLoader);
-        Class<?> proxyType = proxyBuilder
+            Class<?> type, Builder<?> builder) {
+        ClassLoader classLoader = type.getClassLoader();
+        String proxyClassName = generateProxyClassName(type.getCanonicalName(),
+                classLoader);
 
-                // Handle bean methods (and abstract methods for error handling)
+        // Handle bean methods (and abstract methods for error handling)
+        Builder<?> proxyBuilder = builder
                 .method(method -> isAccessor(method) || method.isAbstract())
-                .intercept(MethodDelegation.to(proxyHandler))
+                .intercept(MethodDelegation.to(proxyHandler));
+
+        // Bind each known bean accessor directly to its own handler. Later
+        // matchers take precedence over the generic handler above.
+        proxyBuilder = bindAccessors(proxyBuilder,
+                ReflectTools.getGetterMethods(type), true);
+        proxyBuilder = bindAccessors(proxyBuilder,
+                ReflectTools.getSetterMethods(type), false);
+
+        Class<?> proxyType = proxyBuilder
 
                 // Handle internal $stateNode methods
                 .defineField("$stateNode", StateNode.class)
@@ -269,6 +319,21 @@ public class TemplateModelProxyHandler implements Serializable {
         };
     }
 
+    private static Builder<?> bindAccessors(Builder<?> builder,
+            Stream<Method> accessors, boolean getters) {
+        List<Method> overridable = accessors
+                .filter(method -> !Modifier.isFinal(method.getModifiers())
+                        && !Modifier.isStatic(method.getModifiers()))
+                .collect(Collectors.toList());
+        Builder<?> result = builder;
+        for (Method accessor : overridable) {
+            result = result.method(ElementMatchers.is(accessor))
+                    .intercept(MethodDelegation.to(new PropertyAccessor(
+                            ReflectTools.getPropertyName(accessor), getters)));
+        }
+        return result;
+    }
+
     private static String generateProxyClassName(String classFqn,
             ClassLoader classLoader) {
         StringBuilder fqnBuilder = new StringBuilder(classFqn);
@@ -311,6 +376,17 @@ public class TemplateModelProxyHandler implements Serializable {
                                 .collect(Collectors.joining(", ")));
     }
 
+    private static ModelType getPropertyType(BeanModelType<?> modelType,
+            String propertyName) {
+        if (!modelType.hasProperty(propertyName)) {
+            throw new InvalidTemplateModelException(
+                    modelType.getProxyType().getName()
+                            + " has no property named " + propertyName
+                            + " (or it has been excluded)");
+        }
+        return modelType.getPropertyType(propertyName);
+    }
+
     private static Object handleGetter(ElementPropertyMap modelMap,
             String propertyName, ModelType propertyType) {
         Serializable modelValue = modelMap.getProperty(propertyName);
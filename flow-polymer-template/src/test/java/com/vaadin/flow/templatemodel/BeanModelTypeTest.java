@@ -9,6 +9,7 @@
 package com.vaadin.flow.templatemodel;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -350,6 +351,77 @@ public class BeanModelTypeTest {
         beanType.importProperties(model, bean, PropertyFilter.ACCEPT_ALL);
     }
 
+    @Test
+    public void importBeans_sameFilter_allBeansImported() {
+        BeanModelType<Bean> beanType = new BeanModelType<>(Bean.class,
+                PropertyFilter.ACCEPT_ALL, false);
+        PropertyFilter filter = new PropertyFilter(
+                name -> !"intValue".equals(name));
+
+        for (int i = 0; i < 3; i++) {
+            ElementPropertyMap model = createEmptyModel();
+            beanType.importProperties(model, new Bean(i), filter);
+
+            Assert.assertEquals(6, model.getPropertyNames().count());
+            Assert.assertFalse(model.hasProperty("intValue"));
+            Assert.assertEquals(String.valueOf(i), model.getProperty("string"));
+        }
+    }
+
+    @Test
+    public void importBeans_differentFiltersAndBeans_eachImportFiltered() {
+        BeanModelType<Bean> beanType = new BeanModelType<>(Bean.class,
+                PropertyFilter.ACCEPT_ALL, false);
+
+        ElementPropertyMap model = createEmptyModel();
+        beanType.importProperties(model, new Bean(3),
+                PropertyFilter.ACCEPT_ALL);
+        assertThreeBean(model);
+
+        model = createEmptyModel();
+        beanType.importProperties(model, new Bean(3),
+                new PropertyFilter(name -> "intObject".equals(name)));
+        Assert.assertEquals(1, model.getPropertyNames().count());
+        Assert.assertEquals(Integer.valueOf(3), model.getProperty("intObject"));
+
+        model = createEmptyModel();
+        beanType.importProperties(model, new DifferentBean(3),
+                new PropertyFilter(name -> !"intValue".equals(name)));
+        Assert.assertEquals(1, model.getPropertyNames().count());
+        Assert.assertEquals("3", model.getProperty("string"));
+
+        model = createEmptyModel();
+        beanType.importProperties(model, new Bean(3),
+                PropertyFilter.ACCEPT_ALL);
+        assertThreeBean(model);
+    }
+
+    @Test
+    public void importBeans_alternatingBeansAndManyFilters_eachImportFiltered() {
+        BeanModelType<Bean> beanType = new BeanModelType<>(Bean.class,
+                PropertyFilter.ACCEPT_ALL, false);
+        List<String> names = Arrays.asList("string", "intValue", "intObject",
+                "booleanValue", "booleanObject", "doubleValue");
+        List<PropertyFilter> filters = names.stream()
+                .map(name -> new PropertyFilter(name::equals))
+                .collect(Collectors.toList());
+
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < filters.size(); i++) {
+                ElementPropertyMap model = createEmptyModel();
+                beanType.importProperties(model, new Bean(3), filters.get(i));
+                Assert.assertEquals(Collections.singletonList(names.get(i)),
+                        model.getPropertyNames().collect(Collectors.toList()));
+
+                model = createEmptyModel();
+                beanType.importProperties(model, new DifferentBean(3),
+                        filters.get(0));
+                Assert.assertEquals("3", model.getProperty("string"));
+                Assert.assertEquals(1, model.getPropertyNames().count());
+            }
+        }
+    }
+
     @Test
     public void modelToApplication() {
         BeanModelType<Bean> beanType = new BeanModelType<>(Bean.class,
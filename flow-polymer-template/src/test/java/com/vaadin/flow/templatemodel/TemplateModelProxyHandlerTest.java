@@ -15,6 +15,8 @@ import org.mockito.Mockito;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.polymertemplate.HasCurrentService;
 import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.templatemodel.TemplateModelTest.EmptyModel;
 import com.vaadin.flow.templatemodel.TemplateModelTest.EmptyModelTemplate;
@@ -170,4 +172,34 @@ public class TemplateModelProxyHandlerTest extends HasCurrentService {
     public void beanHasNoProperties_throwsException() {
         new BeanModelType<>(Model.class, PropertyFilter.ACCEPT_ALL, false);
     }
+
+    @Test
+    public void sameProxyClassDifferentFilters_accessorsUseModelTypeOfProxy() {
+        BeanModelType<Bean> allProperties = new BeanModelType<>(Bean.class,
+                PropertyFilter.ACCEPT_ALL, false);
+        BeanModelType<Bean> onlyString = new BeanModelType<>(Bean.class,
+                new PropertyFilter(name -> "string".equals(name)), false);
+
+        Bean all = TemplateModelProxyHandler.createModelProxy(
+                new StateNode(ElementPropertyMap.class), allProperties);
+        Bean filtered = TemplateModelProxyHandler.createModelProxy(
+                new StateNode(ElementPropertyMap.class), onlyString);
+
+        Assert.assertSame(all.getClass(), filtered.getClass());
+
+        all.setIntValue(3);
+        all.setString("foo");
+        filtered.setString("bar");
+
+        Assert.assertEquals(3, all.getIntValue());
+        Assert.assertEquals("foo", all.getString());
+        Assert.assertEquals("bar", filtered.getString());
+
+        InvalidTemplateModelException exception = Assert.assertThrows(
+                InvalidTemplateModelException.class,
+                () -> filtered.setIntValue(3));
+        Assert.assertEquals(Bean.class.getName()
+                + " has no property named intValue (or it has been excluded)",
+                exception.getMessage());
+    }
 }
@@ -16,8 +16,6 @@
 package com.vaadin.flow.component;
 
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -326,38 +324,39 @@ public class ComponentEventBus implements Serializable {
     }
 
     /**
-     * Creates a list of data objects which can be passed to the constructor
-     * returned by {@link ComponentEventBusUtil#getEventConstructor(Class)} as
-     * parameters 3+.
+     * Creates the parameters to pass to the constructor returned by
+     * {@link ComponentEventBusUtil#getEventConstructor(Class)}.
      *
      * @param domEvent
      *            the DOM event containing the data
-     * @param eventType
-     *            the component event type
-     * @return a list of event data objects in the same order as defined in the
-     *         component event constructor
+     * @param source
+     *            the component which is the source of the event
+     * @param eventTypeInfo
+     *            the information about the component event type
+     * @return the source, the client origin flag and the event data objects in
+     *         the same order as defined in the component event constructor
      */
-    private List<Object> createEventDataObjects(DomEvent domEvent,
-            Class<? extends ComponentEvent<?>> eventType) {
-        List<Object> eventDataObjects = new ArrayList<>();
-
-        LinkedHashMap<String, Class<?>> expressions = ComponentEventBusUtil
-                .getEventDataExpressions(eventType);
-        expressions.forEach((expression, type) -> {
-            if (Component.class.isAssignableFrom(type)
-                    || type == Element.class) {
-                eventDataObjects.add(parseStateNodeIdToComponentReference(
-                        domEvent, type, expression));
+    private Object[] createEventParameters(DomEvent domEvent, Component source,
+            ComponentEventBusUtil.EventTypeInfo eventTypeInfo) {
+        String[] expressions = eventTypeInfo.getExpressions();
+        Class<?>[] types = eventTypeInfo.getDataTypes();
+        Object[] params = new Object[expressions.length + 2];
+        params[0] = source;
+        params[1] = Boolean.TRUE; // From client
+        for (int i = 0; i < expressions.length; i++) {
+            if (eventTypeInfo.isElementReference(i)) {
+                params[i + 2] = parseStateNodeIdToComponentReference(domEvent,
+                        types[i], expressions[i]);
             } else {
-                JsonValue jsonValue = domEvent.getEventData().get(expression);
+                JsonValue jsonValue = domEvent.getEventData()
+                        .get(expressions[i]);
                 if (jsonValue == null) {
                     jsonValue = Json.createNull();
                 }
-                Object value = JsonCodec.decodeAs(jsonValue, type);
-                eventDataObjects.add(value);
+                params[i + 2] = JsonCodec.decodeAs(jsonValue, types[i]);
             }
-        });
-        return eventDataObjects;
+        }
+        return params;
     }
 
     private Object parseStateNodeIdToComponentReference(DomEvent event,
@@ -489,28 +488,20 @@ public class ComponentEventBus implements Serializable {
     private <T extends ComponentEvent<?>> T createEventForDomEvent(
             Class<T> eventType, DomEvent domEvent, Component source) {
         try {
-            Constructor<T> c = ComponentEventBusUtil
-                    .getEventConstructor(eventType);
+            ComponentEventBusUtil.EventTypeInfo info = ComponentEventBusUtil
+                    .getEventTypeInfo(eventType);
             // Make sure that the source component type is ok
-            if (!c.getParameterTypes()[0].isAssignableFrom(source.getClass())) {
-                Class<?> definedSourceType = c.getParameterTypes()[0];
+            if (!info.getSourceType().isAssignableFrom(source.getClass())) {
+                Class<?> definedSourceType = info.getSourceType();
                 throw new IllegalArgumentException(String.format(
                         "The event type %s define the source type to be %s, which is not compatible with the used source of type %s",
                         eventType.getName(), definedSourceType.getName(),
                         source.getClass().getName()));
             }
 
-            List<Object> eventData = createEventDataObjects(domEvent,
-                    eventType);
-            Object[] params = new Object[eventData.size() + 2];
-            params[0] = source;
-            params[1] = Boolean.TRUE; // From client
-            for (int i = 0; i < eventData.size(); i++) {
-                params[i + 2] = eventData.get(i);
-            }
-            return c.newInstance(params);
-        } catch (InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException
+            return eventType.cast(info.newInstance(
+                    createEventParameters(domEvent, source, info)));
+        } catch (ReflectiveOperationException | IllegalArgumentException
                 | SecurityException e) {
             throw new IllegalArgumentException(
                     "Unable to create an event object of type "
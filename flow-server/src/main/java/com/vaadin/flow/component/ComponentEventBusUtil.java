@@ -15,13 +15,18 @@
  */
 package com.vaadin.flow.component;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 
 import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.internal.ReflectTools;
 import com.vaadin.flow.internal.ReflectionCache;
 
@@ -44,13 +49,105 @@ public class ComponentEventBusUtil {
     static ReflectionCache<ComponentEvent<?>, EventTypeInfo> cache = new ReflectionCache<>(
             EventTypeInfo::new);
 
-    private static class EventTypeInfo {
+    static final class EventTypeInfo {
         private final LinkedHashMap<String, Class<?>> dataExpressions;
         private final Constructor<? extends ComponentEvent<?>> eventConstructor;
+        private final Class<?> sourceType;
+        private final String[] expressions;
+        private final Class<?>[] dataTypes;
+        private final boolean[] elementReferences;
+        private final MethodHandle factory;
 
         public EventTypeInfo(Class<? extends ComponentEvent<?>> type) {
             eventConstructor = findEventConstructor(type);
             dataExpressions = findEventDataExpressions(eventConstructor);
+            sourceType = eventConstructor.getParameterTypes()[0];
+            expressions = dataExpressions.keySet().toArray(new String[0]);
+            dataTypes = dataExpressions.values().toArray(new Class<?>[0]);
+            elementReferences = new boolean[dataTypes.length];
+            for (int i = 0; i < dataTypes.length; i++) {
+                elementReferences[i] = Component.class.isAssignableFrom(
+                        dataTypes[i]) || dataTypes[i] == Element.class;
+            }
+            factory = createFactory(eventConstructor);
+        }
+
+        /**
+         * Gets the type of the source component accepted by the event
+         * constructor.
+         *
+         * @return the source component type
+         */
+        Class<?> getSourceType() {
+            return sourceType;
+        }
+
+        /**
+         * Gets the event data expressions, in constructor parameter order.
+         *
+         * @return the event data expressions
+         */
+        String[] getExpressions() {
+            return expressions;
+        }
+
+        /**
+         * Gets the event data types, in constructor parameter order.
+         *
+         * @return the event data types
+         */
+        Class<?>[] getDataTypes() {
+            return dataTypes;
+        }
+
+        /**
+         * Checks whether the event data parameter with the given index refers
+         * to an element or a component instead of being decoded from JSON.
+         *
+         * @param index
+         *            the index of the event data parameter
+         * @return <code>true</code> if the parameter is an element or component
+         *         reference, <code>false</code> otherwise
+         */
+        boolean isElementReference(int index) {
+            return elementReferences[index];
+        }
+
+        /**
+         * Creates a new event instance using the DOM event constructor.
+         *
+         * @param parameters
+         *            the constructor parameters
+         * @return the new event instance
+         * @throws ReflectiveOperationException
+         *             if the constructor cannot be invoked or it throws an
+         *             exception
+         */
+        ComponentEvent<?> newInstance(Object[] parameters)
+                throws ReflectiveOperationException {
+            if (factory == null) {
+                return eventConstructor.newInstance(parameters);
+            }
+            try {
+                return (ComponentEvent<?>) factory.invokeExact(parameters);
+            } catch (Throwable throwable) {
+                // Reported the same way as Constructor.newInstance does
+                throw new InvocationTargetException(throwable);
+            }
+        }
+
+        private static MethodHandle createFactory(
+                Constructor<? extends ComponentEvent<?>> constructor) {
+            try {
+                return MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asSpreader(Object[].class,
+                                constructor.getParameterCount())
+                        .asType(MethodType.methodType(ComponentEvent.class,
+                                Object[].class));
+            } catch (IllegalAccessException e) {
+                // Constructor.newInstance reports the failure when used
+                return null;
+            }
         }
     }
 
@@ -106,6 +203,21 @@ public class ComponentEventBusUtil {
         return eventDataExpressions;
     }
 
+    /**
+     * Gets the cached information used for creating component events of the
+     * given type based on DOM events.
+     *
+     * @param eventType
+     *            the component event type
+     * @return the event type information
+     * @throws IllegalArgumentException
+     *             if no suitable constructor was found
+     */
+    static EventTypeInfo getEventTypeInfo(
+            Class<? extends ComponentEvent<?>> eventType) {
+        return cache.get(eventType);
+    }
+
     /**
      * Gets the constructor to use for firing a component event, of the given
      * type, based on a DOM event.
@@ -17,15 +17,13 @@ package com.vaadin.flow.component.internal;
 
 import java.io.File;
 import java.io.Serializable;
+import java.lang.StackWalker.StackFrame;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.WeakHashMap;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.router.internal.AbstractNavigationStateRenderer;
@@ -45,6 +43,8 @@ public class ComponentTracker {
     private static Map<Component, Location> attachLocation = Collections
             .synchronizedMap(new WeakHashMap<>());
 
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
     private static Boolean productionMode = null;
     private static String[] prefixesToSkip = new String[] {
             "com.vaadin.flow.component.", "com.vaadin.flow.di.",
@@ -157,11 +157,9 @@ public class ComponentTracker {
         if (isProductionMode()) {
             return;
         }
-        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-        Location location = findRelevantLocation(component.getClass(), stack,
-                null);
+        Location location = findRelevantLocation(component.getClass(), null);
         if (isNavigatorCreate(location)) {
-            location = findRelevantLocation(null, stack, null);
+            location = findRelevantLocation(null, null);
         }
         createLocation.put(component, location);
     }
@@ -190,11 +188,9 @@ public class ComponentTracker {
         if (isProductionMode()) {
             return;
         }
-        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-
         // In most cases the interesting attach call is found in the same class
         // where the component was created and not in a generic layout class
-        Location location = findRelevantLocation(component.getClass(), stack,
+        Location location = findRelevantLocation(component.getClass(),
                 findCreate(component));
         if (isNavigatorCreate(location)) {
             // For routes, we can just show the init location as we have nothing
@@ -238,30 +234,46 @@ public class ComponentTracker {
                 .equals(AbstractNavigationStateRenderer.class.getName());
     }
 
+    /*
+     * Walks the stack only until the relevant frame is found, instead of
+     * capturing the whole stack trace for every tracked component.
+     */
     private static Location findRelevantLocation(
-            Class<? extends Component> excludeClass, StackTraceElement[] stack,
-            Location preferredClass) {
-        List<StackTraceElement> candidates = Stream.of(stack)
-                .filter(e -> excludeClass == null
-                        || !e.getClassName().equals(excludeClass.getName()))
-                .filter(e -> {
-                    for (String prefixToSkip : prefixesToSkip) {
-                        if (e.getClassName().startsWith(prefixToSkip)) {
-                            return false;
-                        }
+            Class<? extends Component> excludeClass, Location preferredClass) {
+        String excludeClassName = excludeClass == null ? null
+                : excludeClass.getName();
+        String preferredClassName = preferredClass == null ? null
+                : preferredClass.className();
+        StackFrame frame = STACK_WALKER.walk(frames -> {
+            Iterator<StackFrame> candidates = frames
+                    .filter(f -> !f.getClassName().equals(excludeClassName))
+                    .filter(ComponentTracker::isRelevant).iterator();
+            StackFrame firstCandidate = null;
+            while (candidates.hasNext()) {
+                StackFrame candidate = candidates.next();
+                if (firstCandidate == null) {
+                    firstCandidate = candidate;
+                    if (preferredClassName == null) {
+                        break;
                     }
-                    return true;
-                }).collect(Collectors.toList());
-        if (preferredClass != null) {
-            Optional<StackTraceElement> preferredCandidate = candidates.stream()
-                    .filter(e -> e.getClassName()
-                            .equals(preferredClass.className()))
-                    .findFirst();
-            if (preferredCandidate.isPresent()) {
-                return toLocation(preferredCandidate.get());
+                }
+                if (candidate.getClassName().equals(preferredClassName)) {
+                    return candidate;
+                }
+            }
+            return firstCandidate;
+        });
+        return toLocation(frame);
+    }
+
+    private static boolean isRelevant(StackFrame frame) {
+        String className = frame.getClassName();
+        for (String prefixToSkip : prefixesToSkip) {
+            if (className.startsWith(prefixToSkip)) {
+                return false;
             }
         }
-        return toLocation(candidates.stream().findFirst().orElse(null));
+        return true;
     }
 
     /**
@@ -299,15 +311,15 @@ public class ComponentTracker {
         return productionMode;
     }
 
-    private static Location toLocation(StackTraceElement stackTraceElement) {
-        if (stackTraceElement == null) {
+    private static Location toLocation(StackFrame frame) {
+        if (frame == null) {
             return null;
         }
 
-        String className = stackTraceElement.getClassName();
-        String fileName = stackTraceElement.getFileName();
-        String methodName = stackTraceElement.getMethodName();
-        int lineNumber = stackTraceElement.getLineNumber();
+        String className = frame.getClassName();
+        String fileName = frame.getFileName();
+        String methodName = frame.getMethodName();
+        int lineNumber = frame.getLineNumber();
         return new Location(className, fileName, methodName, lineNumber);
     }
 
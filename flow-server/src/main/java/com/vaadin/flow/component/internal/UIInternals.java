@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -51,6 +52,7 @@ import com.vaadin.flow.dom.ElementUtil;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.JavaScriptExpressionPool;
 import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
@@ -75,11 +77,15 @@ import com.vaadin.flow.router.internal.BeforeLeaveHandler;
 import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.ClientTimingsListener;
+import com.vaadin.flow.server.communication.ClientTimingsReport;
 import com.vaadin.flow.server.communication.PushConnection;
 import com.vaadin.flow.server.frontend.BundleUtils;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.shared.communication.PushMode;
 
+import elemental.json.JsonObject;
+
 /**
  * Holds UI-specific methods and data which are intended for internal use by the
  * framework.
@@ -160,6 +166,19 @@ public class UIInternals implements Serializable {
 
     private int serverSyncId = 0;
 
+    /**
+     * The maximum number of messages for which the build time is kept while
+     * waiting for the client to report its timings.
+     */
+    private static final int MAX_TRACKED_BUILD_TIMES = 100;
+
+    /**
+     * Time in nanoseconds spent building recent messages, by sync id. Only
+     * tracked once client timings have been received or a listener has been
+     * added.
+     */
+    private LinkedHashMap<Integer, Long> uidlBuildTimes;
+
     private final StateTree stateTree;
 
     private PushConnection pushConnection = null;
@@ -167,9 +186,16 @@ public class UIInternals implements Serializable {
     /**
      * Timestamp for keeping track of the last heartbeat of the related UI.
      * Updated to the current time whenever the application receives a heartbeat
-     * or UIDL request from the client for the related UI.
+     * or UIDL request from the client for the related UI. Volatile since
+     * heartbeats are recorded without locking the session when possible.
+     */
+    private volatile long lastHeartbeatTimestamp = System.currentTimeMillis();
+
+    /**
+     * The number of registered heartbeat listeners, kept separately so that it
+     * can be read without locking the session.
      */
-    private long lastHeartbeatTimestamp = System.currentTimeMillis();
+    private volatile int heartbeatListenerCount;
 
     private List<PendingJavaScriptInvocation> pendingJsInvocations = new ArrayList<>();
 
@@ -206,6 +232,8 @@ public class UIInternals implements Serializable {
 
     private final ConstantPool constantPool = new ConstantPool();
 
+    private final JavaScriptExpressionPool javaScriptExpressionPool = new JavaScriptExpressionPool();
+
     private byte[] lastProcessedMessageHash = null;
 
     private String contextRootRelativePath;
@@ -334,6 +362,70 @@ public class UIInternals implements Serializable {
         }
     }
 
+    /**
+     * Records the time spent building the message with the given sync id, so
+     * that it can be correlated with the timings later reported by the client.
+     * Does nothing unless client timings are being tracked.
+     *
+     * @param syncId
+     *            the sync id of the message
+     * @param nanos
+     *            the time spent building the message, in nanoseconds
+     */
+    public void recordUidlBuildTime(int syncId, long nanos) {
+        if (uidlBuildTimes != null) {
+            uidlBuildTimes.put(syncId, nanos);
+        }
+    }
+
+    /**
+     * Handles the timings of handling messages reported by the client. The
+     * timings are correlated with the time spent building each message and
+     * passed on to registered client timings listeners.
+     *
+     * @param json
+     *            the client timings JSON, not <code>null</code>
+     * @return the report created from the JSON
+     */
+    public ClientTimingsReport handleClientTimings(JsonObject json) {
+        startTrackingBuildTimes();
+        ClientTimingsReport report = new ClientTimingsReport(json,
+                uidlBuildTimes::remove);
+        if (getLogger().isDebugEnabled()) {
+            report.getMessages().forEach(message -> getLogger()
+                    .debug("Client timings for message {}", message));
+        }
+        getListeners(ClientTimingsListener.class)
+                .forEach(listener -> listener.clientTimingsReceived(report));
+        return report;
+    }
+
+    /**
+     * Adds a listener notified when the client reports the timings of handling
+     * messages from the server.
+     *
+     * @param listener
+     *            the listener to add, not <code>null</code>
+     * @return a handle that can be used for removing the listener
+     */
+    public Registration addClientTimingsListener(
+            ClientTimingsListener listener) {
+        startTrackingBuildTimes();
+        return addListener(ClientTimingsListener.class, listener);
+    }
+
+    private void startTrackingBuildTimes() {
+        if (uidlBuildTimes == null) {
+            uidlBuildTimes = new LinkedHashMap<Integer, Long>() {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Integer, Long> eldest) {
+                    return size() > MAX_TRACKED_BUILD_TIMES;
+                }
+            };
+        }
+    }
+
     /**
      * Returns the timestamp of the last received heartbeat for the related UI.
      * <p>
@@ -369,6 +461,28 @@ public class UIInternals implements Serializable {
                 .forEach(listener -> listener.heartbeat(heartbeatEvent));
     }
 
+    /**
+     * Sets the last heartbeat request timestamp for the related UI unless there
+     * are heartbeat listeners that should be notified. Unlike
+     * {@link #setLastHeartbeatTimestamp(long)}, this method can be called
+     * without holding the session lock.
+     *
+     * @param lastHeartbeat
+     *            The time the last heartbeat request occurred, in milliseconds
+     *            since the epoch.
+     * @return <code>true</code> if the timestamp was updated,
+     *         <code>false</code> if there are heartbeat listeners and
+     *         {@link #setLastHeartbeatTimestamp(long)} should be called with
+     *         the session locked instead
+     */
+    public boolean setLastHeartbeatTimestampIfNoListeners(long lastHeartbeat) {
+        if (heartbeatListenerCount > 0) {
+            return false;
+        }
+        lastHeartbeatTimestamp = lastHeartbeat;
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     private static Class<? extends NodeFeature>[] getRootNodeFeatures() {
         // Start with all element features
@@ -515,7 +629,13 @@ public class UIInternals implements Serializable {
     }
 
     public Registration addHeartbeatListener(HeartbeatListener listener) {
-        return addListener(HeartbeatListener.class, listener);
+        Registration registration = addListener(HeartbeatListener.class,
+                listener);
+        heartbeatListenerCount++;
+        return Registration.once(() -> {
+            registration.remove();
+            heartbeatListenerCount--;
+        });
     }
 
     private <E> Registration addListener(Class<E> handler, E listener) {
@@ -987,6 +1107,16 @@ public class UIInternals implements Serializable {
         return constantPool;
     }
 
+    /**
+     * Gets the pool that is used for keeping track of JavaScript expressions
+     * that have already been sent to the client for this UI.
+     *
+     * @return the JavaScript expression pool to use, not <code>null</code>
+     */
+    public JavaScriptExpressionPool getJavaScriptExpressionPool() {
+        return javaScriptExpressionPool;
+    }
+
     /**
      * Get the latest handled location or empty optional if no active
      * navigation.
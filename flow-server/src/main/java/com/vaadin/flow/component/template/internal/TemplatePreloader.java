@@ -0,0 +1,256 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.template.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.di.Lookup;
+import com.vaadin.flow.di.ResourceProvider;
+import com.vaadin.flow.function.SerializableBiConsumer;
+import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.VaadinService;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+/**
+ * Parses the templates listed in the template index generated by the build in
+ * the background, so that the parsed template data is already cached when a
+ * template is used for the first time.
+ * <p>
+ * The templates are parsed in a single background thread owned by the service,
+ * which is started when the service is initialized and stopped when the service
+ * is destroyed. Since template parsing depends on the dependency filters of the
+ * service, parsing starts once those are available. If they are not available
+ * within a minute, e.g. because the service failed to initialize, nothing is
+ * preloaded and the thread is stopped.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public final class TemplatePreloader {
+
+    private static final String TEMPLATES = "templates";
+
+    private static final long INIT_POLL_INTERVAL_MILLIS = 10;
+
+    private static final long INIT_TIMEOUT_MILLIS = 60_000;
+
+    private TemplatePreloader() {
+        // Only static methods
+    }
+
+    /**
+     * Starts parsing the templates of the given type listed in the template
+     * index in a background thread. Does nothing unless the service is in
+     * production mode and the template index is available.
+     * <p>
+     * Should be called when the service is initialized. The background thread
+     * is stopped when the service is destroyed.
+     *
+     * @param service
+     *            the service to preload templates for, not <code>null</code>
+     * @param templateType
+     *            the base type of the templates to preload, not
+     *            <code>null</code>
+     * @param preloader
+     *            callback which parses and caches the data of a template class,
+     *            not <code>null</code>
+     * @param <T>
+     *            the template type
+     */
+    public static <T> void preloadTemplates(VaadinService service,
+            Class<T> templateType,
+            SerializableBiConsumer<Class<? extends T>, VaadinService> preloader) {
+        preloadTemplates(service, templateType, preloader,
+                INIT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Starts parsing the templates of the given type listed in the template
+     * index in a background thread, giving up if the service is not
+     * initialized within the given time.
+     *
+     * @param service
+     *            the service to preload templates for
+     * @param templateType
+     *            the base type of the templates to preload
+     * @param preloader
+     *            callback which parses and caches the data of a template class
+     * @param initTimeoutMillis
+     *            the maximum time to wait for the service to be initialized
+     * @param <T>
+     *            the template type
+     */
+    static <T> void preloadTemplates(VaadinService service,
+            Class<T> templateType,
+            SerializableBiConsumer<Class<? extends T>, VaadinService> preloader,
+            long initTimeoutMillis) {
+        if (!service.getDeploymentConfiguration().isProductionMode()) {
+            return;
+        }
+        List<String> classNames = readTemplateIndex(service);
+        if (classNames.isEmpty()) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors
+                .newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "Vaadin template preloader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        service.addServiceDestroyListener(event -> executor.shutdownNow());
+        executor.execute(new PreloadTask<>(service, templateType, classNames,
+                preloader, executor,
+                initTimeoutMillis / INIT_POLL_INTERVAL_MILLIS));
+    }
+
+    private static <T> void preload(VaadinService service,
+            Class<T> templateType, List<String> classNames,
+            SerializableBiConsumer<Class<? extends T>, VaadinService> preloader) {
+        VaadinService.setCurrent(service);
+        try {
+            for (String className : classNames) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // The service has been destroyed
+                    return;
+                }
+                Class<?> clazz;
+                try {
+                    clazz = Class.forName(className, false,
+                            service.getClassLoader());
+                } catch (ClassNotFoundException | LinkageError e) {
+                    getLogger().debug("Template class {} is not available",
+                            className, e);
+                    continue;
+                }
+                if (!templateType.isAssignableFrom(clazz)) {
+                    continue;
+                }
+                try {
+                    preloader.accept(clazz.asSubclass(templateType), service);
+                } catch (RuntimeException e) {
+                    // The template is parsed again when it's used, so that
+                    // any error is reported to the user then
+                    getLogger().debug("Unable to preload template {}",
+                            className, e);
+                }
+            }
+        } finally {
+            VaadinService.setCurrent(null);
+        }
+    }
+
+    private static class PreloadTask<T> implements Runnable {
+
+        private final VaadinService service;
+        private final Class<T> templateType;
+        private final List<String> classNames;
+        private final SerializableBiConsumer<Class<? extends T>, VaadinService> preloader;
+        private final ScheduledExecutorService executor;
+        private long pollsLeft;
+
+        private PreloadTask(VaadinService service, Class<T> templateType,
+                List<String> classNames,
+                SerializableBiConsumer<Class<? extends T>, VaadinService> preloader,
+                ScheduledExecutorService executor, long maxPolls) {
+            this.service = service;
+            this.templateType = templateType;
+            this.classNames = classNames;
+            this.preloader = preloader;
+            this.executor = executor;
+            this.pollsLeft = maxPolls;
+        }
+
+        @Override
+        public void run() {
+            if (service.getDependencyFilters() == null) {
+                if (pollsLeft-- > 0) {
+                    // The service is still being initialized
+                    executor.schedule(this, INIT_POLL_INTERVAL_MILLIS,
+                            TimeUnit.MILLISECONDS);
+                } else {
+                    getLogger().debug(
+                            "Service was not initialized in time, templates are not preloaded");
+                    executor.shutdown();
+                }
+                return;
+            }
+            try {
+                preload(service, templateType, classNames, preloader);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Reads the names of the template classes from the template index.
+     *
+     * @param service
+     *            the service to read the index for
+     * @return the template class names, empty if the index is not available
+     */
+    static List<String> readTemplateIndex(VaadinService service) {
+        Lookup lookup = service.getContext().getAttribute(Lookup.class);
+        ResourceProvider resourceProvider = lookup == null ? null
+                : lookup.lookup(ResourceProvider.class);
+        URL index = resourceProvider == null ? null
+                : resourceProvider.getApplicationResource(
+                        Constants.VAADIN_SERVLET_RESOURCES
+                                + Constants.TEMPLATE_INDEX);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        try (InputStream stream = index.openStream()) {
+            JsonObject json = Json
+                    .parse(IOUtils.toString(stream, StandardCharsets.UTF_8));
+            if (!json.hasKey(TEMPLATES)) {
+                return Collections.emptyList();
+            }
+            JsonArray templates = json.getArray(TEMPLATES);
+            List<String> classNames = new ArrayList<>(templates.length());
+            for (int i = 0; i < templates.length(); i++) {
+                classNames.add(templates.getString(i));
+            }
+            return classNames;
+        } catch (IOException | RuntimeException e) {
+            getLogger().warn("Unable to read the template index {}", index, e);
+            return Collections.emptyList();
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(TemplatePreloader.class);
+    }
+}
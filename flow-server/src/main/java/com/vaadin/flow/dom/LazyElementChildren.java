@@ -0,0 +1,277 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.dom;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.vaadin.flow.function.SerializableFunction;
+
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
+/**
+ * Keeps the children of an element in a list of items and only creates child
+ * elements for the range of items which is currently needed in the browser.
+ * <p>
+ * Every child element is a state node which is sent to the browser, so a
+ * container with a very large number of children, e.g. a log viewer, would
+ * otherwise use a lot of memory on the server and bandwidth when attached. With
+ * this helper, only the items in the requested range are turned into child
+ * elements, and the elements are created again if an item is needed after it
+ * has left the range.
+ * <p>
+ * The range can be set from the server using {@link #setRange(int, int)} or
+ * requested by the client-side implementation of the container, typically based
+ * on its scroll position, by dispatching a {@value #RANGE_REQUESTED_EVENT}
+ * event with the range as <code>detail.start</code> and
+ * <code>detail.length</code>. The container element gets the total number of
+ * items in the {@value #ITEM_COUNT_PROPERTY} property and the index of the item
+ * of its first child in the {@value #FIRST_INDEX_PROPERTY} property, so that it
+ * can e.g. reserve space for the items which are not rendered.
+ * <p>
+ * The children of the container are managed by this helper, so no other
+ * children should be added to or removed from the container.
+ *
+ * @param <T>
+ *            the item type
+ * @author Vaadin Ltd
+ * @since
+ */
+public class LazyElementChildren<T> implements Serializable {
+
+    /**
+     * The name of the DOM event with which the client requests a range of
+     * items.
+     */
+    public static final String RANGE_REQUESTED_EVENT = "range-requested";
+
+    /**
+     * The name of the container property holding the total number of items.
+     */
+    public static final String ITEM_COUNT_PROPERTY = "itemCount";
+
+    /**
+     * The name of the container property holding the index of the item of the
+     * first child element.
+     */
+    public static final String FIRST_INDEX_PROPERTY = "firstIndex";
+
+    /**
+     * The default maximum number of child elements created at a time.
+     */
+    public static final int DEFAULT_MAX_RANGE_LENGTH = 500;
+
+    private static final String START_DATA = "event.detail.start";
+    private static final String LENGTH_DATA = "event.detail.length";
+
+    private final Element container;
+    private final SerializableFunction<T, Element> elementFactory;
+
+    private List<T> items = Collections.emptyList();
+    private final List<Element> children = new ArrayList<>();
+    private int firstIndex;
+
+    private int rangeStart;
+    private int rangeLength;
+    private int maxRangeLength = DEFAULT_MAX_RANGE_LENGTH;
+
+    /**
+     * Creates a new helper for managing the children of the given element. Any
+     * existing children of the element are removed.
+     *
+     * @param container
+     *            the element to manage the children of, not <code>null</code>
+     * @param elementFactory
+     *            the function for creating the child element of an item, not
+     *            <code>null</code>
+     */
+    public LazyElementChildren(Element container,
+            SerializableFunction<T, Element> elementFactory) {
+        this.container = Objects.requireNonNull(container,
+                "Container cannot be null");
+        this.elementFactory = Objects.requireNonNull(elementFactory,
+                "Element factory cannot be null");
+
+        container.removeAllChildren();
+        updateProperties();
+
+        container.addEventListener(RANGE_REQUESTED_EVENT, event -> {
+            JsonObject data = event.getEventData();
+            JsonValue start = data.get(START_DATA);
+            JsonValue length = data.get(LENGTH_DATA);
+            if (isNumber(start) && isNumber(length)) {
+                setRange((int) start.asNumber(), (int) length.asNumber());
+            }
+        }).addEventData(START_DATA).addEventData(LENGTH_DATA);
+    }
+
+    /**
+     * Sets the items to show as the children of the container. The child
+     * elements in the current range are created again.
+     *
+     * @param items
+     *            the items to show, not <code>null</code>
+     */
+    public void setItems(Collection<T> items) {
+        Objects.requireNonNull(items, "Items cannot be null");
+        this.items = new ArrayList<>(items);
+
+        container.removeAllChildren();
+        children.clear();
+        updateChildren();
+    }
+
+    /**
+     * Gets the items shown as the children of the container.
+     *
+     * @return an unmodifiable list of the items
+     */
+    public List<T> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Sets the range of items for which child elements are created. Child
+     * elements which are already created for items within the new range are
+     * kept, and the elements of items outside of it are removed.
+     * <p>
+     * The range is limited to the available items and to at most
+     * {@link #getMaxRangeLength()} items. The range is initially empty.
+     *
+     * @param start
+     *            the index of the first item in the range
+     * @param length
+     *            the number of items in the range
+     */
+    public void setRange(int start, int length) {
+        rangeStart = Math.max(0, start);
+        rangeLength = Math.max(0, Math.min(length, maxRangeLength));
+        updateChildren();
+    }
+
+    /**
+     * Sets the maximum number of child elements created at a time. A larger
+     * range requested by the client is cut to this length.
+     *
+     * @param maxRangeLength
+     *            the maximum number of child elements, not negative
+     */
+    public void setMaxRangeLength(int maxRangeLength) {
+        if (maxRangeLength < 0) {
+            throw new IllegalArgumentException(
+                    "Max range length cannot be negative");
+        }
+        this.maxRangeLength = maxRangeLength;
+        if (rangeLength > maxRangeLength) {
+            setRange(rangeStart, maxRangeLength);
+        }
+    }
+
+    /**
+     * Gets the maximum number of child elements created at a time.
+     *
+     * @return the maximum number of child elements
+     * @see #setMaxRangeLength(int)
+     */
+    public int getMaxRangeLength() {
+        return maxRangeLength;
+    }
+
+    /**
+     * Gets the index of the item of the first child element of the container.
+     *
+     * @return the index of the first item with a child element
+     */
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    /**
+     * Gets the child elements which are currently created, in the order of
+     * their items.
+     *
+     * @return an unmodifiable list of the child elements
+     */
+    public List<Element> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    private void updateChildren() {
+        int start = Math.min(rangeStart, items.size());
+        int end = Math.min(start + rangeLength, items.size());
+        int currentEnd = firstIndex + children.size();
+
+        if (end <= firstIndex || start >= currentEnd) {
+            // No overlap with the current children
+            container.removeAllChildren();
+            children.clear();
+            firstIndex = start;
+        } else {
+            if (currentEnd > end) {
+                removeChildren(end - firstIndex, children.size());
+            }
+            if (firstIndex < start) {
+                removeChildren(0, start - firstIndex);
+                firstIndex = start;
+            }
+            if (start < firstIndex) {
+                List<Element> added = createChildren(start, firstIndex);
+                container.insertChild(0, added);
+                children.addAll(0, added);
+                firstIndex = start;
+            }
+        }
+
+        List<Element> added = createChildren(firstIndex + children.size(), end);
+        if (!added.isEmpty()) {
+            container.appendChild(added);
+            children.addAll(added);
+        }
+
+        updateProperties();
+    }
+
+    private void removeChildren(int from, int to) {
+        List<Element> removed = children.subList(from, to);
+        container.removeChild(new ArrayList<>(removed));
+        removed.clear();
+    }
+
+    private List<Element> createChildren(int start, int end) {
+        List<Element> created = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            created.add(
+                    Objects.requireNonNull(elementFactory.apply(items.get(i)),
+                            "Element factory cannot return null"));
+        }
+        return created;
+    }
+
+    private void updateProperties() {
+        container.setProperty(ITEM_COUNT_PROPERTY, items.size());
+        container.setProperty(FIRST_INDEX_PROPERTY, firstIndex);
+    }
+
+    private static boolean isNumber(JsonValue value) {
+        return value != null && value.getType() == JsonType.NUMBER;
+    }
+}
@@ -62,6 +62,11 @@ public interface DeploymentConfiguration
     /**
      * Returns the number of seconds between heartbeat requests of a UI, or a
      * non-positive number if heartbeat is disabled.
+     * <p>
+     * When heartbeat is enabled, inactive UIs and sessions are closed by a
+     * daemon thread, started once per service, that runs at the heartbeat
+     * interval and accesses each session that has something to clean up.
+     * Heartbeat requests themselves never lock the session for the cleanup.
      *
      * @return The time between heartbeats.
      */
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+
+/**
+ * Keeps track of JavaScript expressions that have already been sent to the
+ * client so that repeated invocations of the same expression only need to
+ * transfer the invocation parameters and a numeric reference to the
+ * expression.
+ * <p>
+ * Expressions are identified by their position in the pool. The client assigns
+ * the same positions when importing the expressions in the order they are
+ * dumped, which means that the pool must be dumped exactly once for each
+ * message sent to the client.
+ * <p>
+ * Expressions are kept for the lifetime of the UI both on the server and on the
+ * client, so only expressions which are actually repeated are pooled: an
+ * expression is pooled the second time it's encountered, while one-off
+ * expressions, e.g. built by concatenating data into the expression string,
+ * are sent inline. Expressions longer than {@link #MAX_EXPRESSION_LENGTH}
+ * characters are never pooled, and the pool is bounded both by the number of
+ * expressions and by their total length. Once the pool is full, new
+ * expressions are not pooled and should be sent inline.
+ *
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class JavaScriptExpressionPool implements Serializable {
+
+    /**
+     * The maximum number of distinct expressions kept in a pool.
+     */
+    public static final int MAX_EXPRESSIONS = 1000;
+
+    /**
+     * The maximum total length in characters of the expressions kept in a
+     * pool.
+     */
+    public static final int MAX_TOTAL_LENGTH = 100_000;
+
+    /**
+     * The maximum length in characters of an expression which may be pooled.
+     */
+    public static final int MAX_EXPRESSION_LENGTH = 1000;
+
+    /**
+     * The number of hash codes of expressions seen once which are remembered
+     * for detecting repeated expressions.
+     */
+    private static final int MAX_CANDIDATES = 1000;
+
+    /**
+     * Hash codes of recently seen expressions which are not pooled yet. A hash
+     * collision only makes an expression get pooled on its first occurrence.
+     */
+    private static class Candidates extends LinkedHashMap<Integer, Boolean> {
+        private Candidates() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<Integer, Boolean> eldest) {
+            return size() > MAX_CANDIDATES;
+        }
+    }
+
+    private final Map<String, Integer> expressionIds = new HashMap<>();
+
+    private final List<String> expressions = new ArrayList<>();
+
+    private final Candidates candidates = new Candidates();
+
+    private int totalLength;
+
+    private int dumpedCount;
+
+    /**
+     * Gets the id of the given expression, registering the expression with
+     * this pool if it has already been encountered once before.
+     *
+     * @see #dumpExpressions()
+     *
+     * @param expression
+     *            the expression to get an id for, not <code>null</code>
+     * @return the id of the expression, or <code>-1</code> if the expression
+     *         is not pooled
+     */
+    public int getExpressionId(String expression) {
+        assert expression != null;
+
+        Integer id = expressionIds.get(expression);
+        if (id != null) {
+            return id.intValue();
+        }
+        if (expression.length() > MAX_EXPRESSION_LENGTH
+                || expressions.size() >= MAX_EXPRESSIONS
+                || totalLength + expression.length() > MAX_TOTAL_LENGTH) {
+            return -1;
+        }
+        if (candidates.remove(Integer.valueOf(expression.hashCode())) == null) {
+            // Seen for the first time
+            candidates.put(Integer.valueOf(expression.hashCode()),
+                    Boolean.TRUE);
+            return -1;
+        }
+        totalLength += expression.length();
+        int newId = expressions.size();
+        expressions.add(expression);
+        expressionIds.put(expression, Integer.valueOf(newId));
+        return newId;
+    }
+
+    /**
+     * Gets the expression with the given id.
+     *
+     * @param id
+     *            the id of the expression
+     * @return the expression, or <code>null</code> if there is no expression
+     *         with the given id
+     */
+    public String getExpression(int id) {
+        if (id < 0 || id >= expressions.size()) {
+            return null;
+        }
+        return expressions.get(id);
+    }
+
+    /**
+     * Checks if any new expressions have been added to this pool since the
+     * last time {@link #dumpExpressions()} was called.
+     *
+     * @return <code>true</code> if there are new expressions,
+     *         <code>false</code> otherwise
+     */
+    public boolean hasNewExpressions() {
+        return dumpedCount < expressions.size();
+    }
+
+    /**
+     * Encodes all new expressions to a JSON array in id order and marks those
+     * expressions as non-new.
+     *
+     * @return a JSON array containing all new expressions
+     */
+    public JsonArray dumpExpressions() {
+        JsonArray json = Json.createArray();
+        for (int i = dumpedCount; i < expressions.size(); i++) {
+            json.set(json.length(), expressions.get(i));
+        }
+        dumpedCount = expressions.size();
+        return json;
+    }
+
+}
@@ -17,6 +17,7 @@
 package com.vaadin.flow.internal;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -35,6 +36,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import com.vaadin.flow.shared.JsonConstants;
+
 import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonNumber;
@@ -217,6 +220,109 @@ public final class JsonUtils {
         return true;
     }
 
+    /**
+     * Creates a patch which turns one JSON object or array into another.
+     * <p>
+     * The patch is an array of operations, each of which is an object with a
+     * {@value JsonConstants#PATCH_PATH} array of the object keys and array
+     * indices leading to the changed value:
+     * <ul>
+     * <li>an operation with a {@value JsonConstants#PATCH_VALUE} sets the value
+     * at the path, appending it if the index is the length of the array
+     * <li>an operation with a {@value JsonConstants#PATCH_LENGTH} truncates the
+     * array at the path to the given length
+     * <li>any other operation removes the object key at the path
+     * </ul>
+     * The operations are applied in order and the path of an operation always
+     * has at least one element, except for truncating the root array.
+     *
+     * @param from
+     *            the original value, not <code>null</code>
+     * @param to
+     *            the new value, not <code>null</code>
+     * @return the patch operations, empty if the values are equal, or
+     *         <code>null</code> if the values are not both objects or both
+     *         arrays
+     */
+    public static JsonArray createPatch(JsonValue from, JsonValue to) {
+        assert from != null;
+        assert to != null;
+
+        JsonType type = from.getType();
+        if (type != to.getType()
+                || (type != JsonType.OBJECT && type != JsonType.ARRAY)) {
+            return null;
+        }
+
+        JsonArray patch = Json.createArray();
+        diff(from, to, new ArrayList<>(), patch);
+        return patch;
+    }
+
+    private static void diff(JsonValue from, JsonValue to, List<JsonValue> path,
+            JsonArray patch) {
+        if (from.getType() == JsonType.OBJECT
+                && to.getType() == JsonType.OBJECT) {
+            diffObjects((JsonObject) from, (JsonObject) to, path, patch);
+        } else if (from.getType() == JsonType.ARRAY
+                && to.getType() == JsonType.ARRAY) {
+            diffArrays((JsonArray) from, (JsonArray) to, path, patch);
+        } else if (!jsonEquals(from, to)) {
+            addPatchOperation(patch, path, JsonConstants.PATCH_VALUE, to);
+        }
+    }
+
+    private static void diffObjects(JsonObject from, JsonObject to,
+            List<JsonValue> path, JsonArray patch) {
+        for (String key : from.keys()) {
+            if (!to.hasKey(key)) {
+                path.add(Json.create(key));
+                addPatchOperation(patch, path, null, null);
+                path.remove(path.size() - 1);
+            }
+        }
+        for (String key : to.keys()) {
+            path.add(Json.create(key));
+            if (from.hasKey(key)) {
+                diff(from.get(key), to.get(key), path, patch);
+            } else {
+                addPatchOperation(patch, path, JsonConstants.PATCH_VALUE,
+                        to.get(key));
+            }
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private static void diffArrays(JsonArray from, JsonArray to,
+            List<JsonValue> path, JsonArray patch) {
+        int common = Math.min(from.length(), to.length());
+        if (to.length() < from.length()) {
+            addPatchOperation(patch, path, JsonConstants.PATCH_LENGTH,
+                    Json.create(to.length()));
+        }
+        for (int i = 0; i < to.length(); i++) {
+            path.add(Json.create(i));
+            if (i < common) {
+                diff(from.get(i), to.get(i), path, patch);
+            } else {
+                addPatchOperation(patch, path, JsonConstants.PATCH_VALUE,
+                        to.get(i));
+            }
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private static void addPatchOperation(JsonArray patch, List<JsonValue> path,
+            String key, JsonValue value) {
+        JsonObject operation = Json.createObject();
+        operation.put(JsonConstants.PATCH_PATH,
+                path.stream().collect(asArray()));
+        if (key != null) {
+            operation.put(key, value);
+        }
+        patch.set(patch.length(), operation);
+    }
+
     /**
      * Creates a stream from a JSON array.
      *
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal.change;
+
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.JsonUtils;
+import com.vaadin.flow.internal.nodefeature.NodeFeature;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonValue;
+
+/**
+ * Change describing a changed JSON value in a map feature as a patch to the
+ * value which was previously sent to the client.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class MapPatchChange extends MapPutChange {
+
+    private final JsonArray patch;
+
+    /**
+     * Creates a new patch change.
+     *
+     * @param map
+     *            the changed map
+     * @param key
+     *            the key of the changed value
+     * @param value
+     *            the new value
+     * @param patch
+     *            the operations which turn the previously sent value into the
+     *            new value, see
+     *            {@link JsonUtils#createPatch(JsonValue, JsonValue)}
+     */
+    public MapPatchChange(NodeFeature map, String key, JsonValue value,
+            JsonArray patch) {
+        super(map, key, value);
+
+        assert patch != null;
+
+        this.patch = patch;
+    }
+
+    /**
+     * Gets the patch operations.
+     *
+     * @return the patch operations
+     */
+    public JsonArray getPatch() {
+        return patch;
+    }
+
+    @Override
+    protected void populateValueJson(JsonObject json,
+            ConstantPool constantPool) {
+        json.put(JsonConstants.CHANGE_PUT_PATCH, patch);
+    }
+}
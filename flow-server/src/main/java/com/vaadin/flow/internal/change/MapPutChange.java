@@ -84,6 +84,19 @@ public class MapPutChange extends NodeFeatureChange {
 
         super.populateJson(json, constantPool);
 
+        populateValueJson(json, constantPool);
+    }
+
+    /**
+     * Adds the new value of this change to the JSON representation.
+     *
+     * @param json
+     *            the JSON representation of this change
+     * @param constantPool
+     *            the constant pool to use for encoding the value
+     */
+    protected void populateValueJson(JsonObject json,
+            ConstantPool constantPool) {
         if (value instanceof StateNode) {
             StateNode node = (StateNode) value;
             json.put(JsonConstants.CHANGE_PUT_NODE_VALUE,
@@ -35,9 +35,17 @@ import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.PropertyChangeEvent;
 import com.vaadin.flow.dom.PropertyChangeListener;
 import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.change.MapPatchChange;
+import com.vaadin.flow.internal.change.NodeChange;
 import com.vaadin.flow.shared.Registration;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
 /**
  * Map for element property values.
  * <p>
@@ -59,6 +67,13 @@ public class ElementPropertyMap extends AbstractPropertyMap {
 
     private SerializablePredicate<String> updateFromClientFilter = null;
 
+    /**
+     * Copies of the JSON values last sent to the client for the properties for
+     * which JSON diffs are enabled. A <code>null</code> value means that the
+     * next value is sent in full.
+     */
+    private HashMap<String, JsonValue> sentJsonValues;
+
     private enum AllowUpdate {
         EXPLICITLY_ALLOW, EXPLICITLY_DISALLOW, NO_EXPLICIT_STATUS
     }
@@ -175,6 +190,10 @@ public class ElementPropertyMap extends AbstractPropertyMap {
     private PutResult putWithDeferredChangeEvent(String key, Serializable value,
             boolean emitChange) {
         Serializable oldValue = super.put(key, value, emitChange);
+        if (!emitChange) {
+            // The client value is no longer the one that was sent
+            forgetSentJsonValue(key);
+        }
         boolean valueChanged = !Objects.equals(oldValue, value);
 
         PropertyChangeEvent event;
@@ -191,6 +210,7 @@ public class ElementPropertyMap extends AbstractPropertyMap {
     @Override
     protected Serializable remove(String key) {
         Serializable oldValue = super.remove(key);
+        forgetSentJsonValue(key);
 
         fireEvent(new PropertyChangeEvent(Element.get(getNode()), key, oldValue,
                 true));
@@ -209,9 +229,102 @@ public class ElementPropertyMap extends AbstractPropertyMap {
         if (ALWAYS_GENERATE_CHANGE_PROPERTIES.contains(key)) {
             return true;
         }
+        if (newValue instanceof JsonValue && sentJsonValues != null
+                && sentJsonValues.get(key) != null) {
+            // The value is compared to the sent copy when the change is
+            // created, so that also changes made in place are detected
+            return true;
+        }
         return super.producePutChange(key, hadValueEarlier, newValue);
     }
 
+    @Override
+    protected NodeChange createPutChange(String key, boolean hadValueEarlier,
+            Serializable value) {
+        if (!isJsonDiffEnabled(key)) {
+            return super.createPutChange(key, hadValueEarlier, value);
+        }
+        JsonValue sentValue = sentJsonValues.put(key, null);
+        if (!(value instanceof JsonValue)) {
+            return super.createPutChange(key, hadValueEarlier, value);
+        }
+
+        JsonValue json = (JsonValue) value;
+        JsonArray patch = null;
+        if (hadValueEarlier && sentValue != null) {
+            patch = JsonUtils.createPatch(sentValue, json);
+            if (patch != null && patch.length() == 0) {
+                sentJsonValues.put(key, sentValue);
+                return null;
+            }
+        }
+
+        String fullJson = json.toJson();
+        if (json.getType() == JsonType.OBJECT
+                || json.getType() == JsonType.ARRAY) {
+            sentJsonValues.put(key, Json.instance().parse(fullJson));
+        }
+        if (patch != null && patch.toJson().length() < fullJson.length()) {
+            return new MapPatchChange(this, key, json, patch);
+        }
+        return super.createPutChange(key, hadValueEarlier, value);
+    }
+
+    /**
+     * Sets whether changes to the JSON object or array value of the given
+     * property are sent to the client as differences to the previously sent
+     * value.
+     * <p>
+     * When enabled, a copy of the value sent to the client is kept, and only
+     * the parts of a new value which differ from it are sent, unless sending
+     * the full value would take less space. This is useful for large values of
+     * which only small parts are changed, at the cost of the memory used by the
+     * copy and the time spent on comparing the values. The value may also be
+     * modified in place, as long as it's set again to the property after
+     * modifying it.
+     *
+     * @param name
+     *            the property name, not <code>null</code>
+     * @param enabled
+     *            <code>true</code> to send differences for the property,
+     *            <code>false</code> to always send the full value
+     */
+    public void setJsonDiffEnabled(String name, boolean enabled) {
+        Objects.requireNonNull(name, "Property name cannot be null");
+        if (enabled) {
+            if (sentJsonValues == null) {
+                sentJsonValues = new HashMap<>();
+            }
+            // The value is sent in full the next time it's changed
+            sentJsonValues.putIfAbsent(name, null);
+        } else if (sentJsonValues != null) {
+            sentJsonValues.remove(name);
+            if (sentJsonValues.isEmpty()) {
+                sentJsonValues = null;
+            }
+        }
+    }
+
+    /**
+     * Checks whether changes to the JSON value of the given property are sent
+     * to the client as differences to the previously sent value.
+     *
+     * @param name
+     *            the property name, not <code>null</code>
+     * @return <code>true</code> if differences are sent for the property,
+     *         <code>false</code> if the full value is always sent
+     * @see #setJsonDiffEnabled(String, boolean)
+     */
+    public boolean isJsonDiffEnabled(String name) {
+        return sentJsonValues != null && sentJsonValues.containsKey(name);
+    }
+
+    private void forgetSentJsonValue(String key) {
+        if (isJsonDiffEnabled(key)) {
+            sentJsonValues.put(key, null);
+        }
+    }
+
     private boolean allowUpdateFromClient(String key, Serializable value) {
         AllowUpdate isAllowed = isUpdateFromClientAllowedBeforeFilter(key);
         if (!AllowUpdate.NO_EXPLICIT_STATUS.equals(isAllowed)) {
@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.change.EmptyChange;
 import com.vaadin.flow.internal.change.MapPutChange;
@@ -34,6 +35,8 @@ import com.vaadin.flow.internal.change.MapRemoveChange;
 import com.vaadin.flow.internal.change.NodeChange;
 import com.vaadin.flow.shared.util.UniqueSerializable;
 
+import elemental.json.JsonValue;
+
 /**
  * A state node feature that structures data as a map.
  * <p>
@@ -191,6 +194,12 @@ public abstract class NodeMap extends NodeFeature {
             boolean emitChange) {
         Serializable oldValue = get(key);
         if (!producePutChange(key, contains(key), value)) {
+            if (value != oldValue && value instanceof JsonValue) {
+                // Store the given JSON instance, so that it is the one
+                // returned by get, but leave the change tracker as is since
+                // the client already has an equal value
+                values.set(key, value);
+            }
             return oldValue;
         }
         if (emitChange) {
@@ -423,10 +432,13 @@ public abstract class NodeMap extends NodeFeature {
                 hasChanges = true;
             } else if (containsNow
                     && producePutChange(key, containedEarlier, value)) {
-                Object currentValue = values.get(key);
                 // New or changed value
-                collector.accept(new MapPutChange(this, key, currentValue));
-                hasChanges = true;
+                NodeChange change = createPutChange(key, containedEarlier,
+                        values.get(key));
+                if (change != null) {
+                    collector.accept(change);
+                    hasChanges = true;
+                }
             }
         }
         if (!isPopulated) {
@@ -504,6 +516,10 @@ public abstract class NodeMap extends NodeFeature {
 
     /**
      * Checks whether a {@link MapPutChange} should be produced.
+     * <p>
+     * JSON values are compared by their contents, so that a new JSON instance
+     * equal to the current value is not sent to the client again. Such an
+     * instance is still stored by {@link #put(String, Serializable, boolean)}.
      *
      * @param key
      *            a key to produce a change
@@ -515,7 +531,32 @@ public abstract class NodeMap extends NodeFeature {
      */
     protected boolean producePutChange(String key, boolean hadValueEarlier,
             Serializable newValue) {
-        return !hadValueEarlier || !Objects.equals(newValue, values.get(key));
+        return !hadValueEarlier || !valueEquals(newValue, values.get(key));
+    }
+
+    /**
+     * Creates the change to send to the client for a new or changed value.
+     *
+     * @param key
+     *            the key of the value
+     * @param hadValueEarlier
+     *            whether the client already has a value for the {@code key}
+     * @param value
+     *            the current value for the {@code key}
+     * @return the change to send, or <code>null</code> if the client already
+     *         has the current value
+     */
+    protected NodeChange createPutChange(String key, boolean hadValueEarlier,
+            Serializable value) {
+        return new MapPutChange(this, key, value);
+    }
+
+    private static boolean valueEquals(Serializable value1,
+            Serializable value2) {
+        if (value1 instanceof JsonValue && value2 instanceof JsonValue) {
+            return JsonUtils.jsonEquals((JsonValue) value1, (JsonValue) value2);
+        }
+        return Objects.equals(value1, value2);
     }
 
     // Exposed for testing purposes
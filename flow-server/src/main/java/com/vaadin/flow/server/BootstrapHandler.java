@@ -1318,6 +1318,14 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
             appConfig.put("maxMessageSuspendTimeout",
                     deploymentConfiguration.getMaxMessageSuspendTimeout());
 
+            int messageProcessingSlice = deploymentConfiguration
+                    .getApplicationOrSystemProperty(
+                            InitParameters.SERVLET_PARAMETER_MESSAGE_PROCESSING_SLICE,
+                            0, Integer::parseInt);
+            if (messageProcessingSlice > 0) {
+                appConfig.put("messageProcessingSlice", messageProcessingSlice);
+            }
+
             boolean sendUrlsAsParameters = deploymentConfiguration
                     .isSendUrlsAsParameters();
             if (!sendUrlsAsParameters) {
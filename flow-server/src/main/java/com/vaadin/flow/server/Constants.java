@@ -62,6 +62,14 @@ public final class Constants implements Serializable {
     public static final String TEMPLATE_DIRECTORY = Constants.VAADIN_CONFIGURATION
             + "templates/";
 
+    /**
+     * Resource file listing the template classes whose sources have been copied
+     * to {@link #TEMPLATE_DIRECTORY}, so that their templates can be parsed at
+     * startup in production mode.
+     */
+    public static final String TEMPLATE_INDEX = Constants.VAADIN_CONFIGURATION
+            + "template-index.json";
+
     /**
      * Name of the <code>npm</code> main file.
      */
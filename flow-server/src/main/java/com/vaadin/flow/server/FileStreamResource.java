@@ -0,0 +1,84 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Objects;
+
+/**
+ * Stream resource serving the contents of a file.
+ * <p>
+ * Unlike a {@link StreamResource} backed by an {@link InputStreamFactory}, the
+ * size and the modification time of the content are known up front. This allows
+ * the resource to be downloaded in parts using HTTP range requests, so that
+ * e.g. media players can seek and download managers can resume, and to be
+ * validated using the <code>ETag</code> and <code>Last-Modified</code> headers
+ * so that an unchanged file is not sent again to a browser which has it cached.
+ * <p>
+ * The file is read without holding the session lock.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class FileStreamResource extends StreamResource {
+
+    private final File file;
+
+    private static class FileWriter implements StreamResourceWriter {
+
+        private final File file;
+
+        private FileWriter(File file) {
+            this.file = file;
+        }
+
+        @Override
+        public void accept(OutputStream stream, VaadinSession session)
+                throws IOException {
+            Files.copy(file.toPath(), stream);
+        }
+    }
+
+    /**
+     * Creates a new resource serving the given file.
+     * <p>
+     * {@code name} parameter value will be used in URI (generated when resource
+     * is registered) in a way that the {@code name} is the last segment of the
+     * path. So this is synthetic file name (not real one).
+     *
+     * @param name
+     *            resource file name. May not be null.
+     * @param file
+     *            the file to serve, not <code>null</code>
+     */
+    public FileStreamResource(String name, File file) {
+        super(name, new FileWriter(
+                Objects.requireNonNull(file, "File cannot be null")));
+        this.file = file;
+    }
+
+    /**
+     * Gets the file served by this resource.
+     *
+     * @return the file, not <code>null</code>
+     */
+    public File getFile() {
+        return file;
+    }
+}
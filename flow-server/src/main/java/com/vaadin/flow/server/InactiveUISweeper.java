@@ -0,0 +1,135 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically closes inactive UIs and inactive sessions in a background
+ * thread, so that heartbeat requests do not need to lock the session for
+ * cleaning it up.
+ * <p>
+ * One sweeper, backed by a single daemon thread, is started lazily per service
+ * when the first session is created with heartbeats enabled, and stopped when
+ * the service is destroyed. Each sweep runs the same
+ * {@link VaadinService#cleanupSession(VaadinSession)} as the end of a regular
+ * request does.
+ * <p>
+ * Sessions are checked without locking them, and only sessions that have
+ * something to clean up are accessed through
+ * {@link VaadinSession#access(com.vaadin.flow.server.Command)}. Sessions are
+ * referenced weakly so that sessions that are discarded without being
+ * destroyed, e.g. when passivated, can still be garbage collected.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+final class InactiveUISweeper {
+
+    private final VaadinService service;
+
+    private final Set<VaadinSession> sessions = Collections
+            .synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates and starts a new sweeper for the given service.
+     *
+     * @param service
+     *            the service whose sessions to clean up
+     * @param intervalSeconds
+     *            the interval between sweeps in seconds
+     */
+    InactiveUISweeper(VaadinService service, int intervalSeconds) {
+        this.service = service;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Vaadin inactive UI sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::sweep, intervalSeconds,
+                intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Registers a session to be checked by this sweeper.
+     *
+     * @param session
+     *            the session to register
+     */
+    void register(VaadinSession session) {
+        sessions.add(session);
+    }
+
+    /**
+     * Unregisters a session so that it is no longer checked.
+     *
+     * @param session
+     *            the session to unregister
+     */
+    void unregister(VaadinSession session) {
+        sessions.remove(session);
+    }
+
+    /**
+     * Stops the sweeper.
+     */
+    void stop() {
+        executor.shutdownNow();
+        sessions.clear();
+    }
+
+    /**
+     * Checks all registered sessions and schedules cleanup for the sessions
+     * that need it.
+     */
+    void sweep() {
+        List<VaadinSession> snapshot;
+        synchronized (sessions) {
+            snapshot = new ArrayList<>(sessions);
+        }
+        for (VaadinSession session : snapshot) {
+            try {
+                if (session.getStateWithoutLock() == VaadinSessionState.CLOSED
+                        || session.getSession() == null) {
+                    unregister(session);
+                } else if (service.needsCleanup(session)) {
+                    session.access(() -> service.cleanupSession(session));
+                }
+            } catch (IllegalStateException e) {
+                // The underlying HTTP session has been invalidated
+                unregister(session);
+            } catch (Exception e) {
+                getLogger().warn("Unable to clean up inactive UIs", e);
+            }
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(InactiveUISweeper.class);
+    }
+}
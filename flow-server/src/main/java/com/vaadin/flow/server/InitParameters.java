@@ -59,7 +59,30 @@ public class InitParameters implements Serializable {
     public static final String SERVLET_PARAMETER_SYNC_ID_CHECK = "syncIdCheck";
     public static final String SERVLET_PARAMETER_SEND_URLS_AS_PARAMETERS = "sendUrlsAsParameters";
     public static final String SERVLET_PARAMETER_PUSH_SUSPEND_TIMEOUT_LONGPOLLING = "pushLongPollingSuspendTimeout";
+
+    /**
+     * Configuration name for the maximum size in bytes of the push messages
+     * which may be waiting to be written to a client. While the limit is
+     * exceeded, pushes originating from the server are deferred until the
+     * client has caught up. By default, there is no limit.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_PUSH_MAX_PENDING_BYTES = "pushMaxPendingBytes";
+
     public static final String SERVLET_PARAMETER_MAX_MESSAGE_SUSPEND_TIMEOUT = "maxMessageSuspendTimeout";
+
+    /**
+     * Configuration name for the maximum time in milliseconds that the client
+     * spends on applying a message from the server before yielding to the
+     * browser. When a positive value is set, the DOM updates caused by a large
+     * message are made in multiple parts, while the state tree is still updated
+     * at once. By default, each message is applied at once.
+     *
+     * @since
+     */
+    public static final String SERVLET_PARAMETER_MESSAGE_PROCESSING_SLICE = "messageProcessingSlice";
+
     public static final String SERVLET_PARAMETER_JSBUNDLE = "module.bundle";
     public static final String SERVLET_PARAMETER_POLYFILLS = "module.polyfills";
     public static final String NODE_VERSION = "node.version";
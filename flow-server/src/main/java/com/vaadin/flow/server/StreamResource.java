@@ -69,7 +69,9 @@ public class StreamResource extends AbstractStreamResource {
 
     private static class Pipe implements StreamResourceWriter {
 
-        private static final int BUFFER_SIZE = 1024;
+        private static final int INITIAL_BUFFER_SIZE = 1024;
+
+        private static final int MAX_BUFFER_SIZE = 64 * 1024;
 
         private InputStreamFactory factory;
 
@@ -104,10 +106,15 @@ public class StreamResource extends AbstractStreamResource {
 
         private void copy(VaadinSession session, InputStream source,
                 OutputStream out) throws IOException {
-            byte[] buf = new byte[BUFFER_SIZE];
+            byte[] buf = new byte[INITIAL_BUFFER_SIZE];
             int n;
             while ((n = read(session, source, buf)) >= 0) {
                 out.write(buf, 0, n);
+                // Grow the buffer for large content so that it's copied
+                // with fewer reads and session locks
+                if (n == buf.length && buf.length < MAX_BUFFER_SIZE) {
+                    buf = new byte[buf.length * 2];
+                }
             }
         }
 
@@ -18,8 +18,12 @@ package com.vaadin.flow.server;
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import com.vaadin.flow.server.communication.StreamRequestHandler;
@@ -34,8 +38,32 @@ public class StreamResourceRegistry implements Serializable {
 
     private final Map<URI, AbstractStreamResource> res = new HashMap<>();
 
+    /**
+     * Expiration data of the resources registered using
+     * {@link #registerResource(AbstractStreamResource, Duration)}, in least
+     * recently used order.
+     */
+    private final LinkedHashMap<URI, Expiration> expiring = new LinkedHashMap<>(
+            16, 0.75f, true);
+
+    private int maxExpiringResources = -1;
+
+    private long nextExpirationCheck = Long.MAX_VALUE;
+
     private final VaadinSession session;
 
+    private static final class Expiration implements Serializable {
+
+        private final long timeToLive;
+
+        private long expiresAt;
+
+        private Expiration(long timeToLive, long now) {
+            this.timeToLive = timeToLive;
+            expiresAt = now + timeToLive;
+        }
+    }
+
     private static final class Registration implements StreamRegistration {
 
         private final StreamResourceRegistry registry;
@@ -55,7 +83,7 @@ public class StreamResourceRegistry implements Serializable {
 
         @Override
         public void unregister() {
-            registry.res.remove(getResourceUri());
+            registry.remove(getResourceUri());
         }
 
         @Override
@@ -101,6 +129,96 @@ public class StreamResourceRegistry implements Serializable {
         return registration;
     }
 
+    /**
+     * Registers a stream resource in the session which is unregistered
+     * automatically when it has not been requested for the given time.
+     * <p>
+     * This is useful for resources which are generated on the fly in large
+     * numbers, e.g. an image for each row of a grid, since the resources don't
+     * need to be unregistered explicitly. The number of such resources can also
+     * be limited using {@link #setMaxExpiringResources(int)}, in which case the
+     * least recently requested resources are unregistered when the limit is
+     * exceeded.
+     * <p>
+     * The resource URI is not served by the application after the resource has
+     * been unregistered, so the resource should only be used in places where
+     * it's loaded soon after it's registered, and where a new resource is
+     * registered when the content is needed again.
+     *
+     * @param resource
+     *            stream resource to register
+     * @param timeToLive
+     *            the time since the resource was registered or last requested
+     *            after which it's unregistered, not <code>null</code>
+     * @return registration handler
+     */
+    public StreamRegistration registerResource(AbstractStreamResource resource,
+            Duration timeToLive) {
+        Objects.requireNonNull(timeToLive, "Time to live cannot be null");
+        StreamRegistration registration = registerResource(resource);
+        long now = getCurrentTime();
+        removeExpired(now);
+        Expiration expiration = new Expiration(timeToLive.toMillis(), now);
+        expiring.put(registration.getResourceUri(), expiration);
+        nextExpirationCheck = Math.min(nextExpirationCheck,
+                expiration.expiresAt);
+        if (maxExpiringResources >= 0) {
+            Iterator<URI> iterator = expiring.keySet().iterator();
+            while (expiring.size() > maxExpiringResources) {
+                res.remove(iterator.next());
+                iterator.remove();
+            }
+        }
+        return registration;
+    }
+
+    /**
+     * Sets the maximum number of resources registered using
+     * {@link #registerResource(AbstractStreamResource, Duration)}. When the
+     * limit is exceeded, the least recently requested resources are
+     * unregistered. Other registrations are not affected by the limit.
+     *
+     * @param maxExpiringResources
+     *            the maximum number of expiring resources, or a negative value
+     *            for no limit, which is the default
+     */
+    public void setMaxExpiringResources(int maxExpiringResources) {
+        this.maxExpiringResources = maxExpiringResources;
+    }
+
+    /**
+     * Gets the maximum number of resources registered using
+     * {@link #registerResource(AbstractStreamResource, Duration)}.
+     *
+     * @return the maximum number of expiring resources, or a negative value if
+     *         there is no limit
+     */
+    public int getMaxExpiringResources() {
+        return maxExpiringResources;
+    }
+
+    /**
+     * Gets the number of resources currently registered in this registry,
+     * including stream receivers and expiring resources.
+     *
+     * @return the number of registered resources
+     */
+    public int getResourceCount() {
+        return res.size();
+    }
+
+    /**
+     * Gets the number of resources currently registered using
+     * {@link #registerResource(AbstractStreamResource, Duration)}. Expired
+     * resources which have not yet been unregistered are not counted.
+     *
+     * @return the number of registered expiring resources
+     */
+    public int getExpiringResourceCount() {
+        removeExpired(getCurrentTime());
+        return expiring.size();
+    }
+
     /**
      * Unregister a stream receiver resource.
      *
@@ -108,7 +226,7 @@ public class StreamResourceRegistry implements Serializable {
      *            stream receiver resource to unregister
      */
     public void unregisterResource(StreamReceiver resource) {
-        res.remove(getURI(resource));
+        remove(getURI(resource));
     }
 
     /**
@@ -160,7 +278,7 @@ public class StreamResourceRegistry implements Serializable {
      */
     public Optional<AbstractStreamResource> getResource(URI uri) {
         session.checkHasLock();
-        return Optional.ofNullable(res.get(uri));
+        return Optional.ofNullable(get(uri));
     }
 
     /**
@@ -178,11 +296,57 @@ public class StreamResourceRegistry implements Serializable {
     public <T extends AbstractStreamResource> Optional<T> getResource(
             Class<T> type, URI uri) {
         session.checkHasLock();
-        AbstractStreamResource abstractStreamResource = res.get(uri);
+        AbstractStreamResource abstractStreamResource = get(uri);
         if (abstractStreamResource != null
                 && type.isAssignableFrom(abstractStreamResource.getClass())) {
             return Optional.of((T) abstractStreamResource);
         }
         return Optional.empty();
     }
+
+    /**
+     * Gets the current time in milliseconds, used for expiring resources.
+     *
+     * @return the current time in milliseconds
+     */
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private AbstractStreamResource get(URI uri) {
+        Expiration expiration = expiring.get(uri);
+        if (expiration != null) {
+            long now = getCurrentTime();
+            if (expiration.expiresAt <= now) {
+                remove(uri);
+                return null;
+            }
+            expiration.expiresAt = now + expiration.timeToLive;
+        }
+        return res.get(uri);
+    }
+
+    private void remove(URI uri) {
+        res.remove(uri);
+        expiring.remove(uri);
+    }
+
+    private void removeExpired(long now) {
+        if (now < nextExpirationCheck) {
+            return;
+        }
+        long next = Long.MAX_VALUE;
+        Iterator<Map.Entry<URI, Expiration>> iterator = expiring.entrySet()
+                .iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<URI, Expiration> entry = iterator.next();
+            if (entry.getValue().expiresAt <= now) {
+                res.remove(entry.getKey());
+                iterator.remove();
+            } else {
+                next = Math.min(next, entry.getValue().expiresAt);
+            }
+        }
+        nextExpirationCheck = next;
+    }
 }
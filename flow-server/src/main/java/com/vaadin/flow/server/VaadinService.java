@@ -156,7 +156,7 @@ public abstract class VaadinService implements Serializable {
 
     private transient Iterable<IndexHtmlRequestListener> indexHtmlRequestListeners;
 
-    private Iterable<DependencyFilter> dependencyFilters;
+    private volatile Iterable<DependencyFilter> dependencyFilters;
 
     private boolean atmosphereAvailable = checkAtmosphereSupport();
 
@@ -181,6 +181,8 @@ public abstract class VaadinService implements Serializable {
 
     private VaadinContext vaadinContext;
 
+    private transient volatile InactiveUISweeper inactiveUISweeper;
+
     /**
      * Creates a new vaadin service based on a deployment configuration.
      *
@@ -579,6 +581,20 @@ public abstract class VaadinService implements Serializable {
                 listener -> listener.modifyIndexHtmlResponse(response));
     }
 
+    /**
+     * Checks whether any {@link IndexHtmlRequestListener} has been registered
+     * for this service.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @return <code>true</code> if there are index HTML request listeners,
+     *         <code>false</code> otherwise
+     */
+    public boolean hasIndexHtmlRequestListeners() {
+        return indexHtmlRequestListeners != null
+                && indexHtmlRequestListeners.iterator().hasNext();
+    }
+
     /**
      * Handles destruction of the given session. Internally ensures proper
      * locking is done.
@@ -588,6 +604,10 @@ public abstract class VaadinService implements Serializable {
      */
     public void fireSessionDestroy(VaadinSession vaadinSession) {
         final VaadinSession session = vaadinSession;
+        InactiveUISweeper sweeper = inactiveUISweeper;
+        if (sweeper != null) {
+            sweeper.unregister(session);
+        }
         session.access(() -> {
             if (session.getState() == VaadinSessionState.CLOSED) {
                 return;
@@ -808,8 +828,12 @@ public abstract class VaadinService implements Serializable {
         }
 
         try {
-            return doFindOrCreateVaadinSession(request,
+            VaadinSession session = doFindOrCreateVaadinSession(request,
                     requestCanCreateSession);
+            if (session != null) {
+                registerForCleanup(session);
+            }
+            return session;
         } finally {
             unlockSession(wrappedSession, lock);
         }
@@ -1243,7 +1267,8 @@ public abstract class VaadinService implements Serializable {
     }
 
     /**
-     * Called at the end of a request, after sending the response. Closes
+     * Called at the end of a request, after sending the response, and
+     * periodically by a background sweeper when heartbeats are enabled. Closes
      * inactive UIs in the given session, removes closed UIs from the session,
      * and closes the session if it is itself inactive.
      *
@@ -1279,6 +1304,64 @@ public abstract class VaadinService implements Serializable {
         }
     }
 
+    /**
+     * Registers the session to be cleaned up in the background if heartbeats
+     * are enabled. Assumes the session is locked.
+     *
+     * @param session
+     *            the session to register
+     */
+    private void registerForCleanup(VaadinSession session) {
+        int heartbeatInterval = getDeploymentConfiguration()
+                .getHeartbeatInterval();
+        if (heartbeatInterval <= 0 || !session.markRegisteredForCleanup()) {
+            return;
+        }
+        InactiveUISweeper sweeper = inactiveUISweeper;
+        if (sweeper == null) {
+            synchronized (this) {
+                sweeper = inactiveUISweeper;
+                if (sweeper == null) {
+                    sweeper = new InactiveUISweeper(this, heartbeatInterval);
+                    inactiveUISweeper = sweeper;
+                }
+            }
+        }
+        sweeper.register(session);
+    }
+
+    /**
+     * Checks, without locking the session, whether the given session might have
+     * inactive UIs to close, closed UIs to remove or whether the session itself
+     * might be inactive. A positive result is re-checked by
+     * {@link #cleanupSession(VaadinSession)} with the session locked.
+     *
+     * @param session
+     *            the session to check
+     * @return <code>true</code> if the session should be cleaned up,
+     *         <code>false</code> otherwise
+     */
+    boolean needsCleanup(VaadinSession session) {
+        if (session.getStateWithoutLock() != VaadinSessionState.OPEN) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        WrappedSession wrappedSession = session.getSession();
+        if (wrappedSession != null
+                && getDeploymentConfiguration().isCloseIdleSessions()) {
+            long timeout = 1000L * wrappedSession.getMaxInactiveInterval();
+            if (timeout >= 0 && now
+                    - session.getLastRequestTimestampWithoutLock() >= timeout) {
+                return true;
+            }
+        }
+        long heartbeatTimeout = 1000L * getHeartbeatTimeout();
+        return session.getUIsWithoutLock().stream().anyMatch(ui -> ui
+                .isClosing()
+                || (heartbeatTimeout >= 0 && now - ui.getInternals()
+                        .getLastHeartbeatTimestamp() >= heartbeatTimeout));
+    }
+
     /**
      * Removes those UIs from the given session for which {@link UI#isClosing()
      * isClosing} yields true.
@@ -1438,6 +1521,11 @@ public abstract class VaadinService implements Serializable {
     /**
      * Called after the framework has handled a request and the response has
      * been written.
+     * <p>
+     * When heartbeats are enabled, heartbeat requests do not lock the session
+     * at all, since inactive UIs and sessions are instead closed periodically
+     * in a background thread. The duration of a heartbeat request is therefore
+     * not recorded as the last request duration of the session.
      *
      * @param request
      *            The request object
@@ -1449,7 +1537,12 @@ public abstract class VaadinService implements Serializable {
      */
     public void requestEnd(VaadinRequest request, VaadinResponse response,
             VaadinSession session) {
-        if (session != null) {
+        /*
+         * When heartbeats are enabled, the cleanup after a heartbeat is done by
+         * the inactive UI sweeper
+         */
+        if (session != null && (inactiveUISweeper == null || !HandlerHelper
+                .isRequestType(request, RequestType.HEARTBEAT))) {
             assert VaadinSession.getCurrent() == session;
             session.lock();
             try {
@@ -2066,6 +2159,11 @@ public abstract class VaadinService implements Serializable {
         ServiceDestroyEvent event = new ServiceDestroyEvent(this);
         serviceDestroyListeners
                 .forEach(listener -> listener.serviceDestroy(event));
+        InactiveUISweeper sweeper = inactiveUISweeper;
+        if (sweeper != null) {
+            sweeper.stop();
+            inactiveUISweeper = null;
+        }
     }
 
     /**
@@ -31,6 +31,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
@@ -94,7 +95,11 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
     private LinkedList<RequestHandler> requestHandlers = new LinkedList<>();
 
     private int nextUIId = 0;
-    private transient Map<Integer, UI> uIs = new HashMap<>();
+    /*
+     * Concurrent map so that UIs can be looked up for heartbeat requests and by
+     * the inactive UI sweeper without locking the session.
+     */
+    private transient Map<Integer, UI> uIs = new ConcurrentHashMap<>();
 
     protected WebBrowser browser = new WebBrowser();
 
@@ -102,11 +107,17 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
 
     private long lastRequestDuration = -1;
 
-    private long lastRequestTimestamp = System.currentTimeMillis();
+    private volatile long lastRequestTimestamp = System.currentTimeMillis();
+
+    private volatile VaadinSessionState state = VaadinSessionState.OPEN;
 
-    private VaadinSessionState state = VaadinSessionState.OPEN;
+    private transient volatile WrappedSession session;
 
-    private transient WrappedSession session;
+    /*
+     * Whether this session instance has been registered with the inactive UI
+     * sweeper of the service. Guarded by the session lock.
+     */
+    private transient boolean registeredForCleanup;
 
     private transient VaadinService service;
 
@@ -541,6 +552,68 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         return uIs.get(uiId);
     }
 
+    /**
+     * Returns a UI with the given id without requiring the session to be
+     * locked. The returned UI must not be used for anything that requires the
+     * session lock, and it might be concurrently removed from the session.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @param uiId
+     *            The UI id
+     * @return The UI with the given id or null if not found
+     */
+    public UI getUIByIdWithoutLock(int uiId) {
+        return uIs.get(uiId);
+    }
+
+    /**
+     * Gets all the UIs of this session without requiring the session to be
+     * locked. Only intended for checking whether the session needs to be
+     * cleaned up.
+     *
+     * @return a collection of UIs belonging to this session
+     */
+    Collection<UI> getUIsWithoutLock() {
+        return Collections.unmodifiableCollection(uIs.values());
+    }
+
+    /**
+     * Gets the time when the last request was serviced in this session without
+     * requiring the session to be locked.
+     *
+     * @return The time when the last request was handled, in milliseconds since
+     *         the epoch.
+     */
+    long getLastRequestTimestampWithoutLock() {
+        return lastRequestTimestamp;
+    }
+
+    /**
+     * Gets the lifecycle state of this session without requiring the session to
+     * be locked.
+     *
+     * @return the current state
+     */
+    VaadinSessionState getStateWithoutLock() {
+        return state;
+    }
+
+    /**
+     * Marks this session as registered for cleanup by the service.
+     *
+     * @return <code>true</code> if the session was not registered before,
+     *         <code>false</code> if it was already registered
+     */
+    boolean markRegisteredForCleanup() {
+        checkHasLock();
+        if (registeredForCleanup) {
+            return false;
+        }
+        registeredForCleanup = true;
+        return true;
+    }
+
     /**
      * Checks if the current thread has exclusive access to this
      * <code>VaadinSession</code>.
@@ -1051,7 +1124,8 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         Map<Class<?>, CurrentInstance> old = CurrentInstance.setCurrent(this);
         try {
             stream.defaultReadObject();
-            uIs = (Map<Integer, UI>) stream.readObject();
+            uIs = new ConcurrentHashMap<>(
+                    (Map<Integer, UI>) stream.readObject());
             resourceRegistry = (StreamResourceRegistry) stream.readObject();
             pendingAccessQueue = new ConcurrentLinkedQueue<>();
         } finally {
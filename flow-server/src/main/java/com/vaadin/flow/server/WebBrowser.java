@@ -17,7 +17,10 @@
 package com.vaadin.flow.server;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import com.vaadin.flow.shared.BrowserDetails;
 
@@ -34,6 +37,25 @@ import com.vaadin.flow.shared.BrowserDetails;
  */
 public class WebBrowser implements Serializable {
 
+    static final int MAX_CACHED_BROWSER_DETAILS = 500;
+
+    static final int MAX_CACHED_USER_AGENT_LENGTH = 1024;
+
+    /*
+     * Most sessions are created by a small set of distinct browsers, so the
+     * parsed details are shared between sessions. BrowserDetails cannot be
+     * modified after it has been created.
+     */
+    private static final Map<String, BrowserDetails> browserDetailsCache = Collections
+            .synchronizedMap(
+                    new LinkedHashMap<String, BrowserDetails>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<String, BrowserDetails> eldest) {
+                            return size() > MAX_CACHED_BROWSER_DETAILS;
+                        }
+                    });
+
     private String browserApplication = null;
     private Locale locale = null;
     private String address = null;
@@ -65,8 +87,28 @@ public class WebBrowser implements Serializable {
 
         if (agent != null) {
             browserApplication = agent;
-            browserDetails = new BrowserDetails(agent);
+            browserDetails = getBrowserDetails(agent);
+        }
+    }
+
+    /**
+     * Gets the details parsed from the given user agent, using previously
+     * parsed details for the same user agent if available.
+     *
+     * @param agent
+     *            the user agent string, not <code>null</code>
+     * @return the browser details
+     */
+    static BrowserDetails getBrowserDetails(String agent) {
+        if (agent.length() > MAX_CACHED_USER_AGENT_LENGTH) {
+            return new BrowserDetails(agent);
+        }
+        BrowserDetails details = browserDetailsCache.get(agent);
+        if (details == null) {
+            details = new BrowserDetails(agent);
+            browserDetailsCache.put(agent, details);
         }
+        return details;
     }
 
     /**
@@ -28,6 +28,7 @@ import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.servlet.http.HttpServletRequest;
 
+import com.vaadin.flow.internal.ReflectionCache;
 import com.vaadin.flow.server.VaadinServletRequest;
 
 /**
@@ -55,6 +56,60 @@ import com.vaadin.flow.server.VaadinServletRequest;
  */
 public class AccessAnnotationChecker implements Serializable {
 
+    /**
+     * The access rules of classes, resolved once per class since the security
+     * target and its annotations don't change.
+     */
+    private transient volatile ReflectionCache<Object, AccessRule> classRules;
+
+    /**
+     * The access rule defined by the security annotations of a class or a
+     * method.
+     */
+    private static final class AccessRule implements Serializable {
+
+        private final boolean denyAll;
+
+        private final boolean anonymousAllowed;
+
+        private final boolean permitAll;
+
+        private final String[] rolesAllowed;
+
+        private AccessRule(AnnotatedElement annotatedClassOrMethod) {
+            denyAll = annotatedClassOrMethod.isAnnotationPresent(DenyAll.class);
+            anonymousAllowed = annotatedClassOrMethod
+                    .isAnnotationPresent(AnonymousAllowed.class);
+            permitAll = annotatedClassOrMethod
+                    .isAnnotationPresent(PermitAll.class);
+            RolesAllowed annotation = annotatedClassOrMethod
+                    .getAnnotation(RolesAllowed.class);
+            rolesAllowed = annotation == null ? null : annotation.value();
+        }
+
+        private boolean hasAccess(Principal principal,
+                Function<String, Boolean> roleChecker) {
+            if (denyAll) {
+                return false;
+            }
+            if (anonymousAllowed) {
+                return true;
+            }
+            if (principal == null) {
+                return false;
+            }
+            if (rolesAllowed == null) {
+                return permitAll;
+            }
+            for (String role : rolesAllowed) {
+                if (roleChecker.apply(role)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * Checks if the user defined by the current active servlet request (using
      * {@link HttpServletRequest#getUserPrincipal()} and
@@ -172,7 +227,8 @@ public class AccessAnnotationChecker implements Serializable {
      */
     public boolean hasAccess(Class<?> cls, Principal principal,
             Function<String, Boolean> roleChecker) {
-        return hasAccess(getSecurityTarget(cls), principal, roleChecker);
+        Objects.requireNonNull(cls, "The input Class must not be null.");
+        return getClassRules().get(cls).hasAccess(principal, roleChecker);
     }
 
     /**
@@ -236,34 +292,20 @@ public class AccessAnnotationChecker implements Serializable {
 
     private boolean hasAccess(AnnotatedElement annotatedClassOrMethod,
             Principal principal, Function<String, Boolean> roleChecker) {
-        if (annotatedClassOrMethod.isAnnotationPresent(DenyAll.class)) {
-            return false;
-        }
-        if (annotatedClassOrMethod
-                .isAnnotationPresent(AnonymousAllowed.class)) {
-            return true;
-        }
-        if (principal == null) {
-            return false;
-        }
-        RolesAllowed rolesAllowed = annotatedClassOrMethod
-                .getAnnotation(RolesAllowed.class);
-        if (rolesAllowed == null) {
-            return annotatedClassOrMethod.isAnnotationPresent(PermitAll.class);
-        } else {
-            return roleAllowed(rolesAllowed, roleChecker);
-        }
+        return new AccessRule(annotatedClassOrMethod).hasAccess(principal,
+                roleChecker);
     }
 
-    private boolean roleAllowed(RolesAllowed rolesAllowed,
-            Function<String, Boolean> roleChecker) {
-        for (String role : rolesAllowed.value()) {
-            if (roleChecker.apply(role)) {
-                return true;
-            }
+    private ReflectionCache<Object, AccessRule> getClassRules() {
+        ReflectionCache<Object, AccessRule> rules = classRules;
+        if (rules == null) {
+            // getSecurityTarget may be overridden, so the cache is per
+            // instance
+            rules = new ReflectionCache<>(
+                    cls -> new AccessRule(getSecurityTarget(cls)));
+            classRules = rules;
         }
-
-        return false;
+        return rules;
     }
 
     private boolean hasSecurityAnnotation(AnnotatedElement method) {
@@ -21,19 +21,28 @@ import java.io.ObjectInputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import org.atmosphere.cpr.AtmosphereResource;
 import org.atmosphere.cpr.AtmosphereResource.TRANSPORT;
+import org.atmosphere.cpr.AtmosphereResourceEvent;
+import org.atmosphere.cpr.AtmosphereResourceEventListenerAdapter;
 import org.atmosphere.cpr.BroadcastFilterAdapter;
 import org.atmosphere.util.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.UsageStatistics;
+import com.vaadin.flow.server.InitParameters;
+import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.communication.PushConstants;
 
 import elemental.json.JsonObject;
@@ -42,6 +51,14 @@ import elemental.json.JsonObject;
  * A {@link PushConnection} implementation using the Atmosphere push support
  * that is by default included in Vaadin.
  * <p>
+ * The messages which have been handed over to Atmosphere but not yet written to
+ * the client are tracked for each connection. If the size of these messages
+ * exceeds the limit configured with
+ * {@link InitParameters#SERVLET_PARAMETER_PUSH_MAX_PENDING_BYTES}, pushes
+ * originating from the server are deferred until the client has caught up. A
+ * deferred push is carried out once a message has been written and the pending
+ * messages are again within the limit.
+ * <p>
  * For internal use only. May be renamed or removed in a future release.
  *
  * @author Vaadin Ltd
@@ -56,6 +73,11 @@ public class AtmospherePushConnection implements PushConnection {
     private transient Future<Object> outgoingMessage;
     private transient Object lock = new Object();
     private volatile boolean disconnecting;
+    private transient Deque<PendingMessage> pendingMessages = new ArrayDeque<>();
+    private transient long pendingBytes;
+    private transient long deferredPushes;
+    private transient boolean pushDeferred;
+    private transient long maxPendingBytes = -1;
 
     /**
      * Represents a message that can arrive as multiple fragments.
@@ -195,7 +217,19 @@ public class AtmospherePushConnection implements PushConnection {
                 } else {
                     state = State.RESPONSE_PENDING;
                 }
+            } else if (async && isOutgoingQueueFull()) {
+                // The client is not keeping up. The changes stay in the state
+                // tree and are sent with the next push once the pending
+                // messages have been written, so no resync is needed. A
+                // response to a client request is always sent since the
+                // client waits for it.
+                deferredPushes++;
+                pushDeferred = true;
+                getLogger().debug(
+                        "Deferring push since {} bytes in {} messages are still pending",
+                        pendingBytes, pendingMessages.size());
             } else {
+                pushDeferred = false;
                 try {
                     JsonObject response = new UidlWriter().createUidl(getUI(),
                             async);
@@ -221,6 +255,143 @@ public class AtmospherePushConnection implements PushConnection {
                 new PushMessage(ui.getInternals().getServerSyncId() - 1,
                         message),
                 getResource());
+        if (getMaxPendingBytes() > 0) {
+            removeSentMessages();
+            pendingMessages
+                    .add(new PendingMessage(outgoingMessage, message.length()));
+            pendingBytes += message.length();
+        }
+    }
+
+    /**
+     * Gets the number of messages which have been sent to this connection but
+     * not yet written to the client.
+     * <p>
+     * The messages are only tracked when a limit is configured with
+     * {@link InitParameters#SERVLET_PARAMETER_PUSH_MAX_PENDING_BYTES}.
+     *
+     * @return the number of pending messages
+     */
+    public int getPendingMessageCount() {
+        synchronized (lock) {
+            removeSentMessages();
+            return pendingMessages.size();
+        }
+    }
+
+    /**
+     * Gets the total size of the messages which have been sent to this
+     * connection but not yet written to the client. The size of a message is
+     * approximated by its length in characters.
+     * <p>
+     * The messages are only tracked when a limit is configured with
+     * {@link InitParameters#SERVLET_PARAMETER_PUSH_MAX_PENDING_BYTES}.
+     *
+     * @return the size of the pending messages in bytes
+     */
+    public long getPendingBytes() {
+        synchronized (lock) {
+            removeSentMessages();
+            return pendingBytes;
+        }
+    }
+
+    /**
+     * Gets the number of pushes which have been deferred because the size of
+     * the pending messages exceeded the configured limit.
+     *
+     * @return the number of deferred pushes
+     */
+    public long getDeferredPushCount() {
+        synchronized (lock) {
+            return deferredPushes;
+        }
+    }
+
+    private boolean isOutgoingQueueFull() {
+        long limit = getMaxPendingBytes();
+        if (limit <= 0) {
+            return false;
+        }
+        removeSentMessages();
+        return pendingBytes > limit;
+    }
+
+    private void removeSentMessages() {
+        // Futures are not necessarily completed in order if a write fails
+        Iterator<PendingMessage> iterator = pendingMessages.iterator();
+        while (iterator.hasNext()) {
+            PendingMessage pending = iterator.next();
+            if (pending.future == null || pending.future.isDone()) {
+                pendingBytes -= pending.size;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Called when a message has been written to the given resource. Removes the
+     * oldest pending message and carries out a deferred push if the pending
+     * messages are now within the limit.
+     *
+     * @param writtenTo
+     *            the resource the message was written to
+     */
+    private void messageWritten(AtmosphereResource writtenTo) {
+        boolean pushNow;
+        synchronized (lock) {
+            if (writtenTo != resource) {
+                return;
+            }
+            // Messages are written in the order they are sent. The future of
+            // a written message is completed only after this notification.
+            PendingMessage written = pendingMessages.poll();
+            if (written != null) {
+                pendingBytes -= written.size;
+            }
+            pushNow = pushDeferred && !isOutgoingQueueFull();
+            if (pushNow) {
+                pushDeferred = false;
+            }
+        }
+        VaadinSession session = ui.getSession();
+        if (pushNow && session != null) {
+            session.access(() -> {
+                // The changes may have been pushed in the meantime
+                if (ui.getInternals().isDirty()) {
+                    push(true);
+                }
+            });
+        }
+    }
+
+    private void clearPendingMessages() {
+        pendingMessages.clear();
+        pendingBytes = 0;
+    }
+
+    private long getMaxPendingBytes() {
+        if (maxPendingBytes < 0) {
+            maxPendingBytes = 0;
+            VaadinSession session = ui.getSession();
+            DeploymentConfiguration configuration = session == null ? null
+                    : session.getService().getDeploymentConfiguration();
+            String value = configuration == null ? null
+                    : configuration.getApplicationOrSystemProperty(
+                            InitParameters.SERVLET_PARAMETER_PUSH_MAX_PENDING_BYTES,
+                            null, Function.identity());
+            if (value != null) {
+                try {
+                    maxPendingBytes = Math.max(0, Long.parseLong(value));
+                } catch (NumberFormatException e) {
+                    getLogger().warn(
+                            "Invalid value '{}' for {}, pending push messages are not limited",
+                            value,
+                            InitParameters.SERVLET_PARAMETER_PUSH_MAX_PENDING_BYTES);
+                }
+            }
+        }
+        return maxPendingBytes;
     }
 
     /**
@@ -288,6 +459,7 @@ public class AtmospherePushConnection implements PushConnection {
         this.resource = resource;
         State oldState = state;
         state = State.CONNECTED;
+        resource.addEventListener(new MessageWrittenListener(this, resource));
 
         if (oldState == State.PUSH_PENDING
                 || oldState == State.RESPONSE_PENDING) {
@@ -380,11 +552,19 @@ public class AtmospherePushConnection implements PushConnection {
      */
     public void connectionLost() {
         resource = null;
+        boolean wasDeferred;
+        synchronized (lock) {
+            // Messages to the lost resource will not be written
+            clearPendingMessages();
+            wasDeferred = pushDeferred;
+            pushDeferred = false;
+        }
         if (state == State.CONNECTED) {
             // Guard against connectionLost being (incorrectly) called when
             // state is PUSH_PENDING or RESPONSE_PENDING
             // (http://dev.vaadin.com/ticket/16919)
-            state = State.DISCONNECTED;
+            // A deferred push is done once the client has reconnected
+            state = wasDeferred ? State.PUSH_PENDING : State.DISCONNECTED;
         }
 
     }
@@ -416,6 +596,9 @@ public class AtmospherePushConnection implements PushConnection {
         state = State.DISCONNECTED;
         disconnecting = false;
         lock = new Object();
+        pendingMessages = new ArrayDeque<>();
+        maxPendingBytes = -1;
+        pushDeferred = false;
     }
 
     private static Logger getLogger() {
@@ -434,6 +617,37 @@ public class AtmospherePushConnection implements PushConnection {
                         + " instead (i.e.: logback, log4j, etc)");
     }
 
+    /**
+     * Notifies the connection when a message has been written to the resource
+     * it is registered to.
+     */
+    private static final class MessageWrittenListener extends
+            AtmosphereResourceEventListenerAdapter implements Serializable {
+        private final AtmospherePushConnection connection;
+        private final transient AtmosphereResource resource;
+
+        private MessageWrittenListener(AtmospherePushConnection connection,
+                AtmosphereResource resource) {
+            this.connection = connection;
+            this.resource = resource;
+        }
+
+        @Override
+        public void onBroadcast(AtmosphereResourceEvent event) {
+            connection.messageWritten(resource);
+        }
+    }
+
+    private static final class PendingMessage implements Serializable {
+        private final transient Future<Object> future;
+        private final int size;
+
+        private PendingMessage(Future<Object> future, int size) {
+            this.future = future;
+            this.size = size;
+        }
+    }
+
     static final class PushMessage implements Serializable {
         final int serverSyncId;
         final String message;
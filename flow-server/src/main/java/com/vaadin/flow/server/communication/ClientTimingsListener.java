@@ -0,0 +1,43 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.io.Serializable;
+import java.util.EventListener;
+
+import com.vaadin.flow.component.internal.UIInternals;
+
+/**
+ * Listener notified when the client reports the timings of handling messages
+ * from the server.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @see UIInternals#addClientTimingsListener(ClientTimingsListener)
+ * @author Vaadin Ltd
+ * @since
+ */
+@FunctionalInterface
+public interface ClientTimingsListener extends EventListener, Serializable {
+
+    /**
+     * Invoked when a client timings report has been received.
+     *
+     * @param report
+     *            the received report, not <code>null</code>
+     */
+    void clientTimingsReceived(ClientTimingsReport report);
+}
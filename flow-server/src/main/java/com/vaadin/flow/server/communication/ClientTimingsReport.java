@@ -0,0 +1,253 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import com.vaadin.flow.shared.ApplicationConstants;
+
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
+/**
+ * The timings of handling messages from the server, as reported by the client,
+ * together with the time the server spent building each message.
+ * <p>
+ * The client collects timings only when message timings are enabled, either
+ * through the <code>requestTiming</code> configuration parameter or at runtime
+ * by calling <code>setMessageTimingsEnabled(true)</code> on the client object
+ * in <code>window.Vaadin.Flow.clients</code>. The reports are sent together
+ * with the next message to the server.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+public class ClientTimingsReport implements Serializable {
+
+    /**
+     * Report key of the parse phase.
+     */
+    public static final String PARSE = "parse";
+
+    /**
+     * Report key of the phase applying the state tree changes.
+     */
+    public static final String CHANGES = "changes";
+
+    /**
+     * Report key of the phase updating the DOM based on the changed state tree.
+     */
+    public static final String FLUSH = "flush";
+
+    /**
+     * Report key of the total time of handling a message.
+     */
+    public static final String TOTAL = "total";
+
+    private static final String[] PHASES = { PARSE, CHANGES, FLUSH, TOTAL };
+
+    // Upper bounds for what is accepted from the client, which itself sends
+    // at most 12 histogram buckets and 20 messages
+    private static final int MAX_HISTOGRAM_BUCKETS = 32;
+    private static final int MAX_MESSAGES = 100;
+
+    /**
+     * The timings of handling a single message.
+     */
+    public static class MessageTiming implements Serializable {
+        private final int syncId;
+        private final double[] clientTimes;
+        private final double serverTime;
+
+        private MessageTiming(int syncId, double[] clientTimes,
+                double serverTime) {
+            this.syncId = syncId;
+            this.clientTimes = clientTimes;
+            this.serverTime = serverTime;
+        }
+
+        /**
+         * Gets the sync id of the message.
+         *
+         * @return the server sync id
+         */
+        public int getSyncId() {
+            return syncId;
+        }
+
+        /**
+         * Gets the time the client spent in the given phase.
+         *
+         * @param phase
+         *            the phase, e.g. {@link ClientTimingsReport#PARSE}
+         * @return the time in milliseconds, or <code>0</code> if not reported
+         */
+        public double getClientTime(String phase) {
+            int index = indexOf(phase);
+            return index < clientTimes.length ? clientTimes[index] : 0;
+        }
+
+        /**
+         * Gets the time the server spent building the message.
+         *
+         * @return the time in milliseconds, or <code>-1</code> if not known
+         */
+        public double getServerTime() {
+            return serverTime;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("#").append(syncId)
+                    .append(": server ").append(serverTime).append(" ms");
+            for (String phase : PHASES) {
+                builder.append(", ").append(phase).append(' ')
+                        .append(getClientTime(phase)).append(" ms");
+            }
+            return builder.toString();
+        }
+    }
+
+    private final Map<String, int[]> histograms = new HashMap<>();
+
+    private final List<MessageTiming> messages = new ArrayList<>();
+
+    /**
+     * Creates a report from the JSON sent by the client. Entries of unexpected
+     * types or lengths are ignored, since the JSON is sent by the browser as
+     * is.
+     *
+     * @param json
+     *            the client timings JSON, sent under the
+     *            {@link ApplicationConstants#CLIENT_TIMINGS} key, not
+     *            <code>null</code>
+     * @param serverTimes
+     *            function returning the time in nanoseconds the server spent
+     *            building the message with the given sync id, or
+     *            <code>null</code> if not known
+     */
+    public ClientTimingsReport(JsonObject json, IntFunction<Long> serverTimes) {
+        JsonValue histogramsJson = json.get("histograms");
+        if (histogramsJson != null
+                && histogramsJson.getType() == JsonType.OBJECT) {
+            for (String phase : PHASES) {
+                int[] histogram = parseHistogram(
+                        ((JsonObject) histogramsJson).get(phase));
+                if (histogram != null) {
+                    histograms.put(phase, histogram);
+                }
+            }
+        }
+        JsonValue messagesJson = json.get("messages");
+        if (messagesJson != null && messagesJson.getType() == JsonType.ARRAY) {
+            JsonArray array = (JsonArray) messagesJson;
+            for (int i = 0; i < array.length()
+                    && messages.size() < MAX_MESSAGES; i++) {
+                MessageTiming message = parseMessage(array.get(i), serverTimes);
+                if (message != null) {
+                    messages.add(message);
+                }
+            }
+        }
+    }
+
+    private static int[] parseHistogram(JsonValue value) {
+        if (value == null || value.getType() != JsonType.ARRAY) {
+            return null;
+        }
+        JsonArray array = (JsonArray) value;
+        int[] histogram = new int[Math.min(array.length(),
+                MAX_HISTOGRAM_BUCKETS)];
+        for (int i = 0; i < histogram.length; i++) {
+            if (!isNumber(array.get(i))) {
+                return null;
+            }
+            histogram[i] = (int) array.getNumber(i);
+        }
+        return histogram;
+    }
+
+    private static MessageTiming parseMessage(JsonValue value,
+            IntFunction<Long> serverTimes) {
+        if (value == null || value.getType() != JsonType.ARRAY) {
+            return null;
+        }
+        JsonArray message = (JsonArray) value;
+        if (message.length() == 0 || !isNumber(message.get(0))) {
+            return null;
+        }
+        int syncId = (int) message.getNumber(0);
+        double[] clientTimes = new double[Math.min(PHASES.length,
+                message.length() - 1)];
+        for (int i = 0; i < clientTimes.length; i++) {
+            if (!isNumber(message.get(i + 1))) {
+                return null;
+            }
+            clientTimes[i] = message.getNumber(i + 1);
+        }
+        Long serverNanos = serverTimes.apply(syncId);
+        double serverTime = serverNanos == null ? -1 : serverNanos / 1000000d;
+        return new MessageTiming(syncId, clientTimes, serverTime);
+    }
+
+    private static boolean isNumber(JsonValue value) {
+        return value != null && value.getType() == JsonType.NUMBER;
+    }
+
+    /**
+     * Gets the histogram of the time spent in the given phase. The bucket at
+     * index <code>0</code> counts messages handled in less than 1 ms, and the
+     * bucket at index <code>n</code> counts messages handled in at least
+     * <code>2^(n-1)</code> ms and less than <code>2^n</code> ms. The last
+     * bucket counts all longer times.
+     *
+     * @param phase
+     *            the phase, e.g. {@link #TOTAL}
+     * @return a copy of the histogram, empty if not reported
+     */
+    public int[] getHistogram(String phase) {
+        int[] histogram = histograms.get(phase);
+        return histogram == null ? new int[0] : histogram.clone();
+    }
+
+    /**
+     * Gets the timings of the most recent messages handled by the client.
+     *
+     * @return an unmodifiable list of message timings
+     */
+    public List<MessageTiming> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+
+    private static int indexOf(String phase) {
+        for (int i = 0; i < PHASES.length; i++) {
+            if (PHASES[i].equals(phase)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown phase: " + phase);
+    }
+}
@@ -18,7 +18,8 @@ package com.vaadin.flow.server.communication;
 import java.io.IOException;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
-import java.util.Locale;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jsoup.Jsoup;
@@ -26,11 +27,15 @@ import org.jsoup.nodes.Comment;
 import org.jsoup.nodes.DataNode;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Entities;
+import org.jsoup.nodes.Node;
 import org.jsoup.select.Elements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.component.page.AppShellConfigurator;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.BootstrapHandlerHelper;
 import com.vaadin.flow.internal.BrowserLiveReload;
@@ -39,6 +44,7 @@ import com.vaadin.flow.internal.LocaleUtil;
 import com.vaadin.flow.internal.UsageStatisticsExporter;
 import com.vaadin.flow.internal.springcsrf.SpringCsrfTokenUtil;
 import com.vaadin.flow.server.AppShellRegistry;
+import com.vaadin.flow.server.AppShellSettings;
 import com.vaadin.flow.server.BootstrapHandler;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.Mode;
@@ -48,6 +54,7 @@ import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinServletContext;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.communication.PrecompiledIndexHtml.Slot;
 import com.vaadin.flow.server.frontend.BundleUtils;
 import com.vaadin.flow.server.frontend.FrontendUtils;
 import com.vaadin.flow.server.frontend.ThemeUtils;
@@ -65,6 +72,11 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * to the template provided in the frontend folder. The handler will calculate
  * and inject baseHref as well as the bundle scripts into the template.
  * <p>
+ * The session is locked only while the UI is created and the initial UIDL
+ * changes are collected. Serializing the page and writing it to the response is
+ * done after the session has been unlocked so that parallel page loads for the
+ * same session are not blocked by each other.
+ * <p>
  * For internal use only. May be renamed or removed in a future release.
  */
 public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
@@ -73,27 +85,68 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
     private static final String SCRIPT_INITIAL = "initial";
     public static final String LIVE_RELOAD_PORT_ATTR = "livereload.port";
 
+    /**
+     * Writes a prepared index.html to the response. Invoked without holding the
+     * session lock, so it may only use data that has been collected from the
+     * session while preparing the response.
+     */
+    @FunctionalInterface
+    private interface IndexHtmlWriter {
+        boolean write() throws IOException;
+    }
+
+    @Override
+    public boolean handleRequest(VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        if (!canHandleRequest(request)) {
+            return false;
+        }
+
+        IndexHtmlWriter writer;
+        session.lock();
+        try {
+            writer = prepareIndexHtml(session, request, response);
+        } finally {
+            session.unlock();
+        }
+        return writer.write();
+    }
+
     @Override
     public boolean synchronizedHandleRequest(VaadinSession session,
             VaadinRequest request, VaadinResponse response) throws IOException {
+        return prepareIndexHtml(session, request, response).write();
+    }
+
+    private IndexHtmlWriter prepareIndexHtml(VaadinSession session,
+            VaadinRequest request, VaadinResponse response) throws IOException {
         if (writeErrorCodeIfRequestLocationIsInvalid(request, response)) {
-            return true;
+            return () -> true;
         }
 
         DeploymentConfiguration config = session.getConfiguration();
+        VaadinService service = request.getService();
+
+        if (config.isProductionMode()) {
+            PrecompiledIndexHtml template = getPrecompiledIndexHtml(session,
+                    request);
+            if (template != null) {
+                return preparePrecompiledIndexHtml(template, session, request,
+                        response);
+            }
+        }
+
         IndexHtmlResponse indexHtmlResponse;
 
-        VaadinService service = request.getService();
         Document indexDocument = config.isProductionMode()
                 ? getCachedIndexHtmlDocument(service)
                 : getIndexHtmlDocument(service);
 
-        prependBaseHref(request, indexDocument);
+        prependBaseHref(indexDocument, getServiceUrl(request));
 
         Element htmlElement = indexDocument.getElementsByTag("html").get(0);
         if (!htmlElement.hasAttr("lang")) {
-            Locale locale = LocaleUtil.getLocale(LocaleUtil::getI18NProvider);
-            htmlElement.attr("lang", locale.getLanguage());
+            htmlElement.attr("lang", getLanguage());
         }
 
         JsonObject initialJson = Json.createObject();
@@ -105,12 +158,7 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
             var flowContainerElement = new Element(
                     ui.getInternals().getContainerTag());
             flowContainerElement.attr("id", ui.getInternals().getAppId());
-            Elements outlet = indexDocument.body().select("#outlet");
-            if (!outlet.isEmpty()) {
-                outlet.first().appendChild(flowContainerElement);
-            } else {
-                indexDocument.body().appendChild(flowContainerElement);
-            }
+            appendFlowContainer(indexDocument, flowContainerElement);
             indexHtmlResponse = new IndexHtmlResponse(request, response,
                     indexDocument, ui);
         } else {
@@ -118,16 +166,50 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
                     indexDocument);
         }
 
-        addInitialFlow(initialJson, indexDocument, request);
+        SpringCsrfTokenUtil.addTokenAsMetaTagsToHeadIfPresentInRequest(
+                indexDocument.head(), request);
+        addInitialFlow(indexDocument, getInitialFlowScript(initialJson));
+
+        addRequestIndependentContent(indexDocument, config, session, request);
+
+        // the bootstrap page title could be used as a fallback title to
+        // a server-side route that doesn't have a title
+        storeAppShellTitleToUI(indexDocument);
+
+        response.setContentType(CONTENT_TYPE_TEXT_HTML_UTF_8);
+
+        // this invokes any custom listeners and should be run when the whole
+        // page is constructed
+        service.modifyIndexHtmlResponse(indexHtmlResponse);
+
+        return () -> {
+            try {
+                response.getOutputStream()
+                        .write(indexDocument.html().getBytes(UTF_8));
+            } catch (IOException e) {
+                getLogger().error("Error writing 'index.html' to response", e);
+                return false;
+            }
+            return true;
+        };
+    }
 
+    /**
+     * Adds the content that does not depend on the request, apart from the
+     * service it is handled by, to the given document. The content that depends
+     * on the request must have been added, or marked with
+     * {@link PrecompiledIndexHtml.Slot} markers, before calling this method
+     * since the content is partly added in relation to existing elements.
+     */
+    private void addRequestIndependentContent(Document indexDocument,
+            DeploymentConfiguration config, VaadinSession session,
+            VaadinRequest request) throws IOException {
         configureErrorDialogStyles(indexDocument);
 
         configureHiddenElementStyles(indexDocument);
 
         addStyleTagReferences(indexDocument, config.isProductionMode());
 
-        response.setContentType(CONTENT_TYPE_TEXT_HTML_UTF_8);
-
         VaadinContext context = session.getService().getContext();
         AppShellRegistry registry = AppShellRegistry.getInstance(context);
 
@@ -144,10 +226,6 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         // and on the AppShellConfigurator
         registry.modifyIndexHtml(indexDocument, request);
 
-        // the bootstrap page title could be used as a fallback title to
-        // a server-side route that doesn't have a title
-        storeAppShellTitleToUI(indexDocument);
-
         redirectToOldBrowserPageWhenNeeded(indexDocument);
 
         if (!config.isProductionMode()) {
@@ -166,19 +244,129 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
 
             addLicenseChecker(indexDocument);
         }
+    }
 
-        // this invokes any custom listeners and should be run when the whole
-        // page is constructed
-        service.modifyIndexHtmlResponse(indexHtmlResponse);
+    /**
+     * Gets the precompiled index.html for the service of the request, if the
+     * index.html can be precompiled. This is the case when there are no
+     * {@link IndexHtmlRequestListener}s, dev tools are disabled and the app
+     * shell does not override
+     * {@link AppShellConfigurator#configurePage(AppShellSettings)}, since those
+     * could make the page differ between requests in arbitrary ways.
+     */
+    private PrecompiledIndexHtml getPrecompiledIndexHtml(VaadinSession session,
+            VaadinRequest request) throws IOException {
+        VaadinService service = request.getService();
+        if (service.hasIndexHtmlRequestListeners()
+                || session.getConfiguration().isDevToolsEnabled()
+                || configuresPage(AppShellRegistry
+                        .getInstance(service.getContext()).getShell())) {
+            return null;
+        }
+        IndexHtmlHolder holder = getIndexHtmlHolder(service);
+        if (!holder.precompiled) {
+            holder.precompiledIndexHtml = precompileIndexHtml(
+                    holder.getDocument(), session, request);
+            holder.precompiled = true;
+        }
+        return holder.precompiledIndexHtml;
+    }
 
-        try {
-            response.getOutputStream()
-                    .write(indexDocument.html().getBytes(UTF_8));
-        } catch (IOException e) {
-            getLogger().error("Error writing 'index.html' to response", e);
+    private PrecompiledIndexHtml precompileIndexHtml(Document indexDocument,
+            VaadinSession session, VaadinRequest request) throws IOException {
+        prependBaseHref(indexDocument, Slot.BASE_HREF.getMarker());
+
+        Element htmlElement = indexDocument.getElementsByTag("html").get(0);
+        if (!htmlElement.hasAttr("lang")) {
+            htmlElement.attr("lang", Slot.LANG.getMarker());
+        }
+
+        appendFlowContainer(indexDocument,
+                Slot.FLOW_CONTAINER.createMarkerNode());
+
+        indexDocument.head().insertChildren(0, Slot.CSRF.createMarkerNode());
+        addInitialFlow(indexDocument, Slot.INITIAL_SCRIPT.getMarker());
+
+        addRequestIndependentContent(indexDocument, session.getConfiguration(),
+                session, request);
+
+        return PrecompiledIndexHtml.compile(indexDocument,
+                getTitle(indexDocument));
+    }
+
+    private IndexHtmlWriter preparePrecompiledIndexHtml(
+            PrecompiledIndexHtml template, VaadinSession session,
+            VaadinRequest request, VaadinResponse response) {
+        Map<Slot, String> values = new EnumMap<>(Slot.class);
+        values.put(Slot.BASE_HREF, getServiceUrl(request));
+        values.put(Slot.LANG, getLanguage());
+
+        JsonObject initialJson = Json.createObject();
+        if (request.getService().getBootstrapInitialPredicate()
+                .includeInitialUidl(request)) {
+            includeInitialUidl(initialJson, session, request, response);
+            UIInternals internals = UI.getCurrent().getInternals();
+            String containerTag = internals.getContainerTag();
+            values.put(Slot.FLOW_CONTAINER,
+                    "<" + containerTag + " id=\""
+                            + Entities.escape(internals.getAppId()) + "\"></"
+                            + containerTag + ">");
+            if (template.getTitle() != null) {
+                internals.setAppShellTitle(template.getTitle());
+            }
+        }
+
+        // The initial UIDL may reference values that are still owned by the
+        // session, so it must be stringified before the session is unlocked
+        values.put(Slot.INITIAL_SCRIPT, getInitialFlowScript(initialJson));
+
+        response.setContentType(CONTENT_TYPE_TEXT_HTML_UTF_8);
+
+        return () -> {
+            values.put(Slot.CSRF, getSpringCsrfContent(request));
+            try {
+                template.write(response.getOutputStream(), values);
+            } catch (IOException e) {
+                getLogger().error("Error writing 'index.html' to response", e);
+                return false;
+            }
+            return true;
+        };
+    }
+
+    private static String getSpringCsrfContent(VaadinRequest request) {
+        Document document = Document.createShell("");
+        document.outputSettings().prettyPrint(false);
+        SpringCsrfTokenUtil.addTokenAsMetaTagsToHeadIfPresentInRequest(
+                document.head(), request);
+        return document.head().html();
+    }
+
+    private static boolean configuresPage(
+            Class<? extends AppShellConfigurator> shell) {
+        if (shell == null) {
             return false;
         }
-        return true;
+        try {
+            return shell.getMethod("configurePage", AppShellSettings.class)
+                    .getDeclaringClass() != AppShellConfigurator.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static String getLanguage() {
+        return LocaleUtil.getLocale(LocaleUtil::getI18NProvider).getLanguage();
+    }
+
+    private static void appendFlowContainer(Document indexDocument,
+            Node flowContainer) {
+        Elements outlet = indexDocument.body().select("#outlet");
+        if (!outlet.isEmpty()) {
+            outlet.first().appendChild(flowContainer);
+        } else {
+            indexDocument.body().appendChild(flowContainer);
+        }
     }
 
     private static void addDevBundleTheme(Document document,
@@ -307,15 +495,21 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
 
     private void storeAppShellTitleToUI(Document indexDocument) {
         if (UI.getCurrent() != null) {
-            Element elm = indexDocument.head().selectFirst("title");
-            if (elm != null) {
-                String appShellTitle = elm.text().isEmpty() ? elm.data()
-                        : elm.text();
+            String appShellTitle = getTitle(indexDocument);
+            if (appShellTitle != null) {
                 UI.getCurrent().getInternals().setAppShellTitle(appShellTitle);
             }
         }
     }
 
+    private static String getTitle(Document indexDocument) {
+        Element elm = indexDocument.head().selectFirst("title");
+        if (elm == null) {
+            return null;
+        }
+        return elm.text().isEmpty() ? elm.data() : elm.text();
+    }
+
     private void addDevTools(Document indexDocument,
             DeploymentConfiguration config, VaadinSession session,
             VaadinRequest request) {
@@ -349,18 +543,19 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         }
     }
 
-    private void addInitialFlow(JsonObject initialJson, Document indexDocument,
-            VaadinRequest request) {
-        SpringCsrfTokenUtil.addTokenAsMetaTagsToHeadIfPresentInRequest(
-                indexDocument.head(), request);
+    private static void addInitialFlow(Document indexDocument, String script) {
         Element elm = new Element(SCRIPT);
         elm.attr(SCRIPT_INITIAL, "");
-        elm.appendChild(new DataNode("window.Vaadin = window.Vaadin || {};" + //
-                "window.Vaadin.TypeScript= " + JsonUtil.stringify(initialJson)
-                + ";"));
+        elm.appendChild(new DataNode(script));
         indexDocument.head().insertChildren(0, elm);
     }
 
+    private static String getInitialFlowScript(JsonObject initialJson) {
+        return "window.Vaadin = window.Vaadin || {};" + //
+                "window.Vaadin.TypeScript= " + JsonUtil.stringify(initialJson)
+                + ";";
+    }
+
     private void includeInitialUidl(JsonObject initialJson,
             VaadinSession session, VaadinRequest request,
             VaadinResponse response) {
@@ -397,10 +592,9 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         setupHiddenElement(styles);
     }
 
-    private static void prependBaseHref(VaadinRequest request,
-            Document indexDocument) {
+    private static void prependBaseHref(Document indexDocument,
+            String baseHref) {
         Elements base = indexDocument.head().getElementsByTag("base");
-        String baseHref = getServiceUrl(request);
         if (base.isEmpty()) {
             indexDocument.head().prependElement("base").attr("href", baseHref);
         } else {
@@ -409,8 +603,12 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
     }
 
     private static Document getCachedIndexHtmlDocument(VaadinService service) {
+        return getIndexHtmlHolder(service).getDocument();
+    }
+
+    private static IndexHtmlHolder getIndexHtmlHolder(VaadinService service) {
         return service.getContext().getAttribute(IndexHtmlHolder.class,
-                () -> new IndexHtmlHolder(service)).getDocument();
+                () -> new IndexHtmlHolder(service));
     }
 
     private static Document getIndexHtmlDocument(VaadinService service)
@@ -461,6 +659,11 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
     static final class IndexHtmlHolder implements Serializable {
         private final transient Document indexHtmlDocument;
 
+        // Compiled lazily on the first request that can use it. Compiling
+        // twice in parallel is harmless since the result is the same.
+        private transient volatile PrecompiledIndexHtml precompiledIndexHtml;
+        private transient volatile boolean precompiled;
+
         private IndexHtmlHolder(VaadinService service) {
             try {
                 this.indexHtmlDocument = getIndexHtmlDocument(service);
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.communication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Document;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An index.html document that has been serialized to static byte segments with
+ * slots for the parts that change between requests.
+ * <p>
+ * A template is created by inserting the {@link Slot#getMarker() marker} of
+ * each slot into a document at the location where the per-request content
+ * should be placed, and then {@link #compile(Document, String) compiling} the
+ * document. Rendering the template only concatenates the segments and the slot
+ * values without any DOM manipulation.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ * @since
+ */
+final class PrecompiledIndexHtml implements Serializable {
+
+    private static final String TOKEN_PREFIX = "vaadin-slot-"
+            + UUID.randomUUID().toString().replace("-", "");
+
+    /**
+     * The per-request parts of the index.html.
+     */
+    enum Slot {
+        /**
+         * The value of the base href attribute.
+         */
+        BASE_HREF(true),
+        /**
+         * The value of the lang attribute of the html element.
+         */
+        LANG(true),
+        /**
+         * The contents of the initial script element.
+         */
+        INITIAL_SCRIPT(false),
+        /**
+         * The elements added for the Spring CSRF token.
+         */
+        CSRF(false),
+        /**
+         * The container element of the initial UI.
+         */
+        FLOW_CONTAINER(false);
+
+        private final boolean attributeValue;
+
+        Slot(boolean attributeValue) {
+            this.attributeValue = attributeValue;
+        }
+
+        /**
+         * Gets the text that marks the location of this slot in an attribute
+         * value or in the contents of a script element.
+         *
+         * @return the marker text
+         */
+        String getMarker() {
+            return TOKEN_PREFIX + "-" + name();
+        }
+
+        /**
+         * Creates a comment node that marks the location of this slot among the
+         * child nodes of an element.
+         *
+         * @return the marker node
+         */
+        Comment createMarkerNode() {
+            return new Comment(getMarker());
+        }
+
+        private String getSerializedMarker() {
+            return attributeValue || this == INITIAL_SCRIPT ? getMarker()
+                    : "<!--" + getMarker() + "-->";
+        }
+    }
+
+    private final byte[][] segments;
+
+    private final Slot[] slots;
+
+    private final String title;
+
+    private PrecompiledIndexHtml(byte[][] segments, Slot[] slots,
+            String title) {
+        this.segments = segments;
+        this.slots = slots;
+        this.title = title;
+    }
+
+    /**
+     * Compiles a document containing slot markers into a template.
+     *
+     * @param document
+     *            the document to compile, not <code>null</code>
+     * @param title
+     *            the title of the document, or <code>null</code> if it has no
+     *            title
+     * @return the compiled template, or <code>null</code> if a slot marker
+     *         occurs more than once in the serialized document
+     */
+    static PrecompiledIndexHtml compile(Document document, String title) {
+        String html = document.html();
+
+        Map<Slot, Integer> positions = new EnumMap<>(Slot.class);
+        for (Slot slot : Slot.values()) {
+            String marker = slot.getSerializedMarker();
+            int index = html.indexOf(marker);
+            if (index >= 0) {
+                if (html.indexOf(marker, index + 1) >= 0) {
+                    return null;
+                }
+                positions.put(slot, index);
+            }
+        }
+
+        List<byte[]> segments = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            Slot next = null;
+            for (Map.Entry<Slot, Integer> entry : positions.entrySet()) {
+                if (entry.getValue() >= start && (next == null
+                        || entry.getValue() < positions.get(next))) {
+                    next = entry.getKey();
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            int index = positions.get(next);
+            segments.add(html.substring(start, index).getBytes(UTF_8));
+            slots.add(next);
+            start = index + next.getSerializedMarker().length();
+        }
+        segments.add(html.substring(start).getBytes(UTF_8));
+
+        return new PrecompiledIndexHtml(segments.toArray(new byte[0][]),
+                slots.toArray(new Slot[0]), title);
+    }
+
+    /**
+     * Gets the title of the document.
+     *
+     * @return the title, or <code>null</code> if the document has no title
+     */
+    String getTitle() {
+        return title;
+    }
+
+    /**
+     * Writes the document with the given slot values to the given stream.
+     * Attribute values are escaped, other values are written as is.
+     *
+     * @param out
+     *            the stream to write to
+     * @param values
+     *            the slot values, missing values are written as empty
+     * @throws IOException
+     *             if writing fails
+     */
+    void write(OutputStream out, Map<Slot, String> values) throws IOException {
+        for (int i = 0; i < slots.length; i++) {
+            out.write(segments[i]);
+            String value = values.get(slots[i]);
+            if (value != null && !value.isEmpty()) {
+                if (slots[i].attributeValue) {
+                    value = escapeAttributeValue(value);
+                }
+                out.write(value.getBytes(UTF_8));
+            }
+        }
+        out.write(segments[slots.length]);
+    }
+
+    private static String escapeAttributeValue(String value) {
+        // Use the same escaping as when serializing the document
+        String html = new Attribute("a", value).html();
+        int start = html.indexOf('"');
+        return start < 0 ? "" : html.substring(start + 1, html.length() - 1);
+    }
+}
@@ -50,6 +50,7 @@ import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 import elemental.json.impl.JsonUtil;
 
@@ -189,6 +190,20 @@ public class ServerRpcHandler implements Serializable {
             return json;
         }
 
+        /**
+         * Gets the timings of handling previous messages reported by the
+         * client, if any.
+         *
+         * @return the client timings JSON, or <code>null</code> if the client
+         *         did not report any timings
+         */
+        public JsonObject getClientTimings() {
+            JsonValue timings = json.get(ApplicationConstants.CLIENT_TIMINGS);
+            return timings != null && timings.getType() == JsonType.OBJECT
+                    ? (JsonObject) timings
+                    : null;
+        }
+
         private boolean isUnloadBeaconRequest() {
             return json.hasKey(ApplicationConstants.UNLOAD_BEACON);
         }
@@ -323,6 +338,11 @@ public class ServerRpcHandler implements Serializable {
             handleInvocations(ui, rpcRequest.getRpcInvocationsData());
         }
 
+        JsonObject clientTimings = rpcRequest.getClientTimings();
+        if (clientTimings != null) {
+            ui.getInternals().handleClientTimings(clientTimings);
+        }
+
         if (rpcRequest.isResynchronize()) {
             getLogger().warn("Resynchronizing UI by client's request. "
                     + "A network message was lost before reaching the client and the client is reloading the full UI state. "
@@ -71,7 +71,13 @@ import jakarta.servlet.http.Part;
  */
 public class StreamReceiverHandler implements Serializable {
 
-    private static final int MAX_UPLOAD_BUFFER_SIZE = 4 * 1024;
+    /**
+     * Size of the buffers used for parsing multipart requests and for copying
+     * the uploaded data to the stream variable. Large uploads are copied in
+     * fewer, larger chunks, which reduces the per read overhead of the request
+     * stream and of the multipart boundary scanning.
+     */
+    static final int MAX_UPLOAD_BUFFER_SIZE = 64 * 1024;
 
     static final long DEFAULT_SIZE_MAX = -1;
 
@@ -540,12 +546,9 @@ public class StreamReceiverHandler implements Serializable {
                     totalBytes += bytesReadToBuffer;
                 }
                 if (listenProgress) {
-                    StreamingProgressEventImpl progressEvent = new StreamingProgressEventImpl(
-                            filename, type, contentLength, totalBytes);
-
                     lastStreamingEvent = updateProgress(session, streamVariable,
-                            progressEvent, lastStreamingEvent,
-                            bytesReadToBuffer);
+                            filename, type, contentLength, totalBytes,
+                            lastStreamingEvent, bytesReadToBuffer);
                 }
                 if (streamVariable.isInterrupted()) {
                     throw new UploadInterruptedException();
@@ -597,14 +600,16 @@ public class StreamReceiverHandler implements Serializable {
     }
 
     private long updateProgress(VaadinSession session,
-            StreamVariable streamVariable,
-            StreamingProgressEventImpl progressEvent, long lastStreamingEvent,
+            StreamVariable streamVariable, String filename, String type,
+            long contentLength, long totalBytes, long lastStreamingEvent,
             int bytesReadToBuffer) {
         long now = System.currentTimeMillis();
         // to avoid excessive session locking and event storms,
         // events are sent in intervals, or at the end of the file.
         if (lastStreamingEvent + getProgressEventInterval() <= now
                 || bytesReadToBuffer <= 0) {
+            StreamingProgressEventImpl progressEvent = new StreamingProgressEventImpl(
+                    filename, type, contentLength, totalBytes);
             session.lock();
             try {
                 streamVariable.onProgress(progressEvent);
@@ -632,6 +637,7 @@ public class StreamReceiverHandler implements Serializable {
         upload.setSizeMax(requestSizeMax);
         upload.setFileSizeMax(fileSizeMax);
         upload.setFileCountMax(fileCountMax);
+        upload.setBufferSize(MAX_UPLOAD_BUFFER_SIZE);
         return upload.getItemIterator((HttpServletRequest) request);
     }
 
@@ -17,10 +17,18 @@ package com.vaadin.flow.server.communication;
 
 import jakarta.servlet.ServletContext;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.server.FileStreamResource;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.StreamResourceWriter;
@@ -40,6 +48,14 @@ import com.vaadin.flow.server.VaadinSession;
  */
 public class StreamResourceHandler implements Serializable {
 
+    /**
+     * The maximum size of the buffer used when sending a file. Smaller files
+     * and ranges use a buffer of their own size.
+     */
+    static final int MAX_FILE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String BYTES_UNIT = "bytes";
+
     /**
      * Handle sending for a stream resource request.
      *
@@ -81,6 +97,11 @@ public class StreamResourceHandler implements Serializable {
         } finally {
             session.unlock();
         }
+        if (streamResource instanceof FileStreamResource) {
+            handleFileRequest(request, response,
+                    ((FileStreamResource) streamResource).getFile());
+            return;
+        }
         try (OutputStream outputStream = response.getOutputStream()) {
             try {
                 writer.accept(outputStream, session);
@@ -92,4 +113,182 @@ public class StreamResourceHandler implements Serializable {
             }
         }
     }
+
+    private void handleFileRequest(VaadinRequest request,
+            VaadinResponse response, File file) throws IOException {
+        if (!file.isFile()) {
+            response.setStatus(HttpStatusCode.NOT_FOUND.getCode());
+            return;
+        }
+        long length = file.length();
+        // Remove milliseconds since they are not included in the HTTP dates
+        // sent by the browser
+        long lastModified = file.lastModified();
+        lastModified -= lastModified % 1000;
+        String eTag = '"' + Long.toHexString(length) + '-'
+                + Long.toHexString(lastModified) + '"';
+
+        response.setHeader("Accept-Ranges", BYTES_UNIT);
+        response.setHeader("ETag", eTag);
+        response.setDateHeader("Last-Modified", lastModified);
+
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        long[] range = getRange(request, eTag, lastModified, length);
+        if (range != null) {
+            if (range.length == 0) {
+                response.setHeader("Content-Range",
+                        BYTES_UNIT + " */" + length);
+                response.setStatus(
+                        HttpStatusCode.REQUESTED_RANGE_NOT_SATISFIABLE
+                                .getCode());
+                return;
+            }
+            start = range[0];
+            end = range[1];
+            response.setStatus(HttpStatusCode.PARTIAL_CONTENT.getCode());
+            response.setHeader("Content-Range",
+                    BYTES_UNIT + " " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setHeader("Content-Length", String.valueOf(count));
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ);
+                OutputStream outputStream = response.getOutputStream()) {
+            try {
+                copy(channel, start, count, outputStream);
+            } catch (IOException exception) {
+                if ("Broken pipe".equals(exception.getMessage())) {
+                    // Common when seeking in media
+                    getLogger().debug(
+                            "The client browser has most likely cancelled the request.",
+                            exception);
+                    return;
+                }
+                response.setStatus(
+                        HttpStatusCode.INTERNAL_SERVER_ERROR.getCode());
+                throw exception;
+            }
+        }
+    }
+
+    private static void copy(FileChannel channel, long start, long count,
+            OutputStream outputStream) throws IOException {
+        ByteBuffer buffer = ByteBuffer
+                .allocate((int) Math.min(count, MAX_FILE_BUFFER_SIZE));
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            buffer.clear();
+            if (remaining < buffer.capacity()) {
+                buffer.limit((int) remaining);
+            }
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("The file was truncated while sending");
+            }
+            outputStream.write(buffer.array(), 0, read);
+            position += read;
+            remaining -= read;
+        }
+    }
+
+    private static boolean isNotModified(VaadinRequest request, String eTag,
+            long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            // If-Modified-Since is ignored when If-None-Match is present
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || eTag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = getDateHeader(request, "If-Modified-Since");
+        return ifModifiedSince >= 0 && ifModifiedSince >= lastModified;
+    }
+
+    /**
+     * Gets the byte range requested using the <code>Range</code> header.
+     *
+     * @return <code>null</code> if the whole content should be sent, an empty
+     *         array if the requested range is not satisfiable, otherwise the
+     *         first and the last position of the range
+     */
+    private static long[] getRange(VaadinRequest request, String eTag,
+            long lastModified, long length) {
+        String rangeHeader = request.getHeader("Range");
+        if (rangeHeader == null || !rangeHeader.startsWith(BYTES_UNIT + "=")) {
+            return null;
+        }
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange != null) {
+            boolean unchanged = ifRange.startsWith("\"")
+                    ? eTag.equals(ifRange.trim())
+                    : getDateHeader(request, "If-Range") == lastModified;
+            if (!unchanged) {
+                return null;
+            }
+        }
+        String spec = rangeHeader.substring(BYTES_UNIT.length() + 1).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            // Multiple ranges are not supported, and sending the whole content
+            // is a valid response to them
+            return null;
+        }
+        long start;
+        long end;
+        try {
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? Long.MAX_VALUE
+                        : Long.parseLong(spec.substring(dash + 1));
+            }
+        } catch (NumberFormatException e) {
+            getLogger().debug("Ignoring invalid range {}", rangeHeader, e);
+            return null;
+        }
+        if (start < 0 || end < start) {
+            return null;
+        }
+        if (start >= length) {
+            return new long[0];
+        }
+        return new long[] { start, Math.min(end, length - 1) };
+    }
+
+    private static long getDateHeader(VaadinRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            getLogger().trace("Unable to parse {}", name, e);
+            return -1;
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(StreamResourceHandler.class.getName());
+    }
 }
@@ -144,7 +144,7 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
     void writeUidl(UI ui, Writer writer, boolean resync) throws IOException {
         JsonObject uidl = createUidl(ui, resync);
 
-        removeOffendingMprHashFragment(uidl);
+        removeOffendingMprHashFragment(uidl, ui);
 
         // some dirt to prevent cross site scripting
         String responseString = "for(;;);[" + uidl.toJson() + "]";
@@ -218,7 +218,7 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         outputStream.flush();
     }
 
-    private void removeOffendingMprHashFragment(JsonObject uidl) {
+    private void removeOffendingMprHashFragment(JsonObject uidl, UI ui) {
         if (!uidl.hasKey(EXECUTE)) {
             return;
         }
@@ -229,10 +229,10 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         for (int i = 0; i < exec.length(); i++) {
             JsonArray arr = exec.get(i);
             for (int j = 0; j < arr.length(); j++) {
-                if (!arr.get(j).getType().equals(JsonType.STRING)) {
+                String script = getScript(arr, j, ui);
+                if (script == null) {
                     continue;
                 }
-                String script = arr.getString(j);
                 if (script.contains("history.pushState")) {
                     idx = i;
                     continue;
@@ -265,6 +265,19 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         }
     }
 
+    private static String getScript(JsonArray invocation, int index, UI ui) {
+        JsonType type = invocation.get(index).getType();
+        if (type.equals(JsonType.STRING)) {
+            return invocation.getString(index);
+        }
+        if (type.equals(JsonType.NUMBER) && index == invocation.length() - 1) {
+            // Pooled expression, see UidlWriter
+            return ui.getInternals().getJavaScriptExpressionPool()
+                    .getExpression((int) invocation.getNumber(index));
+        }
+        return null;
+    }
+
     private String removeHashInV7Uidl(JsonObject json) {
         String removed = null;
         JsonArray changes = json.getArray(CHANGES);
@@ -44,6 +44,7 @@ import com.vaadin.flow.component.internal.DependencyList;
 import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
 import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.JavaScriptExpressionPool;
 import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateNode;
@@ -134,6 +135,7 @@ public class UidlWriter implements Serializable {
      * @return JSON object containing the UIDL response
      */
     public JsonObject createUidl(UI ui, boolean async, boolean resync) {
+        long start = System.nanoTime();
         JsonObject response = Json.createObject();
 
         UIInternals uiInternals = ui.getInternals();
@@ -183,8 +185,15 @@ public class UidlWriter implements Serializable {
         List<PendingJavaScriptInvocation> executeJavaScriptList = uiInternals
                 .dumpPendingJavaScriptInvocations();
         if (!executeJavaScriptList.isEmpty()) {
-            response.put(JsonConstants.UIDL_KEY_EXECUTE,
-                    encodeExecuteJavaScriptList(executeJavaScriptList));
+            JavaScriptExpressionPool expressionPool = uiInternals
+                    .getJavaScriptExpressionPool();
+            JsonArray executeJson = encodeExecuteJavaScriptList(
+                    executeJavaScriptList, expressionPool);
+            if (expressionPool.hasNewExpressions()) {
+                response.put(JsonConstants.UIDL_KEY_EXECUTE_EXPRESSIONS,
+                        expressionPool.dumpExpressions());
+            }
+            response.put(JsonConstants.UIDL_KEY_EXECUTE, executeJson);
         }
         if (service.getDeploymentConfiguration().isRequestTiming()) {
             response.put("timings", createPerformanceData(ui));
@@ -197,6 +206,7 @@ public class UidlWriter implements Serializable {
                 ? uiInternals.getServerSyncId()
                 : -1;
         response.put(ApplicationConstants.SERVER_SYNC_ID, syncId);
+        uiInternals.recordUidlBuildTime(syncId, System.nanoTime() - start);
         uiInternals.incrementServerId();
         return response;
     }
@@ -304,8 +314,28 @@ public class UidlWriter implements Serializable {
     // non-private for testing purposes
     static JsonArray encodeExecuteJavaScriptList(
             List<PendingJavaScriptInvocation> executeJavaScriptList) {
+        return encodeExecuteJavaScriptList(executeJavaScriptList, null);
+    }
+
+    /**
+     * Encodes the given invocations. Expressions that are registered in the
+     * given pool are encoded as a numeric reference to the pooled expression
+     * instead of the expression itself.
+     *
+     * @param executeJavaScriptList
+     *            the invocations to encode
+     * @param expressionPool
+     *            the expression pool to use, or <code>null</code> to always
+     *            encode expressions inline
+     * @return a JSON array containing the encoded invocations
+     */
+    // non-private for testing purposes
+    static JsonArray encodeExecuteJavaScriptList(
+            List<PendingJavaScriptInvocation> executeJavaScriptList,
+            JavaScriptExpressionPool expressionPool) {
         return executeJavaScriptList.stream()
-                .map(UidlWriter::encodeExecuteJavaScript)
+                .map(invocation -> encodeExecuteJavaScript(invocation,
+                        expressionPool))
                 .collect(JsonUtils.asArray());
     }
 
@@ -326,7 +356,8 @@ public class UidlWriter implements Serializable {
     }
 
     private static JsonArray encodeExecuteJavaScript(
-            PendingJavaScriptInvocation invocation) {
+            PendingJavaScriptInvocation invocation,
+            JavaScriptExpressionPool expressionPool) {
         List<Object> parametersList = invocation.getInvocation()
                 .getParameters();
 
@@ -368,13 +399,25 @@ public class UidlWriter implements Serializable {
             //@formatter:on
         }
 
-        // [argument1, argument2, ..., script]
+        // [argument1, argument2, ..., script or pooled script id]
         return Stream
                 .concat(parameters.map(JsonCodec::encodeWithTypeInfo),
-                        Stream.of(Json.create(expression)))
+                        Stream.of(encodeExpression(expression,
+                                expressionPool)))
                 .collect(JsonUtils.asArray());
     }
 
+    private static JsonValue encodeExpression(String expression,
+            JavaScriptExpressionPool expressionPool) {
+        if (expressionPool != null) {
+            int id = expressionPool.getExpressionId(expression);
+            if (id >= 0) {
+                return Json.create(id);
+            }
+        }
+        return Json.create(expression);
+    }
+
     /**
      * Encodes the state tree changes of the given UI. The executions registered
      * at
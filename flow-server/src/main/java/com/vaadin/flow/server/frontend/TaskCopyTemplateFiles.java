@@ -20,8 +20,10 @@ import java.io.IOException;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -32,10 +34,19 @@ import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.ExecutionFailedException;
 import com.vaadin.flow.server.frontend.scanner.ClassFinder;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.impl.JsonUtil;
+
 /**
  * Copies template files to the target folder so as to be available for parsing
  * at runtime in production mode.
  * <p>
+ * For production builds, the names of the template classes are written to
+ * {@link Constants#TEMPLATE_INDEX} so that the templates can be parsed when the
+ * application starts instead of when each template is first used.
+ * <p>
  * For internal use only. May be renamed or removed in a future release.
  */
 public class TaskCopyTemplateFiles implements FallibleCommand {
@@ -60,9 +71,14 @@ public class TaskCopyTemplateFiles implements FallibleCommand {
             throw new ExecutionFailedException(e);
         }
 
+        File outputDirectory = options.isDevBundleBuild()
+                ? DevBundleUtils.getDevBundleFolder(options.getNpmFolder())
+                : options.getResourceOutputDirectory();
+        Set<String> templateClasses = new TreeSet<>();
         for (Class<?> clazz : classes) {
             for (Annotation jsmAnnotation : clazz
                     .getAnnotationsByType(jsModuleAnnotationClass)) {
+                templateClasses.add(clazz.getName());
                 String path = getJsModuleAnnotationValue(jsmAnnotation);
                 File source = FrontendUtils.resolveFrontendPath(
                         options.getNpmFolder(), path,
@@ -72,18 +88,8 @@ public class TaskCopyTemplateFiles implements FallibleCommand {
                             "Unable to locate file " + path);
                 }
 
-                File templateDirectory;
-                if (options.isDevBundleBuild()) {
-                    templateDirectory = new File(
-                            DevBundleUtils
-                                    .getDevBundleFolder(options.getNpmFolder()),
-                            Constants.TEMPLATE_DIRECTORY);
-                } else {
-
-                    templateDirectory = new File(
-                            options.getResourceOutputDirectory(),
-                            Constants.TEMPLATE_DIRECTORY);
-                }
+                File templateDirectory = new File(outputDirectory,
+                        Constants.TEMPLATE_DIRECTORY);
                 File target = new File(templateDirectory, path).getParentFile();
                 target.mkdirs();
                 try {
@@ -93,6 +99,28 @@ public class TaskCopyTemplateFiles implements FallibleCommand {
                 }
             }
         }
+        if (!options.isDevBundleBuild()) {
+            // Templates are only preloaded in production mode
+            writeTemplateIndex(
+                    new File(outputDirectory, Constants.TEMPLATE_INDEX),
+                    templateClasses);
+        }
+    }
+
+    private void writeTemplateIndex(File indexFile, Set<String> templateClasses)
+            throws ExecutionFailedException {
+        JsonArray classNames = Json.createArray();
+        for (String className : templateClasses) {
+            classNames.set(classNames.length(), className);
+        }
+        JsonObject index = Json.createObject();
+        index.put("templates", classNames);
+        try {
+            FileUtils.write(indexFile, JsonUtil.stringify(index, 2) + "\n",
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ExecutionFailedException(e);
+        }
     }
 
     private String getJsModuleAnnotationValue(Annotation jsmAnnotation)
@@ -220,4 +220,11 @@ public class ApplicationConstants implements Serializable {
      */
     public static final String UNLOAD_BEACON = "UNLOAD";
 
+    /**
+     * The name of the parameter used for sending the timings of handling
+     * previous messages from the server, collected by the client when message
+     * timings are enabled.
+     */
+    public static final String CLIENT_TIMINGS = "clientTimings";
+
 }
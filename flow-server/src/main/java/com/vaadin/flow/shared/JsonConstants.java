@@ -124,6 +124,27 @@ public class JsonConstants implements Serializable {
      */
     public static final String CHANGE_PUT_NODE_VALUE = "nodeValue";
 
+    /**
+     * Key holding the operations to apply to the current JSON value of a put
+     * change.
+     */
+    public static final String CHANGE_PUT_PATCH = "patch";
+
+    /**
+     * Key holding the path of the changed value in a patch operation.
+     */
+    public static final String PATCH_PATH = "path";
+
+    /**
+     * Key holding the new value in a patch operation.
+     */
+    public static final String PATCH_VALUE = "value";
+
+    /**
+     * Key holding the new length of a truncated array in a patch operation.
+     */
+    public static final String PATCH_LENGTH = "length";
+
     /**
      * Key holding the type in of messages sent from the client.
      */
@@ -165,6 +186,13 @@ public class JsonConstants implements Serializable {
      */
     public static final String UIDL_KEY_EXECUTE = "execute";
 
+    /**
+     * Key used for JavaScript expressions that are sent once and then
+     * referenced by their index from {@link #UIDL_KEY_EXECUTE} invocations in
+     * UIDL messages.
+     */
+    public static final String UIDL_KEY_EXECUTE_EXPRESSIONS = "executeExpressions";
+
     /**
      * Key used to hold the feature id when synchronizing node values.
      */
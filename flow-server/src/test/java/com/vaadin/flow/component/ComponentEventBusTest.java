@@ -99,6 +99,15 @@ public class ComponentEventBusTest {
 
     }
 
+    @com.vaadin.flow.component.DomEvent("dom-event")
+    public static class ThrowingDomEvent extends ComponentEvent<Component> {
+
+        public ThrowingDomEvent(Component source, boolean fromClient) {
+            super(source, fromClient);
+            throw new IllegalStateException("Event failed");
+        }
+    }
+
     private void fireDomEvent(Component component, String domEvent,
             JsonObject eventData) {
         Element e = component.getElement();
@@ -563,6 +572,23 @@ public class ComponentEventBusTest {
         eventTracker2.assertEventCalled(component, true);
     }
 
+    @Test
+    public void mappedDomEvent_constructorThrows_exceptionWrapped() {
+        TestComponent component = new TestComponent();
+        component.addListener(ThrowingDomEvent.class, event -> {
+        });
+
+        IllegalArgumentException exception = Assert.assertThrows(
+                IllegalArgumentException.class, () -> fireDomEvent(component,
+                        "dom-event", Json.createObject()));
+        Assert.assertEquals(
+                "Unable to create an event object of type "
+                        + ThrowingDomEvent.class.getName(),
+                exception.getMessage());
+        Assert.assertEquals("Event failed",
+                exception.getCause().getCause().getMessage());
+    }
+
     @Test
     public void multipleListenersForSameEvent_fireEvent() {
         TestComponent component = new TestComponent();
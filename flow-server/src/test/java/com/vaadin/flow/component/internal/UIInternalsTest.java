@@ -36,10 +36,13 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.server.VaadinContext;
 import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.communication.ClientTimingsReport;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.shared.communication.PushMode;
 import com.vaadin.tests.util.AlwaysLockedVaadinSession;
 
+import elemental.json.Json;
+
 public class UIInternalsTest {
 
     @Mock
@@ -149,6 +152,75 @@ public class UIInternalsTest {
                 1, heartbeats.size());
     }
 
+    @Test
+    public void clientTimingsReported_correlatedWithBuildTimeAndListenersCalled() {
+        List<ClientTimingsReport> reports = new ArrayList<>();
+        internals.addClientTimingsListener(reports::add);
+
+        internals.recordUidlBuildTime(3, 2500000);
+        internals.handleClientTimings(Json.parse(
+                "{\"histograms\":{\"total\":[0,0,1]},\"messages\":[[3,0.5,1,1.5,3],[4,0,0,0,1]]}"));
+
+        Assert.assertEquals(1, reports.size());
+        ClientTimingsReport report = reports.get(0);
+        Assert.assertArrayEquals(new int[] { 0, 0, 1 },
+                report.getHistogram(ClientTimingsReport.TOTAL));
+        Assert.assertEquals(2, report.getMessages().size());
+
+        ClientTimingsReport.MessageTiming message = report.getMessages().get(0);
+        Assert.assertEquals(3, message.getSyncId());
+        Assert.assertEquals(2.5, message.getServerTime(), 0);
+        Assert.assertEquals(0.5,
+                message.getClientTime(ClientTimingsReport.PARSE), 0);
+        Assert.assertEquals(1,
+                message.getClientTime(ClientTimingsReport.CHANGES), 0);
+        Assert.assertEquals(1.5,
+                message.getClientTime(ClientTimingsReport.FLUSH), 0);
+        Assert.assertEquals(3, message.getClientTime(ClientTimingsReport.TOTAL),
+                0);
+
+        Assert.assertEquals("Build time of an untracked message is unknown", -1,
+                report.getMessages().get(1).getServerTime(), 0);
+    }
+
+    @Test
+    public void clientTimingsNotTracked_buildTimeNotRecorded() {
+        internals.recordUidlBuildTime(3, 2500000);
+
+        ClientTimingsReport report = internals.handleClientTimings(
+                Json.parse("{\"messages\":[[3,0,0,0,1]]}"));
+
+        Assert.assertEquals(-1, report.getMessages().get(0).getServerTime(), 0);
+    }
+
+    @Test
+    public void clientTimingsMalformed_malformedEntriesIgnored() {
+        ClientTimingsReport report = internals.handleClientTimings(Json.parse(
+                "{\"histograms\":{\"total\":[0,\"1\"],\"parse\":5,\"flush\":[2]},"
+                        + "\"messages\":[[],[\"3\"],[4,null],{},7,[5,1]]}"));
+
+        Assert.assertArrayEquals(new int[0],
+                report.getHistogram(ClientTimingsReport.TOTAL));
+        Assert.assertArrayEquals(new int[0],
+                report.getHistogram(ClientTimingsReport.PARSE));
+        Assert.assertArrayEquals(new int[] { 2 },
+                report.getHistogram(ClientTimingsReport.FLUSH));
+        Assert.assertEquals(1, report.getMessages().size());
+        Assert.assertEquals(5, report.getMessages().get(0).getSyncId());
+        Assert.assertEquals(1, report.getMessages().get(0)
+                .getClientTime(ClientTimingsReport.PARSE), 0);
+    }
+
+    @Test
+    public void clientTimingsNotObjects_ignored() {
+        ClientTimingsReport report = internals.handleClientTimings(
+                Json.parse("{\"histograms\":[1],\"messages\":{}}"));
+
+        Assert.assertTrue(report.getMessages().isEmpty());
+        Assert.assertArrayEquals(new int[0],
+                report.getHistogram(ClientTimingsReport.TOTAL));
+    }
+
     @Test
     public void heartbeatListenerRemovedFromHeartbeatEvent_noExplosion() {
         AtomicReference<Registration> reference = new AtomicReference<>();
@@ -170,6 +242,27 @@ public class UIInternalsTest {
                 1, runCount.get());
     }
 
+    @Test
+    public void setLastHeartbeatTimestampIfNoListeners_onlyUpdatedWithoutListeners() {
+        Assert.assertTrue(internals.setLastHeartbeatTimestampIfNoListeners(42));
+        Assert.assertEquals(42, internals.getLastHeartbeatTimestamp());
+
+        List<Long> heartbeats = new ArrayList<>();
+        Registration registration = internals.addHeartbeatListener(
+                event -> heartbeats.add(event.getHeartbeatTime()));
+
+        Assert.assertFalse(
+                internals.setLastHeartbeatTimestampIfNoListeners(43));
+        Assert.assertEquals(42, internals.getLastHeartbeatTimestamp());
+        Assert.assertTrue(heartbeats.isEmpty());
+
+        registration.remove();
+        registration.remove();
+
+        Assert.assertTrue(internals.setLastHeartbeatTimestampIfNoListeners(44));
+        Assert.assertEquals(44, internals.getLastHeartbeatTimestamp());
+    }
+
     @Test
     public void showRouteTarget_clientSideBootstrap() {
         PushConfiguration pushConfig = setUpInitialPush();
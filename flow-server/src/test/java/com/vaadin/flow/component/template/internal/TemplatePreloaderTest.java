@@ -0,0 +1,230 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.template.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.di.Lookup;
+import com.vaadin.flow.di.ResourceProvider;
+import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.server.Constants;
+import com.vaadin.flow.server.DependencyFilter;
+import com.vaadin.flow.server.ServiceDestroyEvent;
+import com.vaadin.flow.server.ServiceDestroyListener;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.shared.Registration;
+
+public class TemplatePreloaderTest {
+
+    public interface TestTemplate {
+    }
+
+    public static class FirstTemplate implements TestTemplate {
+    }
+
+    public static class SecondTemplate implements TestTemplate {
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private VaadinService service;
+    private DeploymentConfiguration configuration;
+    private ResourceProvider resourceProvider;
+
+    @Before
+    public void setUp() {
+        service = Mockito.mock(VaadinService.class);
+        configuration = Mockito.mock(DeploymentConfiguration.class);
+        Mockito.when(service.getDeploymentConfiguration())
+                .thenReturn(configuration);
+        Mockito.when(configuration.isProductionMode()).thenReturn(true);
+        Mockito.when(service.getClassLoader())
+                .thenReturn(TemplatePreloaderTest.class.getClassLoader());
+        Mockito.when(service.addServiceDestroyListener(Mockito.any()))
+                .thenReturn(Mockito.mock(Registration.class));
+
+        VaadinContext context = Mockito.mock(VaadinContext.class);
+        Lookup lookup = Mockito.mock(Lookup.class);
+        resourceProvider = Mockito.mock(ResourceProvider.class);
+        Mockito.when(service.getContext()).thenReturn(context);
+        Mockito.when(context.getAttribute(Lookup.class)).thenReturn(lookup);
+        Mockito.when(lookup.lookup(ResourceProvider.class))
+                .thenReturn(resourceProvider);
+    }
+
+    @Test
+    public void preloadTemplates_serviceInitialized_matchingTemplatesPreloadedInBackground()
+            throws Exception {
+        writeIndex("{\"templates\":[\"" + FirstTemplate.class.getName()
+                + "\",\"" + String.class.getName()
+                + "\",\"com.example.Missing\",\""
+                + SecondTemplate.class.getName() + "\"]}");
+        Mockito.when(service.getDependencyFilters())
+                .thenReturn(Collections.emptyList());
+
+        List<Class<?>> preloaded = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        TemplatePreloader.preloadTemplates(service, TestTemplate.class,
+                (templateClass, srv) -> {
+                    Assert.assertSame(service, VaadinService.getCurrent());
+                    preloaded.add(templateClass);
+                    threads.add(Thread.currentThread());
+                    done.countDown();
+                });
+
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        Assert.assertEquals(List.of(FirstTemplate.class, SecondTemplate.class),
+                preloaded);
+        Assert.assertEquals("Vaadin template preloader",
+                threads.get(0).getName());
+        Assert.assertTrue(threads.get(0).isDaemon());
+        Mockito.verify(service, Mockito.never())
+                .addUIInitListener(Mockito.any());
+    }
+
+    @Test
+    public void preloadTemplates_serviceNotYetInitialized_preloadedOnceInitialized()
+            throws Exception {
+        writeIndex(
+                "{\"templates\":[\"" + FirstTemplate.class.getName() + "\"]}");
+        AtomicReference<Iterable<DependencyFilter>> filters = new AtomicReference<>();
+        Mockito.when(service.getDependencyFilters())
+                .thenAnswer(invocation -> filters.get());
+
+        CountDownLatch done = new CountDownLatch(1);
+        TemplatePreloader.preloadTemplates(service, TestTemplate.class,
+                (templateClass, srv) -> done.countDown());
+
+        Assert.assertFalse(
+                "Templates should not be parsed before the dependency filters are available",
+                done.await(100, TimeUnit.MILLISECONDS));
+
+        filters.set(Collections.emptyList());
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void preloadTemplates_serviceNeverInitialized_pollingStopped()
+            throws Exception {
+        writeIndex(
+                "{\"templates\":[\"" + FirstTemplate.class.getName() + "\"]}");
+        AtomicInteger polls = new AtomicInteger();
+        Mockito.when(service.getDependencyFilters()).thenAnswer(invocation -> {
+            polls.incrementAndGet();
+            return null;
+        });
+
+        TemplatePreloader.preloadTemplates(service, TestTemplate.class,
+                (templateClass, srv) -> Assert.fail(), 50);
+
+        Thread.sleep(500);
+        int pollCount = polls.get();
+        Assert.assertTrue(pollCount > 0);
+        Assert.assertTrue(pollCount <= 6);
+        Thread.sleep(100);
+        Assert.assertEquals(
+                "The service should not be polled after the timeout", pollCount,
+                polls.get());
+    }
+
+    @Test
+    public void preloadTemplates_serviceDestroyed_preloadingStopped()
+            throws Exception {
+        writeIndex("{\"templates\":[\"" + FirstTemplate.class.getName()
+                + "\",\"" + SecondTemplate.class.getName() + "\"]}");
+        Mockito.when(service.getDependencyFilters())
+                .thenReturn(Collections.emptyList());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<Class<?>> preloaded = new CopyOnWriteArrayList<>();
+        TemplatePreloader.preloadTemplates(service, TestTemplate.class,
+                (templateClass, srv) -> {
+                    preloaded.add(templateClass);
+                    started.countDown();
+                    try {
+                        Thread.sleep(10000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        interrupted.countDown();
+                    }
+                });
+
+        ArgumentCaptor<ServiceDestroyListener> captor = ArgumentCaptor
+                .forClass(ServiceDestroyListener.class);
+        Mockito.verify(service).addServiceDestroyListener(captor.capture());
+
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        captor.getValue().serviceDestroy(new ServiceDestroyEvent(service));
+
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        Assert.assertEquals(List.of(FirstTemplate.class), preloaded);
+    }
+
+    @Test
+    public void preloadTemplates_developmentMode_nothingScheduled()
+            throws Exception {
+        Mockito.when(configuration.isProductionMode()).thenReturn(false);
+        writeIndex(
+                "{\"templates\":[\"" + FirstTemplate.class.getName() + "\"]}");
+
+        TemplatePreloader.preloadTemplates(service, TestTemplate.class,
+                (templateClass, srv) -> Assert.fail());
+
+        Mockito.verify(service, Mockito.never())
+                .addServiceDestroyListener(Mockito.any());
+    }
+
+    @Test
+    public void preloadTemplates_noIndex_nothingScheduled() {
+        TemplatePreloader.preloadTemplates(service, TestTemplate.class,
+                (templateClass, srv) -> Assert.fail());
+
+        Mockito.verify(service, Mockito.never())
+                .addServiceDestroyListener(Mockito.any());
+    }
+
+    private void writeIndex(String content) throws IOException {
+        File index = temporaryFolder.newFile();
+        FileUtils.write(index, content, StandardCharsets.UTF_8);
+        Mockito.when(resourceProvider.getApplicationResource(
+                Constants.VAADIN_SERVLET_RESOURCES + Constants.TEMPLATE_INDEX))
+                .thenReturn(index.toURI().toURL());
+    }
+}
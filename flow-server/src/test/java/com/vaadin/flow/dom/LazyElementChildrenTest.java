@@ -0,0 +1,157 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.dom;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class LazyElementChildrenTest {
+
+    private Element container;
+    private AtomicInteger created;
+    private LazyElementChildren<Integer> lazyChildren;
+
+    @Before
+    public void setUp() {
+        container = new Element("div");
+        created = new AtomicInteger();
+        lazyChildren = new LazyElementChildren<>(container, item -> {
+            created.incrementAndGet();
+            return new Element("span").setText(String.valueOf(item));
+        });
+        lazyChildren.setItems(
+                IntStream.range(0, 10000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void setItems_noRange_noChildrenCreated() {
+        Assert.assertEquals(0, container.getChildCount());
+        Assert.assertEquals(0, created.get());
+        Assert.assertEquals(10000, container
+                .getProperty(LazyElementChildren.ITEM_COUNT_PROPERTY, 0));
+    }
+
+    @Test
+    public void setRange_onlyRangeCreated() {
+        lazyChildren.setRange(100, 20);
+
+        Assert.assertEquals(20, container.getChildCount());
+        Assert.assertEquals(20, created.get());
+        assertChildren(100, 120);
+    }
+
+    @Test
+    public void setRange_overlappingRange_existingChildrenKept() {
+        lazyChildren.setRange(100, 20);
+        Element kept = container.getChild(10);
+
+        lazyChildren.setRange(110, 20);
+        Assert.assertEquals(30, created.get());
+        assertChildren(110, 130);
+        Assert.assertEquals(kept, container.getChild(0));
+
+        lazyChildren.setRange(105, 10);
+        Assert.assertEquals(35, created.get());
+        assertChildren(105, 115);
+        Assert.assertEquals(kept, container.getChild(5));
+    }
+
+    @Test
+    public void setRange_separateRange_childrenReplaced() {
+        lazyChildren.setRange(100, 20);
+        lazyChildren.setRange(5000, 20);
+
+        Assert.assertEquals(40, created.get());
+        assertChildren(5000, 5020);
+    }
+
+    @Test
+    public void setRange_beyondItems_limitedToItems() {
+        lazyChildren.setRange(9990, 20);
+        assertChildren(9990, 10000);
+
+        lazyChildren.setRange(20000, 20);
+        assertChildren(10000, 10000);
+
+        lazyChildren.setRange(-5, 10);
+        assertChildren(0, 10);
+    }
+
+    @Test
+    public void setRange_tooLong_limitedToMaxRangeLength() {
+        lazyChildren.setMaxRangeLength(50);
+        lazyChildren.setRange(0, 10000);
+
+        assertChildren(0, 50);
+    }
+
+    @Test
+    public void setItems_rangeKept_childrenCreatedAgain() {
+        lazyChildren.setRange(0, 10);
+        lazyChildren.setItems(List.of(5, 6, 7));
+
+        Assert.assertEquals(13, created.get());
+        Assert.assertEquals(3, container.getChildCount());
+        Assert.assertEquals("5", container.getChild(0).getText());
+        Assert.assertEquals(3, container
+                .getProperty(LazyElementChildren.ITEM_COUNT_PROPERTY, 0));
+    }
+
+    @Test
+    public void rangeRequestedEvent_rangeSet() {
+        JsonObject data = Json.createObject();
+        data.put("event.detail.start", 200);
+        data.put("event.detail.length", 30);
+
+        container.getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(container,
+                        LazyElementChildren.RANGE_REQUESTED_EVENT, data));
+
+        assertChildren(200, 230);
+    }
+
+    @Test
+    public void rangeRequestedEvent_missingData_ignored() {
+        container.getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(container,
+                        LazyElementChildren.RANGE_REQUESTED_EVENT,
+                        Json.createObject()));
+
+        Assert.assertEquals(0, container.getChildCount());
+    }
+
+    private void assertChildren(int start, int end) {
+        Assert.assertEquals(start, lazyChildren.getFirstIndex());
+        Assert.assertEquals(start, container
+                .getProperty(LazyElementChildren.FIRST_INDEX_PROPERTY, -1));
+        Assert.assertEquals(end - start, container.getChildCount());
+        for (int i = start; i < end; i++) {
+            Assert.assertEquals(String.valueOf(i),
+                    container.getChild(i - start).getText());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import elemental.json.JsonArray;
+
+public class JavaScriptExpressionPoolTest {
+    private JavaScriptExpressionPool pool = new JavaScriptExpressionPool();
+
+    @Test
+    public void newPool_noNewItems() {
+        Assert.assertFalse(pool.hasNewExpressions());
+        Assert.assertEquals(0, pool.dumpExpressions().length());
+    }
+
+    @Test
+    public void expressionSeenOnce_notPooled() {
+        Assert.assertEquals(-1, pool.getExpressionId("$0.focus()"));
+        Assert.assertFalse(pool.hasNewExpressions());
+    }
+
+    @Test
+    public void expressionRepeated_registered() {
+        pool.getExpressionId("$0.focus()");
+        int id = pool.getExpressionId("$0.focus()");
+
+        Assert.assertEquals(0, id);
+        Assert.assertTrue(pool.hasNewExpressions());
+        Assert.assertEquals("$0.focus()", pool.getExpression(id));
+
+        JsonArray dump = pool.dumpExpressions();
+
+        Assert.assertEquals(1, dump.length());
+        Assert.assertEquals("$0.focus()", dump.getString(0));
+        Assert.assertFalse(pool.hasNewExpressions());
+    }
+
+    @Test
+    public void sameExpression_sameId() {
+        int id = register("$0.focus()");
+        pool.dumpExpressions();
+
+        Assert.assertEquals(id, pool.getExpressionId("$0.focus()"));
+        Assert.assertFalse(pool.hasNewExpressions());
+    }
+
+    @Test
+    public void differentExpressions_dumpedInIdOrder() {
+        register("a()");
+        pool.dumpExpressions();
+
+        int b = register("b()");
+        int c = register("c()");
+        pool.getExpressionId("a()");
+
+        Assert.assertEquals(1, b);
+        Assert.assertEquals(2, c);
+
+        JsonArray dump = pool.dumpExpressions();
+        Assert.assertEquals(2, dump.length());
+        Assert.assertEquals("b()", dump.getString(0));
+        Assert.assertEquals("c()", dump.getString(1));
+    }
+
+    @Test
+    public void poolFull_newExpressionNotPooled() {
+        for (int i = 0; i < JavaScriptExpressionPool.MAX_EXPRESSIONS; i++) {
+            register("f" + i + "()");
+        }
+
+        Assert.assertEquals(-1, register("overflow()"));
+        Assert.assertEquals(0, pool.getExpressionId("f0()"));
+        Assert.assertNull(pool.getExpression(-1));
+    }
+
+    @Test
+    public void longExpression_notPooled() {
+        String expression = "f('"
+                + "x".repeat(JavaScriptExpressionPool.MAX_EXPRESSION_LENGTH)
+                + "')";
+
+        Assert.assertEquals(-1, register(expression));
+        Assert.assertFalse(pool.hasNewExpressions());
+    }
+
+    @Test
+    public void totalLengthExceeded_newExpressionNotPooled() {
+        int length = JavaScriptExpressionPool.MAX_EXPRESSION_LENGTH;
+        int count = JavaScriptExpressionPool.MAX_TOTAL_LENGTH / length;
+        for (int i = 0; i < count; i++) {
+            String expression = i + "x".repeat(length - 1 - (i + "").length())
+                    + ";";
+            Assert.assertEquals(i, register(expression));
+        }
+
+        Assert.assertEquals(-1, register("overflow()"));
+    }
+
+    @Test
+    public void oneOffExpressionsInBetween_repeatedExpressionPooled() {
+        pool.getExpressionId("repeated()");
+        for (int i = 0; i < 500; i++) {
+            Assert.assertEquals(-1, pool.getExpressionId("f('" + i + "')"));
+        }
+
+        Assert.assertEquals(0, pool.getExpressionId("repeated()"));
+        Assert.assertEquals(1, pool.dumpExpressions().length());
+    }
+
+    private int register(String expression) {
+        pool.getExpressionId(expression);
+        return pool.getExpressionId(expression);
+    }
+}
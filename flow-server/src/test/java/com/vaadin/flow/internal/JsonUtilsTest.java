@@ -477,4 +477,54 @@ public class JsonUtilsTest {
         Assert.assertEquals(true, person.canSwim);
     }
 
+    @Test
+    public void createPatch_equalValues_emptyPatch() {
+        JsonObject from = Json.parse("{\"a\":[1,2,{\"b\":true}]}");
+        JsonObject to = Json.parse("{\"a\":[1,2,{\"b\":true}]}");
+
+        Assert.assertEquals("[]", JsonUtils.createPatch(from, to).toJson());
+    }
+
+    @Test
+    public void createPatch_changedValues_onlyDifferencesIncluded() {
+        JsonObject from = Json
+                .parse("{\"a\":1,\"b\":{\"c\":[1,2,3]},\"d\":\"x\"}");
+        JsonObject to = Json
+                .parse("{\"a\":1,\"b\":{\"c\":[1,5,3,4]},\"e\":null}");
+
+        Assert.assertEquals(
+                "[{\"path\":[\"d\"]},"
+                        + "{\"path\":[\"b\",\"c\",1],\"value\":5},"
+                        + "{\"path\":[\"b\",\"c\",3],\"value\":4},"
+                        + "{\"path\":[\"e\"],\"value\":null}]",
+                JsonUtils.createPatch(from, to).toJson());
+    }
+
+    @Test
+    public void createPatch_shorterArray_truncatedBeforeChanges() {
+        JsonArray from = Json.instance().parse("[1,2,3,4]");
+        JsonArray to = Json.instance().parse("[1,7]");
+
+        Assert.assertEquals(
+                "[{\"path\":[],\"length\":2},{\"path\":[1],\"value\":7}]",
+                JsonUtils.createPatch(from, to).toJson());
+    }
+
+    @Test
+    public void createPatch_changedType_valueReplaced() {
+        JsonObject from = Json.parse("{\"a\":[1]}");
+        JsonObject to = Json.parse("{\"a\":{\"0\":1}}");
+
+        Assert.assertEquals("[{\"path\":[\"a\"],\"value\":{\"0\":1}}]",
+                JsonUtils.createPatch(from, to).toJson());
+    }
+
+    @Test
+    public void createPatch_differentRootTypes_null() {
+        Assert.assertNull(
+                JsonUtils.createPatch(Json.createObject(), Json.createArray()));
+        Assert.assertNull(
+                JsonUtils.createPatch(Json.create(1), Json.create(2)));
+    }
+
 }
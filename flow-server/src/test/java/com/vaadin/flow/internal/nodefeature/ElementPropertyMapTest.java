@@ -16,7 +16,9 @@
 package com.vaadin.flow.internal.nodefeature;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,9 +33,18 @@ import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.PropertyChangeEvent;
 import com.vaadin.flow.dom.PropertyChangeListener;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
+import com.vaadin.flow.internal.ConstantPool;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.change.MapPatchChange;
+import com.vaadin.flow.internal.change.MapPutChange;
+import com.vaadin.flow.internal.change.NodeChange;
+import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.Registration;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
 public class ElementPropertyMapTest {
 
     @Test
@@ -422,6 +433,183 @@ public class ElementPropertyMapTest {
         Assert.assertFalse(map.producePutChange("foo", true, "bar"));
     }
 
+    @Test
+    public void setProperty_sameValueSetRepeatedly_onlyFinalValueCollected() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setProperty("foo", 0.0);
+        collectChanges(map);
+
+        for (int i = 1; i <= 100; i++) {
+            map.setProperty("foo", i / 100.0);
+        }
+
+        List<NodeChange> changes = collectChanges(map);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals(1.0, ((MapPutChange) changes.get(0)).getValue());
+    }
+
+    @Test
+    public void setProperty_valueRestoredBeforeCollect_noChangeCollected() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setProperty("foo", "bar");
+        collectChanges(map);
+
+        map.setProperty("foo", "baz");
+        map.setProperty("foo", "bar");
+
+        Assert.assertEquals(0, collectChanges(map).size());
+    }
+
+    @Test
+    public void setProperty_structurallyEqualJson_noChangeCollected() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setProperty("data", createJson(1, 2, 3));
+        collectChanges(map);
+
+        map.setProperty("data", createJson(1, 2, 3));
+        Assert.assertEquals(0, collectChanges(map).size());
+
+        map.setProperty("data", createJson(1, 2, 4));
+        List<NodeChange> changes = collectChanges(map);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals("data", ((MapPutChange) changes.get(0)).getKey());
+    }
+
+    @Test
+    public void setProperty_jsonDiffEnabled_onlyDifferencesSent() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setJsonDiffEnabled("data", true);
+        map.setProperty("data", createSeries(0));
+        List<NodeChange> changes = collectChanges(map);
+        Assert.assertFalse(changes.get(0) instanceof MapPatchChange);
+
+        JsonObject value = createSeries(1);
+        map.setProperty("data", value);
+        changes = collectChanges(map);
+        Assert.assertEquals(1, changes.size());
+        MapPatchChange change = (MapPatchChange) changes.get(0);
+        Assert.assertSame(value, change.getValue());
+        Assert.assertEquals("[{\"path\":[\"series\",19],\"value\":1}]",
+                change.getPatch().toJson());
+
+        JsonObject json = change.toJson(new ConstantPool());
+        Assert.assertFalse(json.hasKey(JsonConstants.CHANGE_PUT_VALUE));
+        Assert.assertEquals(change.getPatch().toJson(),
+                json.get(JsonConstants.CHANGE_PUT_PATCH).toJson());
+    }
+
+    @Test
+    public void setProperty_jsonDiffEnabled_modifiedInPlace_differencesSent() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setJsonDiffEnabled("data", true);
+        JsonObject value = createSeries(0);
+        map.setProperty("data", value);
+        collectChanges(map);
+
+        value.getArray("series").set(0, -1);
+        map.setProperty("data", value);
+        List<NodeChange> changes = collectChanges(map);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals("[{\"path\":[\"series\",0],\"value\":-1}]",
+                ((MapPatchChange) changes.get(0)).getPatch().toJson());
+
+        map.setProperty("data", value);
+        Assert.assertEquals(0, collectChanges(map).size());
+    }
+
+    @Test
+    public void setProperty_jsonDiffEnabled_patchLargerThanValue_fullValueSent() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setJsonDiffEnabled("data", true);
+        map.setProperty("data", createJson(1, 2));
+        collectChanges(map);
+
+        map.setProperty("data", createJson(3, 4));
+        List<NodeChange> changes = collectChanges(map);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertFalse(changes.get(0) instanceof MapPatchChange);
+    }
+
+    @Test
+    public void setProperty_jsonDiffEnabled_updatedFromClient_fullValueSent() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setJsonDiffEnabled("data", true);
+        map.setProperty("data", createSeries(0));
+        collectChanges(map);
+
+        map.setProperty("data", createSeries(0), false);
+        map.setProperty("data", createSeries(1));
+        List<NodeChange> changes = collectChanges(map);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertFalse(changes.get(0) instanceof MapPatchChange);
+    }
+
+    @Test
+    public void setProperty_jsonDiffDisabled_fullValueSent() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setJsonDiffEnabled("data", true);
+        map.setJsonDiffEnabled("data", false);
+        Assert.assertFalse(map.isJsonDiffEnabled("data"));
+        map.setProperty("data", createSeries(0));
+        collectChanges(map);
+
+        map.setProperty("data", createSeries(1));
+        List<NodeChange> changes = collectChanges(map);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertFalse(changes.get(0) instanceof MapPatchChange);
+    }
+
+    private static JsonObject createSeries(int last) {
+        int[] values = new int[20];
+        values[values.length - 1] = last;
+        return createJson(values);
+    }
+
+    @Test
+    public void setProperty_structurallyEqualJson_newInstanceStored() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setProperty("data", createJson(1, 2, 3));
+        collectChanges(map);
+
+        JsonObject equal = createJson(1, 2, 3);
+        map.setProperty("data", equal);
+
+        Assert.assertSame(equal, map.getProperty("data"));
+        Assert.assertEquals(0, collectChanges(map).size());
+    }
+
+    @Test
+    public void setProperty_changedAndThenStructurallyEqualJson_changeCollected() {
+        ElementPropertyMap map = createSimplePropertyMap();
+        map.setProperty("data", createJson(1, 2, 3));
+        collectChanges(map);
+
+        map.setProperty("data", createJson(1, 2, 4));
+        JsonObject equal = createJson(1, 2, 4);
+        map.setProperty("data", equal);
+
+        List<NodeChange> changes = collectChanges(map);
+        Assert.assertEquals(1, changes.size());
+        Assert.assertSame(equal, ((MapPutChange) changes.get(0)).getValue());
+    }
+
+    private static JsonObject createJson(int... values) {
+        JsonArray array = Json.createArray();
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        JsonObject json = Json.createObject();
+        json.put("series", array);
+        return json;
+    }
+
+    private static List<NodeChange> collectChanges(ElementPropertyMap map) {
+        List<NodeChange> changes = new ArrayList<>();
+        map.collectChanges(changes::add);
+        map.getNode().clearChanges();
+        return changes;
+    }
+
     private void listenerIsNotified(boolean clientEvent) {
         ElementPropertyMap map = createSimplePropertyMap();
         StateNode node = map.getNode();
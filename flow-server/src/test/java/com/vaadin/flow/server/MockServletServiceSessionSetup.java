@@ -99,6 +99,12 @@ public class MockServletServiceSessionSetup {
             indexHtmlRequestListeners.add(listener);
         }
 
+        @Override
+        public boolean hasIndexHtmlRequestListeners() {
+            return !indexHtmlRequestListeners.isEmpty()
+                    || super.hasIndexHtmlRequestListeners();
+        }
+
         @Override
         public void modifyIndexHtmlResponse(IndexHtmlResponse response) {
             indexHtmlRequestListeners.forEach(
@@ -20,6 +20,7 @@ import jakarta.servlet.ServletException;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Optional;
 
 import org.junit.After;
@@ -154,6 +155,104 @@ public class StreamResourceRegistryTest {
                 uri.toString().endsWith(suffix));
     }
 
+    @Test
+    public void registerExpiringResource_notRequested_resourceIsRemovedAfterTimeToLive() {
+        TestRegistry registry = new TestRegistry(session);
+
+        StreamRegistration registration = registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()),
+                Duration.ofSeconds(10));
+        URI uri = registration.getResourceUri();
+
+        registry.time += 9000;
+        Assert.assertTrue(registry.getResource(uri).isPresent());
+
+        registry.time += 9000;
+        Assert.assertTrue(
+                "Requesting the resource should extend its time to live",
+                registry.getResource(uri).isPresent());
+
+        registry.time += 10000;
+        Assert.assertFalse(registry.getResource(uri).isPresent());
+        Assert.assertNull(registration.getResource());
+        Assert.assertEquals(0, registry.getResourceCount());
+    }
+
+    @Test
+    public void registerExpiringResource_expiredResourcesRemovedOnRegister() {
+        TestRegistry registry = new TestRegistry(session);
+
+        registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()),
+                Duration.ofSeconds(10));
+        registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()));
+        Assert.assertEquals(2, registry.getResourceCount());
+        Assert.assertEquals(1, registry.getExpiringResourceCount());
+
+        registry.time += 10000;
+        registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()),
+                Duration.ofSeconds(10));
+
+        Assert.assertEquals(2, registry.getResourceCount());
+        Assert.assertEquals(1, registry.getExpiringResourceCount());
+    }
+
+    @Test
+    public void registerExpiringResource_limitExceeded_leastRecentlyRequestedRemoved() {
+        TestRegistry registry = new TestRegistry(session);
+        registry.setMaxExpiringResources(2);
+        StreamRegistration permanent = registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()));
+
+        StreamRegistration first = registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()),
+                Duration.ofMinutes(1));
+        StreamRegistration second = registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()),
+                Duration.ofMinutes(1));
+        Assert.assertNotNull(first.getResource());
+
+        StreamRegistration third = registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()),
+                Duration.ofMinutes(1));
+
+        Assert.assertNotNull(first.getResource());
+        Assert.assertNull(second.getResource());
+        Assert.assertNotNull(third.getResource());
+        Assert.assertNotNull(permanent.getResource());
+        Assert.assertEquals(2, registry.getExpiringResourceCount());
+        Assert.assertEquals(3, registry.getResourceCount());
+    }
+
+    @Test
+    public void registerExpiringResource_unregister_resourceIsRemoved() {
+        TestRegistry registry = new TestRegistry(session);
+        StreamRegistration registration = registry.registerResource(
+                new StreamResource("name", () -> makeEmptyStream()),
+                Duration.ofMinutes(1));
+
+        registration.unregister();
+
+        Assert.assertEquals(0, registry.getExpiringResourceCount());
+        Assert.assertEquals(0, registry.getResourceCount());
+    }
+
+    private static class TestRegistry extends StreamResourceRegistry {
+
+        private long time = 1000;
+
+        private TestRegistry(VaadinSession session) {
+            super(session);
+        }
+
+        @Override
+        long getCurrentTime() {
+            return time;
+        }
+    }
+
     private InputStream makeEmptyStream() {
         return new ByteArrayInputStream(new byte[0]);
     }
@@ -48,7 +48,10 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.ComponentTest.TestComponent;
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.server.communication.AtmospherePushConnection;
+import com.vaadin.flow.server.communication.HeartbeatHandler;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.startup.ApplicationConfiguration;
+import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.flow.shared.communication.PushMode;
 import com.vaadin.flow.testcategory.SlowTests;
 import com.vaadin.tests.util.MockDeploymentConfiguration;
@@ -246,6 +249,106 @@ public class VaadinSessionTest {
         Assert.assertTrue(detachCalled.get());
     }
 
+    @Test
+    public void requestEnd_heartbeatWithInactiveUISweeper_sessionNotLocked()
+            throws SessionExpiredException, IOException {
+        // registers the session with the inactive UI sweeper
+        mockService.findVaadinSession(vaadinRequest);
+        try {
+            VaadinRequest heartbeatRequest = Mockito.mock(VaadinRequest.class);
+            Mockito.when(heartbeatRequest
+                    .getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER))
+                    .thenReturn(RequestType.HEARTBEAT.getIdentifier());
+            Mockito.when(heartbeatRequest
+                    .getParameter(ApplicationConstants.UI_ID_PARAMETER))
+                    .thenReturn(String.valueOf(ui.getUIId()));
+            Mockito.when(heartbeatRequest.getAttribute("requestStartTime"))
+                    .thenReturn(System.nanoTime());
+            ui.getInternals().setLastHeartbeatTimestamp(0);
+
+            VaadinSession heartbeatSession = Mockito.spy(session);
+            VaadinSession.setCurrent(heartbeatSession);
+            Assert.assertTrue(new HeartbeatHandler().handleRequest(
+                    heartbeatSession, heartbeatRequest,
+                    Mockito.mock(VaadinResponse.class)));
+            mockService.requestEnd(heartbeatRequest, null, heartbeatSession);
+
+            Mockito.verify(heartbeatSession, Mockito.never()).lock();
+            Assert.assertTrue(
+                    ui.getInternals().getLastHeartbeatTimestamp() > 0);
+            session.lock();
+            try {
+                Assert.assertEquals("Heartbeat duration should not be recorded",
+                        -1, session.getLastRequestDuration());
+                Assert.assertFalse("Inactive UI should be left to the sweeper",
+                        ui.isClosing());
+            } finally {
+                session.unlock();
+            }
+        } finally {
+            mockService.destroy();
+        }
+    }
+
+    @Test
+    public void inactiveUISweeper_inactiveUI_closedAndRemoved() {
+        InactiveUISweeper sweeper = new InactiveUISweeper(mockService, 3600);
+        try {
+            sweeper.register(session);
+
+            Assert.assertFalse(mockService.needsCleanup(session));
+            sweeper.sweep();
+            mockService.runPendingAccessTasks(session);
+            Assert.assertFalse(ui.isClosing());
+
+            ui.getInternals().setLastHeartbeatTimestamp(0);
+            Assert.assertTrue(mockService.needsCleanup(session));
+            sweeper.sweep();
+            mockService.runPendingAccessTasks(session);
+
+            Assert.assertTrue(ui.isClosing());
+            Assert.assertNull(session.getUIByIdWithoutLock(ui.getUIId()));
+            Assert.assertFalse(mockService.needsCleanup(session));
+        } finally {
+            sweeper.stop();
+        }
+    }
+
+    @Test
+    public void inactiveUISweeper_inactiveUIs_closedAsByCleanupSession() {
+        ui.getInternals().setLastHeartbeatTimestamp(0);
+
+        session.lock();
+        try {
+            mockService.cleanupSession(session);
+        } finally {
+            session.unlock();
+        }
+        Assert.assertTrue(ui.isClosing());
+        Assert.assertNull(session.getUIByIdWithoutLock(ui.getUIId()));
+
+        ui = new UI();
+        ui.getInternals().setSession(session);
+        ui.doInit(vaadinRequest, session.getNextUIid());
+        session.addUI(ui);
+        ui.getInternals().setLastHeartbeatTimestamp(0);
+
+        InactiveUISweeper sweeper = new InactiveUISweeper(mockService, 3600);
+        try {
+            sweeper.register(session);
+            sweeper.sweep();
+            mockService.runPendingAccessTasks(session);
+        } finally {
+            sweeper.stop();
+        }
+
+        Assert.assertTrue(ui.isClosing());
+        Assert.assertNull(session.getUIByIdWithoutLock(ui.getUIId()));
+        Assert.assertEquals(VaadinSessionState.OPEN,
+                session.getStateWithoutLock());
+        Assert.assertFalse(mockService.needsCleanup(session));
+    }
+
     @Test
     public void testValueUnbound() {
         MockVaadinSession vaadinSession = new MockVaadinSession(mockService);
@@ -17,6 +17,9 @@ package com.vaadin.flow.server;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.shared.BrowserDetails;
 
 public class WebBrowserTest {
 
@@ -56,4 +59,33 @@ public class WebBrowserTest {
     public void isChromeOS_noDetails_returnsFalse() {
         Assert.assertFalse(browser.isChromeOS());
     }
+
+    @Test
+    public void sameUserAgent_browserDetailsShared() {
+        String agent = "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/114.0.0.0 Safari/537.36";
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getHeader("User-Agent")).thenReturn(agent);
+
+        WebBrowser first = new WebBrowser(request);
+        WebBrowser second = new WebBrowser(request);
+
+        Assert.assertTrue(second.isChrome());
+        Assert.assertTrue(second.isLinux());
+        Assert.assertEquals(114, second.getBrowserMajorVersion());
+        Assert.assertEquals(first.getBrowserApplication(),
+                second.getBrowserApplication());
+        Assert.assertSame(WebBrowser.getBrowserDetails(agent),
+                WebBrowser.getBrowserDetails(agent));
+    }
+
+    @Test
+    public void longUserAgent_browserDetailsNotShared() {
+        String agent = "Mozilla/5.0 (X11; Linux x86_64) Chrome/114.0.0.0 "
+                + "x".repeat(WebBrowser.MAX_CACHED_USER_AGENT_LENGTH);
+
+        BrowserDetails details = WebBrowser.getBrowserDetails(agent);
+
+        Assert.assertTrue(details.isChrome());
+        Assert.assertNotSame(details, WebBrowser.getBrowserDetails(agent));
+    }
 }
@@ -2,6 +2,7 @@ package com.vaadin.flow.server.auth;
 
 import static org.junit.Assert.assertEquals;
 
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.security.Principal;
 import java.util.Arrays;
@@ -27,6 +28,7 @@ import com.vaadin.flow.server.auth.AccessControlTestClasses.PermitAllClass;
 import com.vaadin.flow.server.auth.AccessControlTestClasses.RolesAllowedAdminClass;
 import com.vaadin.flow.server.auth.AccessControlTestClasses.RolesAllowedUserClass;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -354,6 +356,53 @@ public class AccessAnnotationCheckerTest {
         }
     }
 
+    @Test
+    public void hasClassAccess_repeatedForDifferentUsers_accessCheckedForEachUser()
+            throws Exception {
+        HttpServletRequest userRequest = createRequest(USER_PRINCIPAL, "user");
+        HttpServletRequest adminRequest = createRequest(USER_PRINCIPAL,
+                "admin");
+
+        for (int i = 0; i < 2; i++) {
+            verifyClassAccessAllowed(RolesAllowedUserClass.class, userRequest,
+                    true);
+            verifyClassAccessAllowed(RolesAllowedUserClass.class, adminRequest,
+                    false);
+            verifyClassAccessAllowed(RolesAllowedAdminClass.class, adminRequest,
+                    true);
+            verifyClassAccessAllowed(RolesAllowedAdminClass.class,
+                    createRequest(null), false);
+        }
+    }
+
+    @Test
+    public void hasClassAccess_securityTargetOverridden_overriddenTargetUsed()
+            throws Exception {
+        accessAnnotationChecker = new AccessAnnotationChecker() {
+            @Override
+            public AnnotatedElement getSecurityTarget(Class<?> cls) {
+                return AnonymousAllowedClass.class;
+            }
+        };
+
+        verifyClassAccessAllowed(DenyAllClass.class, createRequest(null), true);
+    }
+
+    @Test
+    public void hasClassAccess_deserializedChecker_accessChecked()
+            throws Exception {
+        verifyClassAccessAllowed(PermitAllClass.class,
+                createRequest(USER_PRINCIPAL), true);
+
+        accessAnnotationChecker = SerializationUtils
+                .roundtrip(accessAnnotationChecker);
+
+        verifyClassAccessAllowed(PermitAllClass.class,
+                createRequest(USER_PRINCIPAL), true);
+        verifyClassAccessAllowed(PermitAllClass.class, createRequest(null),
+                false);
+    }
+
     static HttpServletRequest createRequest(Principal userPrincipal,
             String... roles) {
         Set<String> roleSet = new HashSet<>();
@@ -28,16 +28,21 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.atmosphere.cpr.AtmosphereResource;
+import org.atmosphere.cpr.AtmosphereResourceEvent;
+import org.atmosphere.cpr.AtmosphereResourceEventListener;
 import org.atmosphere.cpr.Broadcaster;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.MockVaadinSession;
 import com.vaadin.flow.server.communication.AtmospherePushConnection.State;
+import com.vaadin.tests.util.MockDeploymentConfiguration;
 
 /**
  * @author Vaadin Ltd
@@ -231,4 +236,147 @@ public class AtmospherePushConnectionTest {
         Mockito.verify(resource, Mockito.times(1)).close();
     }
 
+    @Test
+    public void pendingBytesExceedLimit_asyncPushDeferredUntilMessageWritten()
+            throws Exception {
+        setMaxPendingBytes("10");
+        CompletableFuture<Object> firstMessage = new CompletableFuture<>();
+        Mockito.doReturn(firstMessage).when(broadcaster).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+
+        pushWithLock(true);
+        Assert.assertEquals(1, connection.getPendingMessageCount());
+        Assert.assertTrue(connection.getPendingBytes() > 10);
+
+        changeUI();
+        pushWithLock(true);
+        Mockito.verify(broadcaster, Mockito.times(1)).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+        Assert.assertEquals(1, connection.getDeferredPushCount());
+
+        // The deferred push is done as soon as the first message is written
+        messageWritten();
+        Mockito.verify(broadcaster, Mockito.times(2)).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+        Assert.assertEquals(1, connection.getDeferredPushCount());
+        Assert.assertFalse(connection.getUI().getInternals().isDirty());
+    }
+
+    @Test
+    public void pendingBytesExceedLimit_nothingChanged_noPushWhenMessageWritten()
+            throws Exception {
+        setMaxPendingBytes("10");
+        Mockito.doReturn(new CompletableFuture<>()).when(broadcaster).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+
+        pushWithLock(true);
+        messageWritten();
+
+        Mockito.verify(broadcaster, Mockito.times(1)).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+        Assert.assertEquals(0, connection.getPendingMessageCount());
+    }
+
+    @Test
+    public void pendingBytesExceedLimit_connectionLost_deferredPushDoneOnReconnect()
+            throws Exception {
+        setMaxPendingBytes("10");
+        Mockito.doReturn(new CompletableFuture<>()).when(broadcaster).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+        pushWithLock(true);
+        changeUI();
+        pushWithLock(true);
+
+        connection.connectionLost();
+
+        Assert.assertEquals(State.PUSH_PENDING, connection.getState());
+        Assert.assertEquals(0, connection.getPendingMessageCount());
+    }
+
+    @Test
+    public void pendingBytesExceedLimit_responseToClientRequestSent()
+            throws Exception {
+        setMaxPendingBytes("10");
+        Mockito.doReturn(new CompletableFuture<>()).when(broadcaster).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+
+        pushWithLock(true);
+        pushWithLock(false);
+
+        Mockito.verify(broadcaster, Mockito.times(2)).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+        Assert.assertEquals(2, connection.getPendingMessageCount());
+        Assert.assertEquals(0, connection.getDeferredPushCount());
+    }
+
+    @Test
+    public void noLimit_pendingMessagesNotTrackedAndPushesNotDeferred()
+            throws Exception {
+        Mockito.doReturn(new CompletableFuture<>()).when(broadcaster).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+
+        pushWithLock(true);
+        pushWithLock(true);
+
+        Mockito.verify(broadcaster, Mockito.times(2)).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+        Assert.assertEquals(0, connection.getPendingMessageCount());
+        Assert.assertEquals(0, connection.getDeferredPushCount());
+    }
+
+    @Test
+    public void connectionLost_pendingMessagesCleared() throws Exception {
+        setMaxPendingBytes("10");
+        Mockito.doReturn(new CompletableFuture<>()).when(broadcaster).broadcast(
+                ArgumentMatchers.any(),
+                ArgumentMatchers.any(AtmosphereResource.class));
+
+        pushWithLock(true);
+        Assert.assertEquals(1, connection.getPendingMessageCount());
+
+        connection.connectionLost();
+
+        Assert.assertEquals(0, connection.getPendingMessageCount());
+        Assert.assertEquals(0, connection.getPendingBytes());
+    }
+
+    private void setMaxPendingBytes(String value) {
+        ((MockDeploymentConfiguration) vaadinSession.getService()
+                .getDeploymentConfiguration()).setApplicationOrSystemProperty(
+                        InitParameters.SERVLET_PARAMETER_PUSH_MAX_PENDING_BYTES,
+                        value);
+    }
+
+    private void changeUI() throws Exception {
+        vaadinSession.runWithLock(() -> {
+            connection.getUI().getElement().setProperty("foo",
+                    String.valueOf(Math.random()));
+            return null;
+        });
+    }
+
+    private void messageWritten() {
+        ArgumentCaptor<AtmosphereResourceEventListener> listener = ArgumentCaptor
+                .forClass(AtmosphereResourceEventListener.class);
+        Mockito.verify(resource).addEventListener(listener.capture());
+        listener.getValue()
+                .onBroadcast(Mockito.mock(AtmosphereResourceEvent.class));
+    }
+
+    private void pushWithLock(boolean async) throws Exception {
+        vaadinSession.runWithLock(() -> {
+            connection.push(async);
+            return null;
+        });
+    }
 }
@@ -17,15 +17,18 @@ package com.vaadin.flow.server.communication;
 
 import java.io.IOException;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.server.HandlerHelper;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.ApplicationConstants;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
@@ -54,4 +57,59 @@ public class HeartbeatHandlerTest {
         Mockito.verify(ui.getInternals(), times(1))
                 .setLastHeartbeatTimestamp(anyLong());
     }
+
+    @Test
+    public void handleRequest_noHeartbeatListeners_sessionNotLocked()
+            throws IOException {
+        VaadinSession session = mock(VaadinSession.class);
+        VaadinRequest request = createHeartbeatRequest();
+        VaadinResponse response = mock(VaadinResponse.class);
+        UI ui = mock(UI.class);
+        UIInternals uiInternals = mock(UIInternals.class);
+
+        when(ui.getInternals()).thenReturn(uiInternals);
+        when(session.getUIByIdWithoutLock(1)).thenReturn(ui);
+        when(uiInternals.setLastHeartbeatTimestampIfNoListeners(anyLong()))
+                .thenReturn(true);
+
+        HeartbeatHandler handler = new HeartbeatHandler();
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+
+        Mockito.verify(session, Mockito.never()).lock();
+        Mockito.verify(uiInternals, Mockito.never())
+                .setLastHeartbeatTimestamp(anyLong());
+        Mockito.verify(response).setHeader("Cache-Control", "no-cache");
+    }
+
+    @Test
+    public void handleRequest_heartbeatListeners_handledWithSessionLocked()
+            throws IOException {
+        VaadinService service = mock(VaadinService.class);
+        VaadinSession session = mock(VaadinSession.class);
+        VaadinRequest request = createHeartbeatRequest();
+        VaadinResponse response = mock(VaadinResponse.class);
+        UI ui = mock(UI.class);
+        UIInternals uiInternals = mock(UIInternals.class);
+
+        when(ui.getInternals()).thenReturn(uiInternals);
+        when(session.getService()).thenReturn(service);
+        when(session.getUIByIdWithoutLock(1)).thenReturn(ui);
+        when(service.findUI(request)).thenReturn(ui);
+
+        HeartbeatHandler handler = new HeartbeatHandler();
+        Assert.assertTrue(handler.handleRequest(session, request, response));
+
+        Mockito.verify(session).lock();
+        Mockito.verify(uiInternals).setLastHeartbeatTimestamp(anyLong());
+    }
+
+    private static VaadinRequest createHeartbeatRequest() {
+        VaadinRequest request = mock(VaadinRequest.class);
+        when(request.getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER))
+                .thenReturn(
+                        HandlerHelper.RequestType.HEARTBEAT.getIdentifier());
+        when(request.getParameter(ApplicationConstants.UI_ID_PARAMETER))
+                .thenReturn("1");
+        return request;
+    }
 }
@@ -40,6 +40,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.component.UI;
@@ -106,6 +107,8 @@ public class IndexHtmlRequestHandlerTest {
         deploymentConfiguration = mocks.getDeploymentConfiguration();
         deploymentConfiguration.setFrontendHotdeploy(false);
         deploymentConfiguration.setProductionMode(true);
+        // dev tools are always disabled in production mode
+        deploymentConfiguration.setDevToolsEnabled(false);
         indexHtmlRequestHandler = new IndexHtmlRequestHandler();
         context = service.getContext();
         springTokenString = UUID.randomUUID().toString();
@@ -326,6 +329,103 @@ public class IndexHtmlRequestHandlerTest {
                 scripts.get(expectedScripts - 1).attr("src"));
     }
 
+    @Test
+    public void handleRequest_eagerServerLoad_writtenAfterSessionUnlocked()
+            throws IOException {
+        deploymentConfiguration.setEagerServerLoad(true);
+
+        indexHtmlRequestHandler.handleRequest(session, createVaadinRequest("/"),
+                response);
+
+        InOrder inOrder = Mockito.inOrder(session, response);
+        inOrder.verify(session).lock();
+        inOrder.verify(session).unlock();
+        inOrder.verify(response).getOutputStream();
+        Assert.assertTrue(responseOutput.toString(StandardCharsets.UTF_8.name())
+                .contains(INITIAL_UIDL_SEARCH_STRING));
+    }
+
+    @Test
+    public void handleRequest_withListener_writtenAfterSessionUnlocked()
+            throws IOException {
+        deploymentConfiguration.setEagerServerLoad(true);
+        service.addIndexHtmlRequestListener(evt -> evt.getDocument().body()
+                .appendElement("div").attr("id", "by-listener"));
+
+        indexHtmlRequestHandler.handleRequest(session, createVaadinRequest("/"),
+                response);
+
+        InOrder inOrder = Mockito.inOrder(session, response);
+        inOrder.verify(session).lock();
+        inOrder.verify(session).unlock();
+        inOrder.verify(response).getOutputStream();
+        Document document = Jsoup
+                .parse(responseOutput.toString(StandardCharsets.UTF_8.name()));
+        Assert.assertNotNull(document.getElementById("by-listener"));
+    }
+
+    @Test
+    public void handleRequest_precompiledIndexHtml_initialUidlSerializedBeforeSessionUnlocked()
+            throws IOException {
+        deploymentConfiguration.setEagerServerLoad(true);
+        JsonObject value = Json.createObject();
+        value.put("state", "before-unlock");
+        service.addUIInitListener(event -> event.getUI().getElement()
+                .setPropertyJson("snapshot", value));
+        Mockito.doAnswer(invocation -> {
+            value.put("state", "after-unlock");
+            return null;
+        }).when(session).unlock();
+
+        indexHtmlRequestHandler.handleRequest(session, createVaadinRequest("/"),
+                response);
+
+        String indexHtml = responseOutput
+                .toString(StandardCharsets.UTF_8.name());
+        Assert.assertTrue(indexHtml.contains("before-unlock"));
+        Assert.assertFalse(indexHtml.contains("after-unlock"));
+    }
+
+    @Test
+    public void productionMode_precompiledIndexHtml_sameAsWithListener()
+            throws IOException {
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequestWithSpringCsrfToken(), response);
+        String precompiled = responseOutput
+                .toString(StandardCharsets.UTF_8.name());
+
+        // A listener forces the page to be modified as a DOM
+        service.addIndexHtmlRequestListener(evt -> {
+        });
+        responseOutput.reset();
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequestWithSpringCsrfToken(), response);
+        String modified = responseOutput
+                .toString(StandardCharsets.UTF_8.name());
+
+        Assert.assertTrue(precompiled.contains(springTokenString));
+        Assert.assertEquals(modified, precompiled);
+    }
+
+    @Test
+    public void productionMode_precompiledIndexHtml_containsFlowContainer()
+            throws IOException {
+        deploymentConfiguration.setEagerServerLoad(true);
+
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequest("/"), response);
+        Document document = Jsoup
+                .parse(responseOutput.toString(StandardCharsets.UTF_8.name()));
+
+        UI ui = UI.getCurrent();
+        Element container = document
+                .getElementById(ui.getInternals().getAppId());
+        Assert.assertNotNull(container);
+        Assert.assertEquals(ui.getInternals().getContainerTag(),
+                container.tagName());
+        Assert.assertEquals(1, document.head().getElementsByTag("base").size());
+    }
+
     @Test
     public void should_add_initialUidl_when_includeInitialBootstrapUidl()
             throws IOException {
@@ -427,6 +527,9 @@ public class IndexHtmlRequestHandlerTest {
     @Test
     public void should_getter_UI_return_not_empty_when_includeInitialBootstrapUidl()
             throws IOException {
+        // the response is only passed to the listeners when there are any
+        service.addIndexHtmlRequestListener(evt -> {
+        });
         deploymentConfiguration.setEagerServerLoad(true);
 
         VaadinRequest request = createVaadinRequest("/");
@@ -446,6 +549,9 @@ public class IndexHtmlRequestHandlerTest {
     @Test
     public void should_getter_UI_return_empty_when_not_includeInitialBootstrapUidl()
             throws IOException {
+        // the response is only passed to the listeners when there are any
+        service.addIndexHtmlRequestListener(evt -> {
+        });
         VaadinRequest request = createVaadinRequest("/");
 
         indexHtmlRequestHandler.synchronizedHandleRequest(session, request,
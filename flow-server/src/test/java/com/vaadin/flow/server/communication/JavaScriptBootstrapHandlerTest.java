@@ -33,6 +33,7 @@ import com.vaadin.flow.dom.NodeVisitor.ElementType;
 import com.vaadin.flow.dom.TestNodeVisitor;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
 import com.vaadin.flow.server.AppShellRegistry;
+import com.vaadin.flow.server.InitParameters;
 import com.vaadin.flow.server.MockServletServiceSessionSetup;
 import com.vaadin.flow.server.MockServletServiceSessionSetup.TestVaadinServletResponse;
 import com.vaadin.flow.server.VaadinRequest;
@@ -122,6 +123,27 @@ public class JavaScriptBootstrapHandlerTest {
         Assert.assertFalse(json.hasKey("pushScript"));
     }
 
+    @Test
+    public void should_includeMessageProcessingSlice_when_configured()
+            throws Exception {
+        VaadinRequest request = mocks.createRequest(mocks, "/",
+                "v-r=init&foo&location");
+        jsInitHandler.handleRequest(session, request, response);
+        JsonObject json = Json.parse(response.getPayload());
+        Assert.assertFalse(
+                json.getObject("appConfig").hasKey("messageProcessingSlice"));
+
+        mocks.getDeploymentConfiguration().setApplicationOrSystemProperty(
+                InitParameters.SERVLET_PARAMETER_MESSAGE_PROCESSING_SLICE,
+                "20");
+        response = mocks.createResponse();
+        jsInitHandler.handleRequest(session, request, response);
+        json = Json.parse(response.getPayload());
+        Assert.assertEquals(20,
+                json.getObject("appConfig").getNumber("messageProcessingSlice"),
+                0);
+    }
+
     @Test
     public void should_initialize_UI() throws Exception {
         VaadinRequest request = mocks.createRequest(mocks, "/",
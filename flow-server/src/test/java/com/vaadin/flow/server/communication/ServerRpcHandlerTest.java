@@ -9,6 +9,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import com.vaadin.flow.component.UI;
@@ -23,6 +24,8 @@ import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.communication.ServerRpcHandler.InvalidUIDLSecurityKeyException;
 import com.vaadin.flow.shared.ApplicationConstants;
 
+import elemental.json.JsonObject;
+
 public class ServerRpcHandlerTest {
     private VaadinRequest request;
     private VaadinService service;
@@ -90,6 +93,22 @@ public class ServerRpcHandlerTest {
         Mockito.verify(dependencyList).clearPendingSendToClient();
     }
 
+    @Test
+    public void handleRpc_clientTimings_passedToUIInternals()
+            throws InvalidUIDLSecurityKeyException, IOException {
+        StringReader reader = new StringReader("{\"csrfToken\": \"" + csrfToken
+                + "\", \"rpc\":[], \"clientId\":1, \""
+                + ApplicationConstants.CLIENT_TIMINGS
+                + "\": {\"messages\":[[1,0,0,0,1]]}}");
+
+        serverRpcHandler.handleRpc(ui, reader, request);
+
+        ArgumentCaptor<JsonObject> captor = ArgumentCaptor
+                .forClass(JsonObject.class);
+        Mockito.verify(uiInternals).handleClientTimings(captor.capture());
+        Assert.assertEquals(1, captor.getValue().getArray("messages").length());
+    }
+
     @Test
     public void handleRpc_duplicateMessage_doNotThrow()
             throws InvalidUIDLSecurityKeyException, IOException {
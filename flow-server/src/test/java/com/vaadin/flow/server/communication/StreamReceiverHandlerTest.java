@@ -224,6 +224,14 @@ public class StreamReceiverHandlerTest {
         };
     }
 
+    private static String createContent(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.toString();
+    }
+
     private Part createPart(InputStream inputStream, String contentType,
             String name, long size) throws IOException {
         Part part = mock(Part.class);
@@ -402,6 +410,61 @@ public class StreamReceiverHandlerTest {
         Mockito.verify(response, Mockito.times(0)).setStatus(Mockito.anyInt());
     }
 
+    @Test
+    public void doHandleMultipartFileUpload_contentLargerThanBuffer_allDataStreamedToReceiver()
+            throws IOException {
+        String data = createContent(
+                3 * StreamReceiverHandler.MAX_UPLOAD_BUFFER_SIZE + 17);
+        contentType = "multipart/form-data; boundary=----WebKitFormBoundary7NsWHeCJVZNwi6ll";
+        String body = "------WebKitFormBoundary7NsWHeCJVZNwi6ll\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"data.txt\"\r\n"
+                + "Content-Type: text/plain\r\n" + "\r\n" + data + "\r\n"
+                + "------WebKitFormBoundary7NsWHeCJVZNwi6ll--\r\n";
+        inputStream = createInputStream(body);
+        contentLength = String.valueOf(body.length());
+        outputStream = new ByteArrayOutputStream();
+
+        handler.doHandleMultipartFileUpload(session, request, response,
+                streamReceiver, stateNode);
+
+        Mockito.verify(streamVariable).streamingFinished(Mockito.any());
+        Assert.assertEquals(data, new String(
+                ((ByteArrayOutputStream) outputStream).toByteArray()));
+        Mockito.verify(response, Mockito.times(0)).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void doHandleXhrFilePost_listenProgress_progressEventsCoalesced()
+            throws IOException {
+        handler = new StreamReceiverHandler() {
+            @Override
+            protected int getProgressEventInterval() {
+                return Integer.MAX_VALUE;
+            }
+        };
+        String data = createContent(
+                3 * StreamReceiverHandler.MAX_UPLOAD_BUFFER_SIZE + 17);
+        inputStream = createInputStream(data);
+        contentLength = String.valueOf(data.length());
+        outputStream = new ByteArrayOutputStream();
+        when(streamVariable.listenProgress()).thenReturn(true);
+
+        handler.doHandleXhrFilePost(session, request, response, streamReceiver,
+                stateNode, data.length());
+
+        ArgumentCaptor<StreamVariable.StreamingProgressEvent> progressCaptor = ArgumentCaptor
+                .forClass(StreamVariable.StreamingProgressEvent.class);
+        // the first buffer and the end of the stream
+        Mockito.verify(streamVariable, Mockito.times(2))
+                .onProgress(progressCaptor.capture());
+        Assert.assertEquals(StreamReceiverHandler.MAX_UPLOAD_BUFFER_SIZE,
+                progressCaptor.getAllValues().get(0).getBytesReceived());
+        Assert.assertEquals(data.length(),
+                progressCaptor.getAllValues().get(1).getBytesReceived());
+        Assert.assertEquals(data, new String(
+                ((ByteArrayOutputStream) outputStream).toByteArray()));
+    }
+
     @Test
     public void handleFileUploadValidationAndData_inputStreamThrowsIOException_exceptionIsNotRethrown_exceptionIsNotHandlerByErrorHandler()
             throws UploadException {
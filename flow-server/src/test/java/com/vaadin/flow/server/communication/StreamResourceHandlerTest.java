@@ -19,14 +19,24 @@ import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletOutputStream;
 
+import jakarta.servlet.WriteListener;
+
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import com.vaadin.flow.server.FileStreamResource;
 import com.vaadin.flow.server.HttpStatusCode;
 import com.vaadin.flow.server.InputStreamFactory;
 import com.vaadin.flow.server.MockVaadinServletService;
@@ -46,6 +56,9 @@ public class StreamResourceHandlerTest {
     private VaadinServletRequest request;
     private VaadinServletResponse response;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void setUp() throws ServletException, ServiceException {
         VaadinService service = new MockVaadinServletService();
@@ -145,4 +158,196 @@ public class StreamResourceHandlerTest {
 
         Mockito.verify(response).setHeader("foo", "bar");
     }
+
+    @Test
+    public void fileResource_noRange_wholeFileWritten() throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        ByteArrayOutputStream output = mockOutput();
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals("0123456789",
+                output.toString(StandardCharsets.UTF_8));
+        Mockito.verify(response).setHeader("Content-Length", "10");
+        Mockito.verify(response).setHeader("Accept-Ranges", "bytes");
+        Mockito.verify(response).setHeader(Mockito.eq("ETag"),
+                Mockito.anyString());
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void fileResource_range_partialContentWritten() throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        ByteArrayOutputStream output = mockOutput();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-5");
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals("2345", output.toString(StandardCharsets.UTF_8));
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.PARTIAL_CONTENT.getCode());
+        Mockito.verify(response).setHeader("Content-Range", "bytes 2-5/10");
+        Mockito.verify(response).setHeader("Content-Length", "4");
+    }
+
+    @Test
+    public void fileResource_openEndedAndSuffixRanges_partialContentWritten()
+            throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        ByteArrayOutputStream output = mockOutput();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=7-");
+
+        handler.handleRequest(session, request, response, res);
+        Assert.assertEquals("789", output.toString(StandardCharsets.UTF_8));
+
+        output.reset();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=-2");
+
+        handler.handleRequest(session, request, response, res);
+        Assert.assertEquals("89", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void fileResource_rangeOutsideOfFile_rangeNotSatisfiable()
+            throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        ByteArrayOutputStream output = mockOutput();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=10-");
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals(0, output.size());
+        Mockito.verify(response).setStatus(
+                HttpStatusCode.REQUESTED_RANGE_NOT_SATISFIABLE.getCode());
+        Mockito.verify(response).setHeader("Content-Range", "bytes */10");
+    }
+
+    @Test
+    public void fileResource_multipleRanges_wholeFileWritten()
+            throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        ByteArrayOutputStream output = mockOutput();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=0-1,5-6");
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals("0123456789",
+                output.toString(StandardCharsets.UTF_8));
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void fileResource_matchingETag_notModified() throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        ByteArrayOutputStream output = mockOutput();
+
+        handler.handleRequest(session, request, response, res);
+        String eTag = getETag();
+
+        Mockito.reset(response);
+        output = mockOutput();
+        Mockito.when(request.getHeader("If-None-Match")).thenReturn(eTag);
+
+        handler.handleRequest(session, request, response, res);
+
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+        Assert.assertEquals(0, output.size());
+    }
+
+    @Test
+    public void fileResource_modifiedFile_eTagChanges() throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        mockOutput();
+        handler.handleRequest(session, request, response, res);
+        String eTag = getETag();
+
+        Files.write(res.getFile().toPath(),
+                "01234567890".getBytes(StandardCharsets.UTF_8));
+        Mockito.reset(response);
+        ByteArrayOutputStream output = mockOutput();
+        Mockito.when(request.getHeader("If-None-Match")).thenReturn(eTag);
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals("01234567890",
+                output.toString(StandardCharsets.UTF_8));
+        Assert.assertNotEquals(eTag, getETag());
+    }
+
+    @Test
+    public void fileResource_notModifiedSince_notModified() throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        ByteArrayOutputStream output = mockOutput();
+        Mockito.when(request.getDateHeader("If-Modified-Since"))
+                .thenReturn(res.getFile().lastModified() + 1000);
+
+        handler.handleRequest(session, request, response, res);
+
+        Mockito.verify(response)
+                .setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+        Assert.assertEquals(0, output.size());
+    }
+
+    @Test
+    public void fileResource_ifRangeDoesNotMatch_wholeFileWritten()
+            throws IOException {
+        FileStreamResource res = createFileResource("0123456789");
+        ByteArrayOutputStream output = mockOutput();
+        Mockito.when(request.getHeader("Range")).thenReturn("bytes=2-5");
+        Mockito.when(request.getHeader("If-Range")).thenReturn("\"foo\"");
+
+        handler.handleRequest(session, request, response, res);
+
+        Assert.assertEquals("0123456789",
+                output.toString(StandardCharsets.UTF_8));
+        Mockito.verify(response, Mockito.never()).setStatus(Mockito.anyInt());
+    }
+
+    @Test
+    public void fileResource_missingFile_notFound() throws IOException {
+        FileStreamResource res = new FileStreamResource("missing.txt",
+                new File(temporaryFolder.getRoot(), "missing.txt"));
+
+        handler.handleRequest(session, request, response, res);
+
+        Mockito.verify(response).setStatus(HttpStatusCode.NOT_FOUND.getCode());
+        Mockito.verify(response, Mockito.never()).getOutputStream();
+    }
+
+    private FileStreamResource createFileResource(String content)
+            throws IOException {
+        File file = temporaryFolder.newFile("data.txt");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        Mockito.when(request.getDateHeader(Mockito.anyString()))
+                .thenReturn(-1L);
+        return new FileStreamResource(file.getName(), file);
+    }
+
+    private ByteArrayOutputStream mockOutput() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Mockito.when(response.getOutputStream())
+                .thenReturn(new ServletOutputStream() {
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                    }
+
+                    @Override
+                    public void write(int b) {
+                        output.write(b);
+                    }
+                });
+        return output;
+    }
+
+    private String getETag() {
+        ArgumentCaptor<String> eTag = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(response).setHeader(Mockito.eq("ETag"), eTag.capture());
+        return eTag.getValue();
+    }
 }
@@ -44,6 +44,7 @@ import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
 import com.vaadin.flow.di.Lookup;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementFactory;
+import com.vaadin.flow.internal.JavaScriptExpressionPool;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.router.ParentLayout;
@@ -197,6 +198,37 @@ public class UidlWriterTest {
         assertTrue(JsonUtils.jsonEquals(expectedJson, json));
     }
 
+    @Test
+    public void encodeExecuteJavaScript_expressionPool_expressionsReferencedById() {
+        Element element = ElementFactory.createDiv();
+
+        List<PendingJavaScriptInvocation> executeJavaScriptList = Stream
+                .of(new JavaScriptInvocation("console.log($0)", "first"),
+                        new JavaScriptInvocation("console.log($0)", "second"),
+                        new JavaScriptInvocation("alert($0)", "third"))
+                .map(invocation -> new PendingJavaScriptInvocation(
+                        element.getNode(), invocation))
+                .collect(Collectors.toList());
+
+        JavaScriptExpressionPool pool = new JavaScriptExpressionPool();
+        JsonArray json = UidlWriter
+                .encodeExecuteJavaScriptList(executeJavaScriptList, pool);
+
+        // Only repeated expressions are pooled
+        JsonArray expectedJson = JsonUtils.createArray(
+                JsonUtils.createArray(Json.create("first"),
+                        Json.create("console.log($0)")),
+                JsonUtils.createArray(Json.create("second"), Json.create(0)),
+                JsonUtils.createArray(Json.create("third"),
+                        Json.create("alert($0)")));
+
+        assertTrue(JsonUtils.jsonEquals(expectedJson, json));
+
+        JsonArray expressions = pool.dumpExpressions();
+        assertEquals(1, expressions.length());
+        assertEquals("console.log($0)", expressions.getString(0));
+    }
+
     @Test
     public void componentDependencies_npmMode() throws Exception {
         UI ui = initializeUIForDependenciesTest(new TestUI());
@@ -19,9 +19,11 @@ package com.vaadin.flow.server.frontend;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -37,6 +39,9 @@ import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.frontend.scanner.ClassFinder;
 import com.vaadin.flow.testutil.TestUtils;
 
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
 public class TaskCopyTemplateFilesTest {
 
     @Tag("my-lit-element-view")
@@ -79,6 +84,32 @@ public class TaskCopyTemplateFilesTest {
         executeTaskCopyTemplateFiles("frontend-custom");
     }
 
+    @Test
+    public void devBundleBuild_templateIndexNotWritten() throws Exception {
+        File frontendDirectory = new File(projectDirectory,
+                FrontendUtils.FRONTEND);
+        frontendDirectory.mkdirs();
+        new File(frontendDirectory, "my-lit-element-view.js").createNewFile();
+
+        Options options = new Options(Mockito.mock(Lookup.class),
+                projectDirectory)
+                .withWebpack(frontendDirectory, resourceOutputDirectory)
+                .withFrontendDirectory(frontendDirectory)
+                .withProductionMode(false).withBundleBuild(true);
+        new TaskCopyTemplateFiles(finder, options).execute();
+
+        File devBundleFolder = DevBundleUtils
+                .getDevBundleFolder(projectDirectory);
+        List<String> files = TestUtils.listFilesRecursively(devBundleFolder);
+        Assert.assertTrue("TS resource should have been copied", files.stream()
+                .anyMatch(file -> file.contains("my-lit-element-view.js")));
+        Assert.assertFalse("Template index should not be written",
+                new File(devBundleFolder, Constants.TEMPLATE_INDEX).exists());
+        Assert.assertFalse("Template index should not be written",
+                new File(resourceOutputDirectory, Constants.TEMPLATE_INDEX)
+                        .exists());
+    }
+
     private void executeTaskCopyTemplateFiles(String frontedDirectoryName)
             throws Exception {
         // prepare frontend resource
@@ -98,6 +129,15 @@ public class TaskCopyTemplateFilesTest {
                 .listFilesRecursively(resourceOutputDirectory);
         Assert.assertTrue("TS resource should have been copied", files.stream()
                 .anyMatch(file -> file.contains("my-lit-element-view.js")));
+
+        File index = new File(resourceOutputDirectory,
+                Constants.TEMPLATE_INDEX);
+        Assert.assertTrue("Template index should have been written",
+                index.exists());
+        JsonObject indexJson = Json.parse(
+                FileUtils.readFileToString(index, StandardCharsets.UTF_8));
+        Assert.assertEquals(MyLitElementView.class.getName(),
+                indexJson.getArray("templates").getString(0));
     }
 
 }
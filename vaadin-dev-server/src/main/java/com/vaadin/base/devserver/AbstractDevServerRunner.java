@@ -22,6 +22,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
@@ -33,8 +34,10 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.regex.Pattern;
 
@@ -121,6 +124,10 @@ public abstract class AbstractDevServerRunner implements DevModeHandler {
 
     private ApplicationConfiguration applicationConfiguration;
 
+    private final LongAdder proxiedRequests = new LongAdder();
+
+    private final LongAdder proxiedRequestNanos = new LongAdder();
+
     private String failedOutput = null;
 
     private transient Runnable waitForRestart;
@@ -533,6 +540,26 @@ public abstract class AbstractDevServerRunner implements DevModeHandler {
         return port;
     }
 
+    /**
+     * Gets the number of requests that have been proxied to the dev server,
+     * including the ones for resources it did not serve.
+     *
+     * @return the number of proxied requests
+     */
+    public long getProxiedRequestCount() {
+        return proxiedRequests.sum();
+    }
+
+    /**
+     * Gets the total time spent proxying requests to the dev server, from
+     * sending the request until the response has been copied.
+     *
+     * @return the total time in milliseconds
+     */
+    public long getProxiedRequestTime() {
+        return TimeUnit.NANOSECONDS.toMillis(proxiedRequestNanos.sum());
+    }
+
     private void reuseExistingPort(int port) {
         getLogger().info("Reusing {} running at {}:{}", getServerName(),
                 DEV_SERVER_HOST, port);
@@ -739,8 +766,11 @@ public abstract class AbstractDevServerRunner implements DevModeHandler {
         // Send the request
         getLogger().debug("Requesting resource from {} {}", getServerName(),
                 connection.getURL());
+        long start = System.nanoTime();
         int responseCode = connection.getResponseCode();
         if (responseCode == HttpURLConnection.HTTP_NOT_FOUND) {
+            discardResponse(connection);
+            recordProxiedRequest(start);
             getLogger().debug("Resource not served by {} {}", getServerName(),
                     devServerRequestPath);
             // the dev server cannot access the resource, return false so Flow
@@ -748,8 +778,6 @@ public abstract class AbstractDevServerRunner implements DevModeHandler {
             // handle it
             return false;
         }
-        getLogger().debug("Served resource by {}: {} {}", getServerName(),
-                responseCode, devServerRequestPath);
 
         // Copies response headers
         connection.getHeaderFields().forEach((header, values) -> {
@@ -763,21 +791,57 @@ public abstract class AbstractDevServerRunner implements DevModeHandler {
 
         if (responseCode == HttpURLConnection.HTTP_OK) {
             // Copies response payload
-            writeStream(response.getOutputStream(),
-                    connection.getInputStream());
-        } else if (responseCode < 400) {
-            response.setStatus(responseCode);
+            try (InputStream inputStream = connection.getInputStream()) {
+                writeStream(response.getOutputStream(), inputStream);
+            }
         } else {
-            // Copies response code
-            response.sendError(responseCode);
+            discardResponse(connection);
+            if (responseCode < 400) {
+                response.setStatus(responseCode);
+            } else {
+                // Copies response code
+                response.sendError(responseCode);
+            }
         }
 
         // Close request to avoid issues in CI and Chrome
         response.getOutputStream().close();
 
+        long nanos = recordProxiedRequest(start);
+        getLogger().debug("Served resource by {}: {} {} in {} ms",
+                getServerName(), responseCode, devServerRequestPath,
+                TimeUnit.NANOSECONDS.toMillis(nanos));
         return true;
     }
 
+    private long recordProxiedRequest(long start) {
+        long nanos = System.nanoTime() - start;
+        proxiedRequests.increment();
+        proxiedRequestNanos.add(nanos);
+        return nanos;
+    }
+
+    /**
+     * Reads and closes the body of a response which is not passed on, so that
+     * the connection to the dev server can be reused for the following requests
+     * instead of opening a new one.
+     */
+    private static void discardResponse(HttpURLConnection connection) {
+        try {
+            InputStream stream = connection.getErrorStream();
+            if (stream == null) {
+                stream = connection.getInputStream();
+            }
+            if (stream != null) {
+                try (InputStream body = stream) {
+                    body.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+        } catch (IOException e) {
+            getLogger().trace("Unable to read the dev server response", e);
+        }
+    }
+
     private RuntimeException getCause(Throwable exception) {
         if (exception instanceof CompletionException) {
             return getCause(exception.getCause());
@@ -1,27 +1,36 @@
 package com.vaadin.base.devserver;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import com.sun.net.httpserver.HttpServer;
+
 import com.vaadin.base.devserver.startup.AbstractDevModeTest;
 import com.vaadin.flow.internal.DevModeHandler;
 import com.vaadin.flow.server.ExecutionFailedException;
@@ -37,6 +46,8 @@ public class AbstractDevServerRunnerTest extends AbstractDevModeTest {
 
     private class DummyRunner extends AbstractDevServerRunner {
 
+        private int stubServerPort;
+
         protected DummyRunner() {
             super(lookup, 0, npmFolder,
                     CompletableFuture.completedFuture(null));
@@ -86,9 +97,17 @@ public class AbstractDevServerRunnerTest extends AbstractDevModeTest {
         @Override
         public HttpURLConnection prepareConnection(String path, String method)
                 throws IOException {
+            if (stubServerPort > 0) {
+                return super.prepareConnection(path, method);
+            }
             return Mockito.mock(HttpURLConnection.class);
         }
 
+        @Override
+        public int getPort() {
+            return stubServerPort > 0 ? stubServerPort : super.getPort();
+        }
+
         // Expose for testing
         @Override
         public void updateServerStartupEnvironment(FrontendTools frontendTools,
@@ -123,6 +142,84 @@ public class AbstractDevServerRunnerTest extends AbstractDevModeTest {
 
     }
 
+    @Test
+    public void serveDevModeRequest_stubServer_connectionReused()
+            throws Exception {
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        HttpServer server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            boolean found = exchange.getRequestURI().getPath()
+                    .equals("/VAADIN/found.js");
+            byte[] body = (found ? "found" : "not found")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(found ? 200 : 404, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            DummyRunner runner = new DummyRunner();
+            runner.stubServerPort = server.getAddress().getPort();
+            handler = runner;
+            runner.waitForDevServer();
+
+            for (int i = 0; i < 3; i++) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                Assert.assertTrue(runner.serveDevModeRequest(
+                        createRequest("/VAADIN/found.js"),
+                        createResponse(content)));
+                Assert.assertEquals("found",
+                        content.toString(StandardCharsets.UTF_8));
+
+                Assert.assertFalse(runner.serveDevModeRequest(
+                        createRequest("/VAADIN/missing.js"),
+                        createResponse(new ByteArrayOutputStream())));
+            }
+
+            Assert.assertEquals(
+                    "All requests should use the same connection to the dev server",
+                    1, clientPorts.size());
+            Assert.assertEquals(6, runner.getProxiedRequestCount());
+            Assert.assertTrue(runner.getProxiedRequestTime() >= 0);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private HttpServletRequest createRequest(String pathInfo) {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getPathInfo()).thenReturn(pathInfo);
+        Mockito.when(request.getMethod()).thenReturn("GET");
+        Mockito.when(request.getHeaderNames())
+                .thenReturn(Collections.emptyEnumeration());
+        return request;
+    }
+
+    private HttpServletResponse createResponse(ByteArrayOutputStream content)
+            throws IOException {
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                content.write(b);
+            }
+        };
+        Mockito.when(response.getOutputStream()).thenReturn(outputStream);
+        return response;
+    }
+
     @Test
     public void updateServerStartupEnvironment_preferIpv4_LocalhostIpAddressAddedToProcessEnvironment() {
         assertOnDevProcessEnvironment(Inet4Address.class, environment -> {
@@ -16,8 +16,8 @@
 package com.vaadin.flow.spring.scopes;
 
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
@@ -29,6 +29,11 @@ import com.vaadin.flow.server.VaadinSession;
 
 /**
  * Spring bean store class to keep scope objects.
+ * <p>
+ * Beans which have already been created are looked up without locking the
+ * session. Beans are created and removed while holding the session lock, so
+ * that a bean is only created once and bean constructors run with the session
+ * locked, as before.
  *
  * @author Vaadin Ltd
  *
@@ -40,9 +45,11 @@ class BeanStore implements Serializable {
 
     private final VaadinSession session;
 
-    private final Map<String, Object> objects = new HashMap<>();
+    private final Map<String, Object> objects = new ConcurrentHashMap<>();
 
-    private final Map<String, Runnable> destructionCallbacks = new HashMap<>();
+    private final Map<String, Runnable> destructionCallbacks = new ConcurrentHashMap<>();
+
+    private volatile boolean destroyed;
 
     /**
      * Creates a new instance for the given {@code session}.
@@ -68,6 +75,10 @@ class BeanStore implements Serializable {
      * @see Scope#get(String, ObjectFactory)
      */
     Object get(String name, ObjectFactory<?> objectFactory) {
+        Object bean = objects.get(name);
+        if (bean != null) {
+            return bean;
+        }
         return execute(() -> doGet(name, objectFactory));
     }
 
@@ -91,7 +102,7 @@ class BeanStore implements Serializable {
      * @see Scope#registerDestructionCallback(String, Runnable)
      */
     void registerDestructionCallback(String name, Runnable callback) {
-        execute(() -> destructionCallbacks.put(name, callback));
+        destructionCallbacks.put(name, callback);
     }
 
     void destroy() {
@@ -102,8 +113,20 @@ class BeanStore implements Serializable {
         return session;
     }
 
+    /**
+     * Checks whether this store has been destroyed, so that any reference to it
+     * kept outside of the session should no longer be used.
+     *
+     * @return {@code true} if the store has been destroyed, {@code false}
+     *         otherwise
+     */
+    boolean isDestroyed() {
+        return destroyed;
+    }
+
     Void doDestroy() {
         assert session.hasLock();
+        destroyed = true;
         try {
             for (Runnable destructionCallback : destructionCallbacks.values()) {
                 try {
@@ -142,10 +165,12 @@ class BeanStore implements Serializable {
     }
 
     void storeBean(String name, Object bean) {
-        objects.put(name, bean);
+        if (bean != null) {
+            objects.put(name, bean);
+        }
     }
 
-    private <T> T execute(Supplier<T> supplier) {
+    <T> T execute(Supplier<T> supplier) {
         if (session.hasLock()) {
             return supplier.get();
         } else {
@@ -326,6 +326,13 @@ public class VaadinRouteScope extends AbstractScope implements UIInitListener {
             }
         }
 
+        @Override
+        Object get(String name, ObjectFactory<?> objectFactory) {
+            // The owner of an existing bean needs to be checked against the
+            // active navigation chain, which requires the session lock
+            return execute(() -> doGet(name, objectFactory));
+        }
+
         @Override
         protected Object doGet(String name, ObjectFactory<?> objectFactory) {
             RouteScopeOwner owner = getContext().findAnnotationOnBean(name,
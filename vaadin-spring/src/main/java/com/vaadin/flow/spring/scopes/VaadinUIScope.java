@@ -22,6 +22,7 @@ import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 
 import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.server.VaadinSession;
@@ -33,6 +34,10 @@ import com.vaadin.flow.spring.SpringVaadinSession;
  * {@link org.springframework.beans.factory.config.Scope} that binds the beans
  * to the current {@link UI}. Registered by default as the scope "
  * {@value #VAADIN_UI_SCOPE_NAME}".
+ * <p>
+ * The bean stores are kept in the session, but once the store of a UI has been
+ * resolved, it is also stored as component data of the UI, so that beans
+ * already created for the UI are looked up without locking the session.
  *
  * @see com.vaadin.flow.spring.annotation.UIScope
  *
@@ -72,6 +77,7 @@ public class VaadinUIScope extends AbstractScope {
             UI ui = event.getUI();
             if (ui.isClosing()) {
                 BeanStore beanStore = uiStores.remove(ui.getUIId());
+                ComponentUtil.setData(ui, BeanStore.class, null);
                 if (beanStore != null) {
                     beanStore.destroy();
                 }
@@ -121,6 +127,17 @@ public class VaadinUIScope extends AbstractScope {
     @Override
     protected BeanStore getBeanStore() {
         final VaadinSession session = getVaadinSession();
+        UI ui = getUI();
+        /*
+         * The data is written while holding the session lock. A read without
+         * the lock may miss it, in which case the store is resolved from the
+         * session below.
+         */
+        BeanStore beanStore = ComponentUtil.getData(ui, BeanStore.class);
+        if (beanStore != null && !beanStore.isDestroyed()
+                && beanStore.getVaadinSession() == session) {
+            return beanStore;
+        }
         session.lock();
         try {
             UIStoreWrapper wrapper = session.getAttribute(UIStoreWrapper.class);
@@ -128,10 +145,12 @@ public class VaadinUIScope extends AbstractScope {
                 wrapper = new UIStoreWrapper(session);
                 session.setAttribute(UIStoreWrapper.class, wrapper);
             }
-            return wrapper.getBeanStore(getUI());
+            beanStore = wrapper.getBeanStore(ui);
+            ComponentUtil.setData(ui, BeanStore.class, beanStore);
         } finally {
             session.unlock();
         }
+        return beanStore;
     }
 
     private UI getUI() {
@@ -69,6 +69,7 @@ class JwtSecurityContextRepository implements SecurityContextRepository {
     private JWSAlgorithm jwsAlgorithm;
     private JwtDecoder jwtDecoder;
     private AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final VerifiedJwtCache verifiedJwtCache = new VerifiedJwtCache();
 
     JwtSecurityContextRepository(
             SerializedJwtSplitCookieRepository serializedJwtSplitCookieRepository) {
@@ -85,10 +86,12 @@ class JwtSecurityContextRepository implements SecurityContextRepository {
     void setJwkSource(
             JWKSource<com.nimbusds.jose.proc.SecurityContext> jwkSource) {
         this.jwkSource = jwkSource;
+        verifiedJwtCache.clear();
     }
 
     void setJwsAlgorithm(JWSAlgorithm jwsAlgorithm) {
         this.jwsAlgorithm = jwsAlgorithm;
+        verifiedJwtCache.clear();
     }
 
     void setExpiresIn(long expiresIn) {
@@ -98,6 +101,7 @@ class JwtSecurityContextRepository implements SecurityContextRepository {
 
     void setIssuer(String issuer) {
         this.issuer = issuer;
+        verifiedJwtCache.clear();
     }
 
     void setTrustResolver(AuthenticationTrustResolver trustResolver) {
@@ -167,8 +171,16 @@ class JwtSecurityContextRepository implements SecurityContextRepository {
             return null;
         }
 
+        Jwt cachedJwt = verifiedJwtCache.get(serializedJwt);
+        if (cachedJwt != null) {
+            return cachedJwt;
+        }
+
         try {
-            return getJwtDecoder().decode(serializedJwt);
+            long start = System.nanoTime();
+            Jwt jwt = getJwtDecoder().decode(serializedJwt);
+            verifiedJwtCache.put(serializedJwt, jwt, System.nanoTime() - start);
+            return jwt;
         } catch (JwtException e) {
             if (this.logger.isTraceEnabled()) {
                 this.logger.trace(
@@ -204,11 +216,29 @@ class JwtSecurityContextRepository implements SecurityContextRepository {
         } catch (JOSEException e) {
             logger.warn("Cannot serialize SecurityContext as JWT", e);
         } finally {
+            if (serializedJwt == null) {
+                // The cookies are removed e.g. when logging out, after which
+                // the token of the request must not be accepted from the cache
+                String currentJwt = serializedJwtSplitCookieRepository
+                        .loadSerializedJwt(request);
+                if (currentJwt != null) {
+                    verifiedJwtCache.remove(currentJwt);
+                }
+            }
             serializedJwtSplitCookieRepository.saveSerializedJwt(serializedJwt,
                     request, response);
         }
     }
 
+    /**
+     * Gets the cache of verified tokens. Package private for testing purposes.
+     *
+     * @return the verified token cache
+     */
+    VerifiedJwtCache getVerifiedJwtCache() {
+        return verifiedJwtCache;
+    }
+
     @Override
     public boolean containsContext(HttpServletRequest request) {
         return serializedJwtSplitCookieRepository
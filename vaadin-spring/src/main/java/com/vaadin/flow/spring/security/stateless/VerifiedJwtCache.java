@@ -0,0 +1,202 @@
+/*
+ * Copyright 2000-2023 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.spring.security.stateless;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * A bounded cache of JWTs which have already been decoded and verified, keyed
+ * by a digest of the serialized token.
+ * <p>
+ * The same token is sent with every request until it's renewed, so the
+ * signature doesn't need to be verified again for each request. Tokens are only
+ * returned until they expire, after which they are verified again, which
+ * rejects them. When the cache is full, the least recently used tokens are
+ * removed.
+ */
+class VerifiedJwtCache {
+
+    static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final int STATISTICS_LOG_INTERVAL = 1000;
+
+    private final Log logger = LogFactory.getLog(this.getClass());
+
+    private final Map<String, Jwt> tokens;
+
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong verificationNanos = new AtomicLong();
+
+    VerifiedJwtCache() {
+        this(DEFAULT_MAX_SIZE, Clock.systemUTC());
+    }
+
+    VerifiedJwtCache(int maxSize, Clock clock) {
+        this.clock = clock;
+        tokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Jwt> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the verified JWT for the given serialized token.
+     *
+     * @param serializedJwt
+     *            the serialized token
+     * @return the verified token, or {@code null} if the token has not been
+     *         verified or it has expired
+     */
+    Jwt get(String serializedJwt) {
+        String key = digest(serializedJwt);
+        Jwt jwt;
+        synchronized (tokens) {
+            jwt = tokens.get(key);
+            if (jwt != null && !isValid(jwt)) {
+                tokens.remove(key);
+                jwt = null;
+            }
+        }
+        long lookups;
+        if (jwt != null) {
+            lookups = hits.incrementAndGet() + misses.get();
+        } else {
+            lookups = misses.incrementAndGet() + hits.get();
+        }
+        if (lookups % STATISTICS_LOG_INTERVAL == 0 && logger.isDebugEnabled()) {
+            logger.debug(String.format(
+                    "Verified JWT cache hit rate %.1f %%, average verification time %.3f ms",
+                    getHitRate() * 100, getAverageVerificationTime() / 1e6));
+        }
+        return jwt;
+    }
+
+    /**
+     * Stores a verified JWT.
+     *
+     * @param serializedJwt
+     *            the serialized token
+     * @param jwt
+     *            the verified token
+     * @param verificationTime
+     *            the time it took to decode and verify the token, in
+     *            nanoseconds
+     */
+    void put(String serializedJwt, Jwt jwt, long verificationTime) {
+        verificationNanos.addAndGet(verificationTime);
+        if (!isValid(jwt)) {
+            return;
+        }
+        String key = digest(serializedJwt);
+        synchronized (tokens) {
+            tokens.put(key, jwt);
+        }
+    }
+
+    /**
+     * Removes the given token from the cache, if present.
+     *
+     * @param serializedJwt
+     *            the serialized token
+     */
+    void remove(String serializedJwt) {
+        String key = digest(serializedJwt);
+        synchronized (tokens) {
+            tokens.remove(key);
+        }
+    }
+
+    /**
+     * Removes all tokens, e.g. when the key used for verifying them changes.
+     */
+    void clear() {
+        synchronized (tokens) {
+            tokens.clear();
+        }
+    }
+
+    /**
+     * Gets the number of tokens in the cache.
+     *
+     * @return the number of cached tokens
+     */
+    int size() {
+        synchronized (tokens) {
+            return tokens.size();
+        }
+    }
+
+    /**
+     * Gets the ratio of lookups which found a valid token in the cache.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the average time it took to decode and verify a token which was not
+     * found in the cache.
+     *
+     * @return the average verification time in nanoseconds
+     */
+    double getAverageVerificationTime() {
+        long missCount = misses.get();
+        return missCount == 0 ? 0
+                : (double) verificationNanos.get() / missCount;
+    }
+
+    private boolean isValid(Jwt jwt) {
+        Instant now = clock.instant();
+        Instant expiresAt = jwt.getExpiresAt();
+        Instant notBefore = jwt.getNotBefore();
+        return expiresAt != null && now.isBefore(expiresAt)
+                && (notBefore == null || !now.isBefore(notBefore));
+    }
+
+    private static String digest(String serializedJwt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest
+                    .digest(serializedJwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
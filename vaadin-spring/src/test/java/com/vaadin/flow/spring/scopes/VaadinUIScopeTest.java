@@ -189,6 +189,62 @@ public class VaadinUIScopeTest extends AbstractUIScopedTest {
         verify(factory, times(1)).getObject();
     }
 
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void get_beanAlreadyCreated_sessionIsNotLocked() {
+        mockUI();
+        VaadinSession session = VaadinSession.getCurrent();
+
+        VaadinUIScope scope = new VaadinUIScope();
+
+        Object object = new Object();
+        ObjectFactory factory = Mockito.mock(ObjectFactory.class);
+        when(factory.getObject()).thenReturn(object);
+        scope.get("foo", factory);
+
+        Mockito.clearInvocations(session);
+
+        Assert.assertSame(object, scope.get("foo", factory));
+        verify(factory).getObject();
+        verify(session, Mockito.never()).lock();
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void get_storeResolvedByAnotherScopeInstance_sessionIsNotLocked() {
+        mockUI();
+        VaadinSession session = VaadinSession.getCurrent();
+
+        Object object = new Object();
+        ObjectFactory factory = Mockito.mock(ObjectFactory.class);
+        when(factory.getObject()).thenReturn(object);
+        new VaadinUIScope().get("foo", factory);
+
+        Mockito.clearInvocations(session);
+
+        Assert.assertSame(object, new VaadinUIScope().get("foo", factory));
+        verify(session, Mockito.never()).lock();
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void get_uiClosed_beanIsNotReturnedFromClosedUIStore() {
+        UI ui = mockUI();
+
+        VaadinUIScope scope = new VaadinUIScope();
+
+        ObjectFactory factory = Mockito.mock(ObjectFactory.class);
+        when(factory.getObject()).thenReturn(new Object(), new Object());
+        Object first = scope.get("foo", factory);
+
+        ui.close();
+        ComponentUtil.onComponentDetach(ui);
+
+        Object second = scope.get("foo", factory);
+        Assert.assertNotSame(first, second);
+        verify(factory, times(2)).getObject();
+    }
+
     @Override
     protected Scope getScope() {
         return new VaadinUIScope();
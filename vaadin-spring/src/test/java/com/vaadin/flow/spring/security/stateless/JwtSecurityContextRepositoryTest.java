@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import com.nimbusds.jose.JOSEException;
@@ -348,6 +349,62 @@ public class JwtSecurityContextRepositoryTest {
                         .get());
     }
 
+    @Test
+    public void loadContext_sameJwtTwice_verifiedOnce() throws JOSEException {
+        AtomicInteger keyLookups = countKeyLookups();
+        Mockito.doReturn(getJwt(getHeaderBuilder().build(),
+                getClaimsSetBuilder().build()))
+                .when(serializedJwtSplitCookieRepository)
+                .loadSerializedJwt(request);
+
+        SecurityContext first = jwtSecurityContextRepository
+                .loadDeferredContext(request).get();
+        SecurityContext second = jwtSecurityContextRepository
+                .loadDeferredContext(request).get();
+
+        Assert.assertEquals(1, keyLookups.get());
+        Assert.assertEquals(first.getAuthentication().getName(),
+                second.getAuthentication().getName());
+        Assert.assertEquals(0.5,
+                jwtSecurityContextRepository.getVerifiedJwtCache().getHitRate(),
+                0);
+    }
+
+    @Test
+    public void loadContext_afterLogout_jwtVerifiedAgain()
+            throws JOSEException {
+        AtomicInteger keyLookups = countKeyLookups();
+        Mockito.doReturn(getJwt(getHeaderBuilder().build(),
+                getClaimsSetBuilder().build()))
+                .when(serializedJwtSplitCookieRepository)
+                .loadSerializedJwt(request);
+        jwtSecurityContextRepository.loadDeferredContext(request).get();
+
+        jwtSecurityContextRepository.saveContext(
+                SecurityContextHolder.createEmptyContext(), request, response);
+        Assert.assertEquals(0,
+                jwtSecurityContextRepository.getVerifiedJwtCache().size());
+
+        jwtSecurityContextRepository.loadDeferredContext(request).get();
+        Assert.assertEquals(2, keyLookups.get());
+    }
+
+    @Test
+    public void loadContext_invalidJwt_notCached() throws JOSEException {
+        Mockito.doReturn(getJwt(getHeaderBuilder().build(),
+                getClaimsSetBuilder().build(), new MACSigner(TEST_OTHER_KEY)))
+                .when(serializedJwtSplitCookieRepository)
+                .loadSerializedJwt(request);
+
+        jwtSecurityContextRepository.loadDeferredContext(request).get();
+        SecurityContext securityContext = jwtSecurityContextRepository
+                .loadDeferredContext(request).get();
+
+        assertEmptySecurityContext(securityContext);
+        Assert.assertEquals(0,
+                jwtSecurityContextRepository.getVerifiedJwtCache().size());
+    }
+
     @Test
     public void containsContext_returnsFalse_when_noJwtInRepository() {
         Mockito.doReturn(false).when(serializedJwtSplitCookieRepository)
@@ -726,6 +783,17 @@ public class JwtSecurityContextRepositoryTest {
         return serializedJwt;
     }
 
+    private AtomicInteger countKeyLookups() {
+        AtomicInteger keyLookups = new AtomicInteger();
+        ImmutableSecret<com.nimbusds.jose.proc.SecurityContext> secret = new ImmutableSecret<>(
+                TEST_KEY);
+        jwtSecurityContextRepository.setJwkSource((jwkSelector, context) -> {
+            keyLookups.incrementAndGet();
+            return secret.get(jwkSelector, context);
+        });
+        return keyLookups;
+    }
+
     private String getJwt(JWSHeader header, JWTClaimsSet claimsSet)
             throws JOSEException {
         return getJwt(header, claimsSet, new MACSigner(TEST_KEY));
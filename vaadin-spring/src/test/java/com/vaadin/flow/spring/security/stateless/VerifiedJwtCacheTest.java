@@ -0,0 +1,105 @@
+package com.vaadin.flow.spring.security.stateless;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class VerifiedJwtCacheTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1000000);
+
+    @Test
+    public void get_notExpired_cachedJwtReturned() {
+        VerifiedJwtCache cache = createCache(10, NOW);
+        Jwt jwt = createJwt("a", NOW.plusSeconds(10));
+
+        cache.put("a", jwt, 100);
+
+        Assert.assertSame(jwt, cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals(0.5, cache.getHitRate(), 0);
+        Assert.assertEquals(100, cache.getAverageVerificationTime(), 0);
+    }
+
+    @Test
+    public void get_expired_nullReturnedAndJwtRemoved() {
+        TestClock clock = new TestClock();
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, clock);
+        cache.put("a", createJwt("a", NOW.plusSeconds(10)), 0);
+
+        clock.now = NOW.plusSeconds(9);
+        Assert.assertNotNull(cache.get("a"));
+
+        clock.now = NOW.plusSeconds(10);
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_withoutExpiration_notCached() {
+        VerifiedJwtCache cache = createCache(10, NOW);
+
+        cache.put("a", createJwt("a", null), 0);
+
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_maxSizeExceeded_leastRecentlyUsedRemoved() {
+        VerifiedJwtCache cache = createCache(2, NOW);
+        cache.put("a", createJwt("a", NOW.plusSeconds(10)), 0);
+        cache.put("b", createJwt("b", NOW.plusSeconds(10)), 0);
+        cache.get("a");
+
+        cache.put("c", createJwt("c", NOW.plusSeconds(10)), 0);
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNotNull(cache.get("a"));
+        Assert.assertNull(cache.get("b"));
+        Assert.assertNotNull(cache.get("c"));
+    }
+
+    @Test
+    public void remove_jwtNotReturned() {
+        VerifiedJwtCache cache = createCache(10, NOW);
+        cache.put("a", createJwt("a", NOW.plusSeconds(10)), 0);
+
+        cache.remove("a");
+
+        Assert.assertNull(cache.get("a"));
+    }
+
+    private static class TestClock extends Clock {
+
+        private Instant now = NOW;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static VerifiedJwtCache createCache(int maxSize, Instant now) {
+        return new VerifiedJwtCache(maxSize, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static Jwt createJwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token).header("alg", "HS256").subject("user")
+                .issuedAt(NOW.minusSeconds(10)).expiresAt(expiresAt).build();
+    }
+}